@@ -8,8 +8,8 @@ import java.util.List;  // For working with lists of objects
 /**
  * AdditionalFieldsHandler Class
  * 
- * This class handles the saving and loading of additional event fields that are not part
- * of the core event data. These additional fields include location, category, and priority.
+ * This class defines how the additional event fields that are not part of the core
+ * event data are stored. These additional fields include location, category, and priority.
  * 
  * Purpose:
  * - Separates additional event metadata from core event data
@@ -17,32 +17,37 @@ import java.util.List;  // For working with lists of objects
  * - Provides CSV file handling for the additional.csv file
  * 
  * File Format: eventId,location,category,priority
+ * 
+ * The file is written (writeAdditionalFields) by AtomicCSVSaver together with the
+ * other CSV files, and read by MappedCSVLoader in the same pass as them.
  */
 public class AdditionalFieldsHandler {
     
     // Constants
-    private static final String ADDITIONAL_CSV = "additional.csv";  // The CSV file name for storing additional fields
+    static final String ADDITIONAL_CSV = "additional.csv";  // The CSV file name for storing additional fields
     
     /**
-     * Save additional fields for all events to additional.csv
+     * Write the additional fields of all events to a given file
      * 
-     * This method writes all additional event fields (location, category, priority) to a CSV file.
-     * It creates a new file or overwrites the existing one.
+     * Used by AtomicCSVSaver to write a temporary copy that is later moved over
+     * additional.csv.
      * 
-     * @param manager The EventManager containing all events whose additional fields need to be saved
+     * @param events The events whose additional fields are saved
+     * @param target The file to write (created or overwritten)
+     * @throws IOException if the file cannot be written
      */
-    public static void saveAdditionalFields(EventManager manager) {
+    static void writeAdditionalFields(List<MainEvent> events, File target) throws IOException {
         // Try-with-resources statement - automatically closes the writer when done
         // BufferedWriter + OutputStreamWriter provides efficient writing with proper character encoding (UTF-8)
         try (BufferedWriter writer = new BufferedWriter(
-                new OutputStreamWriter(new FileOutputStream(ADDITIONAL_CSV), StandardCharsets.UTF_8))) {
+                new OutputStreamWriter(new FileOutputStream(target), StandardCharsets.UTF_8))) {
             
             // Write the CSV header row (column names)
             writer.write("eventId,location,category,priority");
             writer.newLine();  // Move to the next line
             
-            // Loop through all events in the manager and write their additional fields
-            for (MainEvent event : manager.getAllEvents()) {
+            // Loop through all events and write their additional fields
+            for (MainEvent event : events) {
                 // Get each additional field, using default values if null
                 String location = event.getLocation() != null ? event.getLocation() : "";  // Empty string if no location
                 String category = event.getCategory() != null ? event.getCategory() : "General";  // Default to "General"
@@ -56,63 +61,6 @@ public class AdditionalFieldsHandler {
                     escapeCsv(priority)));  // Priority with special characters escaped
                 writer.newLine();  // Move to next line for next event
             }
-            
-        } catch (IOException e) {
-            // If file writing fails, print error message to standard error stream
-            System.err.println("Error saving additional fields: " + e.getMessage());
-        }
-    }
-    
-    /**
-     * Load additional fields from additional.csv and apply to events
-     * 
-     * This method reads the additional.csv file and applies the stored location, category,
-     * and priority values to the corresponding events in the EventManager.
-     * If the file doesn't exist, it silently returns without error.
-     * 
-     * @param manager The EventManager whose events will receive the additional field values
-     */
-    public static void loadAdditionalFields(EventManager manager) {
-        // Create a File object to check if the CSV file exists
-        File file = new File(ADDITIONAL_CSV);
-        if (!file.exists()) {
-            // If the file doesn't exist yet, there's nothing to load - exit gracefully
-            return; // File doesn't exist yet, skip loading
-        }
-        
-        // Try-with-resources for automatic file closing after reading
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(new FileInputStream(file), StandardCharsets.UTF_8))) {
-            
-            String line = reader.readLine(); // Skip the first line (header row)
-            
-            // Read each subsequent line containing event data
-            while ((line = reader.readLine()) != null) {
-                // Parse the CSV line, handling quoted values and commas
-                String[] parts = parseCsvLine(line);
-                if (parts.length >= 4) {  // Ensure we have all required fields
-                    // Extract the data from the CSV columns
-                    int eventId = Integer.parseInt(parts[0]);  // Column 1: Event ID
-                    String location = parts[1];  // Column 2: Location
-                    String category = parts[2];  // Column 3: Category
-                    String priority = parts[3];  // Column 4: Priority
-                    
-                    // Find the matching event by ID and update its additional fields
-                    for (MainEvent event : manager.getAllEvents()) {
-                        if (event.getEventId() == eventId) {
-                            // Apply the loaded values to the event
-                            event.setLocation(location);
-                            event.setCategory(category);
-                            event.setPriority(priority);
-                            break;  // Found and updated the event, exit the inner loop
-                        }
-                    }
-                }
-            }
-            
-        } catch (IOException e) {
-            // Handle file reading errors
-            System.err.println("Error loading additional fields: " + e.getMessage());
         }
     }
     
@@ -135,47 +83,4 @@ public class AdditionalFieldsHandler {
         }
         return value;  // No special characters, return as-is
     }
-    
-    /**
-     * Parse a CSV line handling quoted values
-     * 
-     * This method correctly parses CSV lines that may contain:
-     * - Comma-separated values
-     * - Values wrapped in quotes
-     * - Escaped quotes (doubled quotes "")
-     * 
-     * @param line The CSV line to parse
-     * @return Array of parsed string values
-     */
-    private static String[] parseCsvLine(String line) {
-        // Create a list to store the parsed values
-        List<String> result = new java.util.ArrayList<>();
-        StringBuilder current = new StringBuilder();  // Builds the current field value
-        boolean inQuotes = false;  // Tracks whether we're inside quoted text
-        
-        // Process each character in the line
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);  // Get the current character
-            
-            if (c == '"') {  // Handle quote characters
-                // Check if this is an escaped quote (two quotes in a row)
-                if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
-                    current.append('"');  // Add a single quote to the result
-                    i++; // Skip the next quote (we've already processed it)
-                } else {
-                    // Toggle the inQuotes flag (entering or leaving quoted section)
-                    inQuotes = !inQuotes;
-                }
-            } else if (c == ',' && !inQuotes) {  // Comma outside quotes = field separator
-                result.add(current.toString());  // Add the completed field to results
-                current = new StringBuilder();  // Reset for the next field
-            } else {
-                current.append(c);  // Regular character - add to current field
-            }
-        }
-        result.add(current.toString());  // Add the last field
-        
-        // Convert the list to an array and return
-        return result.toArray(new String[0]);
-    }
 }
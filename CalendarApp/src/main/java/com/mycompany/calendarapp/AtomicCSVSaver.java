@@ -0,0 +1,270 @@
+package com.mycompany.calendarapp;
+
+import java.io.IOException;  // For file errors
+import java.io.InputStream;  // For reading files back to checksum them
+import java.io.OutputStream;  // For writing the manifest
+import java.nio.channels.FileChannel;  // For flushing files to disk
+import java.nio.file.AtomicMoveNotSupportedException;  // Thrown where atomic renames are unavailable
+import java.nio.file.Files;  // For moving and deleting files
+import java.nio.file.Path;  // For file locations
+import java.nio.file.StandardCopyOption;  // For ATOMIC_MOVE / REPLACE_EXISTING
+import java.nio.file.StandardOpenOption;  // For opening files to flush them
+import java.util.List;  // List interface
+import java.util.Properties;  // For the manifest's key=value layout
+import java.util.zip.CRC32;  // For file checksums
+
+/**
+ * AtomicCSVSaver Class
+ *
+ * Saves event.csv, recurrent.csv, additional.csv and reminder.csv as a single
+ * transaction, so a crash during a save can never lose the calendar or leave the
+ * files out of step with each other.
+ *
+ * Purpose:
+ * - Never truncate a CSV file before its replacement is safely on disk
+ * - Make all the files change together
+ * - Let the next load finish a save that was interrupted
+ *
+ * How It Works:
+ * 1. Each file is written to "<name>.tmp" and flushed to disk (fsync)
+ * 2. The manifest (save.manifest) is replaced with one saying generation N is
+ *    PENDING, listing the size and CRC-32 of every temporary file
+ * 3. Each temporary file is renamed over the real file with an atomic move
+ * 4. The manifest is replaced again, saying generation N is COMMITTED
+ *
+ * The manifest itself is always replaced by writing a temporary copy and renaming
+ * it, so it is never half written. Saves are serialized, so a background save and
+ * a save on the UI thread never share temporary files.
+ *
+ * Recovery (before loading):
+ * - No manifest, or a COMMITTED one: any leftover .tmp files are from a save that
+ *   crashed before step 2, so they are deleted and the old files are kept
+ * - A PENDING manifest: the save crashed during step 3. Every temporary file that
+ *   still exists is complete (it was flushed before the manifest was written), so
+ *   the remaining renames are finished and the generation is marked COMMITTED
+ */
+public class AtomicCSVSaver {
+
+    // Constants
+    private static final String PENDING = "PENDING";  // Files of this generation may not all be in place
+    private static final String COMMITTED = "COMMITTED";  // All files of this generation are in place
+
+    /**
+     * Save all events to the four CSV files as one transaction
+     *
+     * @param events The events to save
+     * @param eventFile Path of event.csv
+     * @param recurrentFile Path of recurrent.csv
+     * @param additionalFile Path of additional.csv
+     * @param reminderFile Path of reminder.csv
+     * @param manifestFile Path of the save manifest
+     * @return true if the save completed, false if it failed (the previous files are kept)
+     */
+    public static synchronized boolean save(List<MainEvent> events, Path eventFile, Path recurrentFile,
+                               Path additionalFile, Path reminderFile, Path manifestFile) {
+        Path[] targets = {eventFile, recurrentFile, additionalFile, reminderFile};
+        Path[] temps = new Path[targets.length];
+        for (int i = 0; i < targets.length; i++) {
+            temps[i] = tempOf(targets[i]);
+        }
+
+        long generation = readGeneration(manifestFile) + 1;
+        Properties manifest = new Properties();
+        manifest.setProperty("generation", String.valueOf(generation));
+
+        // Steps 1 and 2: write and flush the temporary files, then record them as pending
+        try {
+            CSVHandlerCompliant.writeEventCSV(events, temps[0].toFile());
+            CSVHandlerCompliant.writeRecurrentCSV(events, temps[1].toFile());
+            AdditionalFieldsHandler.writeAdditionalFields(events, temps[2].toFile());
+            ReminderCSVHandler.writeReminders(events, temps[3].toFile());
+            for (int i = 0; i < temps.length; i++) {
+                fsync(temps[i]);
+                String name = targets[i].getFileName().toString();
+                manifest.setProperty(name + ".size", String.valueOf(Files.size(temps[i])));
+                manifest.setProperty(name + ".crc", checksum(temps[i]));
+            }
+            manifest.setProperty("state", PENDING);
+            writeManifest(manifestFile, manifest);
+        } catch (IOException ex) {
+            System.out.println("Error saving events: " + ex.getMessage());
+            for (Path temp : temps) {
+                deleteQuietly(temp);
+            }
+            return false;
+        }
+
+        // Steps 3 and 4: swap the files in and mark the generation complete
+        try {
+            for (int i = 0; i < targets.length; i++) {
+                moveAtomically(temps[i], targets[i]);
+            }
+            fsyncDirectory(eventFile);
+            manifest.setProperty("state", COMMITTED);
+            writeManifest(manifestFile, manifest);
+            return true;
+        } catch (IOException ex) {
+            // The pending manifest lets the next load finish this save
+            System.out.println("Error saving events: " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Finish or discard a save that was interrupted
+     *
+     * @param eventFile Path of event.csv
+     * @param recurrentFile Path of recurrent.csv
+     * @param additionalFile Path of additional.csv
+     * @param reminderFile Path of reminder.csv
+     * @param manifestFile Path of the save manifest
+     */
+    public static synchronized void recover(Path eventFile, Path recurrentFile, Path additionalFile,
+                                            Path reminderFile, Path manifestFile) {
+        Path[] targets = {eventFile, recurrentFile, additionalFile, reminderFile};
+        Properties manifest = readManifest(manifestFile);
+
+        if (manifest == null || !PENDING.equals(manifest.getProperty("state"))) {
+            // Last save finished (or there never was one) - leftovers are from an abandoned save
+            for (Path target : targets) {
+                deleteQuietly(tempOf(target));
+            }
+            return;
+        }
+
+        String generation = manifest.getProperty("generation");
+        try {
+            for (Path target : targets) {
+                String name = target.getFileName().toString();
+                String size = manifest.getProperty(name + ".size");
+                String crc = manifest.getProperty(name + ".crc");
+                Path temp = tempOf(target);
+
+                if (Files.exists(temp) && matches(temp, size, crc)) {
+                    moveAtomically(temp, target);  // Rename that did not happen before the crash
+                } else if (!Files.exists(target) || !matches(target, size, crc)) {
+                    System.out.println("Could not recover " + name + " from save generation " + generation
+                            + "; keeping the file as it is");
+                    deleteQuietly(temp);
+                }
+            }
+            fsyncDirectory(eventFile);
+            manifest.setProperty("state", COMMITTED);
+            writeManifest(manifestFile, manifest);
+            System.out.println("Recovered interrupted save (generation " + generation + ")");
+        } catch (IOException ex) {
+            System.out.println("Error recovering interrupted save: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Get the generation number of the last save
+     *
+     * @param manifestFile Path of the save manifest
+     * @return The generation, or 0 if nothing has been saved yet
+     */
+    public static long readGeneration(Path manifestFile) {
+        Properties manifest = readManifest(manifestFile);
+        if (manifest == null) return 0;
+        try {
+            return Long.parseLong(manifest.getProperty("generation", "0"));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    // ---- Helpers ----
+
+    private static Path tempOf(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp");
+    }
+
+    /**
+     * Read the manifest, or return null if it is missing or unreadable
+     */
+    private static Properties readManifest(Path manifestFile) {
+        if (!Files.exists(manifestFile)) return null;
+        Properties manifest = new Properties();
+        try (InputStream in = Files.newInputStream(manifestFile)) {
+            manifest.load(in);
+            return manifest;
+        } catch (IOException | IllegalArgumentException ex) {
+            System.out.println("Error reading " + manifestFile + ": " + ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Replace the manifest in one step (temporary copy, flush, atomic rename)
+     */
+    private static void writeManifest(Path manifestFile, Properties manifest) throws IOException {
+        Path temp = tempOf(manifestFile);
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            manifest.store(out, "Calendar save manifest");
+        }
+        fsync(temp);
+        moveAtomically(temp, manifestFile);
+        fsyncDirectory(manifestFile);
+    }
+
+    /**
+     * Rename a file over another, atomically where the file system allows it
+     */
+    static void moveAtomically(Path from, Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException ex) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    static void fsync(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Flush a directory entry change (renames) to disk
+     *
+     * Not every platform allows opening a directory (Windows does not), so
+     * failures are ignored.
+     */
+    static void fsyncDirectory(Path fileInDirectory) {
+        Path dir = fileInDirectory.toAbsolutePath().getParent();
+        if (dir == null) return;
+        try (FileChannel channel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ex) {
+            // Best effort only
+        }
+    }
+
+    /**
+     * Check a file against the size and checksum recorded in the manifest
+     */
+    private static boolean matches(Path file, String size, String crc) throws IOException {
+        if (size == null || crc == null) return false;
+        return String.valueOf(Files.size(file)).equals(size) && checksum(file).equals(crc);
+    }
+
+    private static String checksum(Path file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[64 * 1024];
+        try (InputStream in = Files.newInputStream(file)) {
+            int n;
+            while ((n = in.read(buffer)) > 0) {
+                crc.update(buffer, 0, n);
+            }
+        }
+        return Long.toHexString(crc.getValue());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ex) {
+            // Nothing more can be done; the file is ignored on the next save
+        }
+    }
+}
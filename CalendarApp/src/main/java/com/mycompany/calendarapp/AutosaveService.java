@@ -0,0 +1,275 @@
+package com.mycompany.calendarapp;
+
+import java.util.List;  // List interface
+import java.util.concurrent.CompletableFuture;  // For waiting on a flush
+import java.util.concurrent.ExecutionException;  // Thrown when a flush fails
+import java.util.concurrent.Executor;  // Runs work on the thread that owns the events
+import java.util.concurrent.Executors;  // For creating the background thread
+import java.util.concurrent.ScheduledExecutorService;  // Background thread with timers
+import java.util.concurrent.ScheduledFuture;  // A pending timer
+import java.util.concurrent.TimeUnit;  // For timer delays
+import java.util.concurrent.atomic.AtomicInteger;  // Thread-safe change counter
+
+/**
+ * AutosaveService Class
+ *
+ * Saves the calendar to the CSV files in the background a short while after it
+ * changes, so edits are saved without the user asking and without the JavaFX
+ * application thread waiting for the disk.
+ *
+ * Purpose:
+ * - Mark the calendar dirty whenever EventManager reports a change
+ * - Coalesce a burst of edits into one save (debouncing)
+ * - Write the files on a background thread
+ * - Report how long the last save took and how many changes are still unsaved
+ *
+ * How It Works:
+ * 1. Each change increments the pending-dirty count and restarts a timer of
+ *    debounceMillis; a steady stream of edits is still saved at least every
+ *    maxDelayMillis
+ * 2. When the timer fires, a snapshot (copies of all events) is taken on the
+ *    thread that owns the EventManager - Platform::runLater in the GUI - so it is
+ *    never read half-way through an edit
+ * 3. The snapshot is written with CSVHandlerCompliant.saveEventsAtomic on the
+ *    background thread; snapshots are always written in the order they were taken
+ * 4. If a journal is attached, its records up to the snapshot are then discarded
+ *
+ * EventManager is not thread-safe, so every method except the getters must be
+ * called on the owner thread.
+ */
+public class AutosaveService implements EventChangeListener {
+
+    // Constants
+    public static final long DEFAULT_DEBOUNCE_MILLIS = 2000;  // Quiet time before saving
+
+    // Instance variables
+    private final EventManager manager;  // The events being saved
+    private final EventJournal journal;  // Journal to trim after each save (may be null)
+    private final Executor ownerThread;  // Runs tasks on the thread that edits the events
+    private final long debounceMillis;  // Wait this long after the last edit
+    private final long maxDelayMillis;  // But never longer than this after the first unsaved edit
+    private final ScheduledExecutorService worker;  // Background thread for timers and writes
+    private final AtomicInteger pendingDirty = new AtomicInteger();  // Changes not yet saved
+    private ScheduledFuture<?> timer;  // Pending save timer, if any
+    private long firstDirtyNanos = 0;  // When the oldest unsaved change happened (0 = none)
+    private volatile long lastSaveLatencyNanos = -1;  // Duration of the last save (-1 = none yet)
+    private volatile long lastSaveTimeMillis = 0;  // When the last save finished
+    private volatile boolean lastSaveSucceeded = true;
+
+    /**
+     * Constructor - Creates an autosave service and starts listening for changes
+     *
+     * @param manager The EventManager to save
+     * @param journal The journal to trim after each save, or null
+     * @param ownerThread Runs tasks on the thread that edits the events
+     *                    (Platform::runLater for the GUI)
+     * @param debounceMillis How long to wait after the last edit before saving
+     */
+    public AutosaveService(EventManager manager, EventJournal journal, Executor ownerThread, long debounceMillis) {
+        this.manager = manager;
+        this.journal = journal;
+        this.ownerThread = ownerThread;
+        this.debounceMillis = debounceMillis;
+        this.maxDelayMillis = debounceMillis * 5;
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "autosave");
+            thread.setDaemon(true);  // Do not keep the application alive
+            return thread;
+        });
+        if (journal != null) {
+            journal.setAutoCompact(false);  // Snapshots are saved here instead
+        }
+        manager.addChangeListener(this);
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        markDirty();
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        markDirty();
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        markDirty();
+    }
+
+    @Override
+    public void eventsCleared() {
+        markDirty();
+    }
+
+    /**
+     * Record an unsaved change and (re)start the save timer
+     *
+     * Call this directly after changes EventManager cannot see, such as
+     * setting a reminder.
+     */
+    public void markDirty() {
+        pendingDirty.incrementAndGet();
+        scheduleSave();
+    }
+
+    /**
+     * Save straight away and wait for the save to finish
+     *
+     * Used for "Save & Exit". Must be called on the owner thread.
+     *
+     * @return true if the save succeeded
+     */
+    public boolean flush() {
+        try {
+            return flushAsync().get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            System.out.println("Error saving events: " + ex.getCause());
+            return false;
+        }
+    }
+
+    /**
+     * Take a snapshot now and save it in the background without waiting
+     *
+     * Must be called on the owner thread. The returned future completes once the
+     * snapshot is on disk, so other background work (such as a backup) can wait for it.
+     *
+     * @return Completes with true if the save succeeded
+     */
+    public CompletableFuture<Boolean> flushAsync() {
+        synchronized (this) {
+            if (timer != null) {
+                timer.cancel(false);
+                timer = null;
+            }
+            firstDirtyNanos = 0;
+        }
+        return submitSnapshot();
+    }
+
+    /**
+     * Stop listening for changes and stop the background thread
+     *
+     * Call flush() first if unsaved changes should be written.
+     */
+    public void shutdown() {
+        manager.removeChangeListener(this);
+        worker.shutdown();
+        try {
+            worker.awaitTermination(10, TimeUnit.SECONDS);  // Let a running save finish
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Get how long the last save took
+     *
+     * @return Milliseconds, or -1 if nothing has been saved yet
+     */
+    public double getLastSaveLatencyMillis() {
+        long nanos = lastSaveLatencyNanos;
+        return nanos < 0 ? -1 : nanos / 1_000_000.0;
+    }
+
+    /**
+     * Get the number of changes not yet written to disk
+     *
+     * @return Pending change count
+     */
+    public int getPendingDirtyCount() {
+        return pendingDirty.get();
+    }
+
+    /**
+     * Get when the last save finished
+     *
+     * @return Milliseconds since 1970, or 0 if nothing has been saved yet
+     */
+    public long getLastSaveTimeMillis() {
+        return lastSaveTimeMillis;
+    }
+
+    /**
+     * Check whether the last save worked
+     *
+     * @return false if the last save failed (it is retried after the debounce delay)
+     */
+    public boolean isLastSaveSucceeded() {
+        return lastSaveSucceeded;
+    }
+
+    // ---- Scheduling ----
+
+    /**
+     * Start or restart the debounce timer
+     */
+    private synchronized void scheduleSave() {
+        if (worker.isShutdown()) return;
+        long now = System.nanoTime();
+        if (firstDirtyNanos == 0) firstDirtyNanos = now;
+        if (timer != null) timer.cancel(false);
+
+        long waitedMillis = (now - firstDirtyNanos) / 1_000_000;
+        long delay = Math.max(0, Math.min(debounceMillis, maxDelayMillis - waitedMillis));
+        timer = worker.schedule(this::timerFired, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Runs on the background thread when the debounce delay has passed
+     */
+    private void timerFired() {
+        synchronized (this) {
+            timer = null;
+            firstDirtyNanos = 0;
+        }
+        ownerThread.execute(this::submitSnapshot);  // The snapshot must be taken on the owner thread
+    }
+
+    /**
+     * Take a snapshot (on the owner thread) and queue it for writing
+     *
+     * Snapshots are queued on the single background thread in the order they
+     * were taken, so an older snapshot never overwrites a newer one.
+     */
+    private CompletableFuture<Boolean> submitSnapshot() {
+        int dirtyCount = pendingDirty.get();
+        List<MainEvent> snapshot = manager.snapshotEvents();
+        long checkpoint = journal != null ? journal.checkpoint() : 0;
+
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        try {
+            worker.execute(() -> result.complete(write(snapshot, dirtyCount, checkpoint)));
+        } catch (RuntimeException ex) {
+            result.completeExceptionally(ex);  // Already shut down
+        }
+        return result;
+    }
+
+    /**
+     * Write a snapshot to disk (background thread)
+     */
+    private boolean write(List<MainEvent> snapshot, int dirtyCount, long checkpoint) {
+        long start = System.nanoTime();
+        boolean saved = CSVHandlerCompliant.saveEventsAtomic(snapshot);
+        lastSaveLatencyNanos = System.nanoTime() - start;
+        lastSaveSucceeded = saved;
+
+        if (saved) {
+            lastSaveTimeMillis = System.currentTimeMillis();
+            pendingDirty.addAndGet(-dirtyCount);
+            if (journal != null) {
+                journal.discardUpTo(checkpoint);  // The CSV files now hold these changes
+            }
+        } else {
+            scheduleSave();  // Try again later
+        }
+        return saved;
+    }
+}
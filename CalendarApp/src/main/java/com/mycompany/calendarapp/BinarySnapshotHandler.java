@@ -0,0 +1,407 @@
+package com.mycompany.calendarapp;
+
+import java.io.BufferedOutputStream;  // For buffered writing
+import java.io.DataOutputStream;  // For writing ints, longs and bytes
+import java.io.FileOutputStream;  // For opening the output file
+import java.io.IOException;  // For file errors
+import java.nio.BufferUnderflowException;  // Thrown when a snapshot is cut short
+import java.nio.ByteBuffer;  // For reading the snapshot
+import java.nio.charset.StandardCharsets;  // For UTF-8 text
+import java.nio.file.Files;  // For file checks
+import java.nio.file.Path;  // For file locations
+import java.nio.file.Paths;  // For building file paths
+import java.time.DateTimeException;  // Thrown for out-of-range dates
+import java.time.LocalDate;  // For recurrence end dates
+import java.util.ArrayList;  // For dictionaries and recurring rows
+import java.util.HashMap;  // For dictionary lookups while saving
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+
+/**
+ * BinarySnapshotHandler Class
+ *
+ * Saves and loads all events as one compact binary file (events.bin) next to the
+ * CSV files. CSVHandlerCompliant saves and loads it instead of the CSV files
+ * when the binary storage format is selected (-Dcalendar.storage=binary). The
+ * CSV files remain the format for backups and for exchanging data:
+ * convertCsvToBinary and convertBinaryToCsv move data between the two.
+ *
+ * Purpose:
+ * - Avoid parsing date text and un-escaping strings when loading
+ * - Keep the file small when many events share a location, category or priority
+ *
+ * How It Works:
+ * - The file is columnar: all IDs, then all start times, then all end times, and so on
+ * - Date-times are stored as epoch seconds (UTC, no time zone shift), as MainEvent
+ *   keeps them
+ * - Location, category, priority and recurrence type are dictionary-encoded: each
+ *   distinct value is stored once and events store its index
+ * - Titles and descriptions are a column of byte lengths followed by the UTF-8 bytes
+ * - Recurrence settings are stored only for the recurring events, by row number
+ * - Loading reads the whole file with a single FileChannel read (or maps it when large)
+ *
+ * File Layout (big-endian):
+ *   int magic "CALB", int version, int count, int nextEventId, byte flags
+ *   int[count] eventId
+ *   long[count] start seconds, long[count] end seconds
+ *   location, category, priority: dictionary + int[count] codes
+ *   title, description: int[count] lengths (-1 = null) + bytes
+ *   int r, int[r] row, recurrence type dictionary + int[r] codes, int[r] interval,
+ *   int[r] occurrences, long[r] end epoch day (NO_END_DATE = none)
+ *   (if flags has HAS_REMINDERS) int m, int[m] row, int[m] minutes before,
+ *   overrides: int[m] lengths + bytes (ReminderCSVHandler text, -1 = none)
+ */
+public class BinarySnapshotHandler {
+
+    // Constants
+    public static final String SNAPSHOT_FILE = "events.bin";  // Default snapshot location
+    private static final int MAGIC = 0x43414C42;  // "CALB"
+    private static final int VERSION = 1;  // File layout version
+    private static final int HAS_REMINDERS = 1;  // Flag: reminder section is present
+    private static final long NO_END_DATE = Long.MIN_VALUE;  // Marks a recurrence without an end date
+
+    /**
+     * Save all events to the default snapshot file
+     *
+     * @param manager The EventManager containing all events to save
+     * @return true if the snapshot was written
+     */
+    public static boolean saveEvents(EventManager manager) {
+        return save(manager, Paths.get(SNAPSHOT_FILE));
+    }
+
+    /**
+     * Load all events from the default snapshot file
+     *
+     * @param manager The EventManager to add loaded events to
+     * @return true if the snapshot was read (or there is none)
+     */
+    public static boolean loadEvents(EventManager manager) {
+        return load(manager, Paths.get(SNAPSHOT_FILE));
+    }
+
+    /**
+     * Convert the CSV files into the default snapshot file
+     *
+     * @return true if the snapshot was written
+     */
+    public static boolean convertCsvToBinary() {
+        EventManager manager = new EventManager();
+        CSVHandlerCompliant.loadEventsFromCsv(manager);
+        return saveEvents(manager);
+    }
+
+    /**
+     * Convert the default snapshot file back into the CSV files
+     *
+     * @return true if the CSV files were written
+     */
+    public static boolean convertBinaryToCsv() {
+        EventManager manager = new EventManager();
+        return loadEvents(manager) && CSVHandlerCompliant.saveEventsToCsv(manager);
+    }
+
+    /**
+     * Command-line converter
+     *
+     * Usage: BinarySnapshotHandler to-binary | to-csv
+     */
+    public static void main(String[] args) {
+        if (args.length == 1 && args[0].equals("to-binary")) {
+            System.out.println(convertCsvToBinary() ? "Wrote " + SNAPSHOT_FILE : "Conversion failed");
+        } else if (args.length == 1 && args[0].equals("to-csv")) {
+            System.out.println(convertBinaryToCsv() ? "Wrote CSV files" : "Conversion failed");
+        } else {
+            System.out.println("Usage: BinarySnapshotHandler to-binary | to-csv");
+        }
+    }
+
+    /**
+     * Save all events to a snapshot file
+     *
+     * The snapshot is written to a temporary file and renamed into place, so a
+     * failed save leaves the previous snapshot untouched.
+     *
+     * @param manager The EventManager containing all events to save
+     * @param file Where to write the snapshot
+     * @return true if the snapshot was written
+     */
+    public static boolean save(EventManager manager, Path file) {
+        return save(manager.getAllEvents(), manager.getNextEventId(), file);
+    }
+
+    /**
+     * Save a list of events to a snapshot file
+     *
+     * Used to save a copy taken with EventManager.snapshotEvents, which can be
+     * written from a background thread.
+     *
+     * @param events The events to save
+     * @param nextEventId The ID counter to restore on loading
+     * @param file Where to write the snapshot
+     * @return true if the snapshot was written
+     */
+    public static boolean save(List<MainEvent> events, int nextEventId, Path file) {
+        int count = events.size();
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new FileOutputStream(temp.toFile()), 64 * 1024))) {
+            List<Integer> reminderRows = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                if (events.get(i).getReminder() != null) reminderRows.add(i);
+            }
+
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(count);
+            out.writeInt(nextEventId);
+            out.writeByte(reminderRows.isEmpty() ? 0 : HAS_REMINDERS);
+
+            for (MainEvent e : events) out.writeInt(e.getEventId());
+            for (MainEvent e : events) out.writeLong(e.getStartEpochSecond());
+            for (MainEvent e : events) out.writeLong(e.getEndEpochSecond());
+
+            List<String> locations = new ArrayList<>();
+            List<String> categories = new ArrayList<>();
+            List<String> priorities = new ArrayList<>();
+            for (MainEvent e : events) locations.add(e.getLocation());
+            for (MainEvent e : events) categories.add(e.getCategory());
+            for (MainEvent e : events) priorities.add(e.getPriority());
+            writeDictionaryColumn(out, locations);
+            writeDictionaryColumn(out, categories);
+            writeDictionaryColumn(out, priorities);
+
+            List<String> titles = new ArrayList<>();
+            List<String> descriptions = new ArrayList<>();
+            for (MainEvent e : events) titles.add(e.getTitle());
+            for (MainEvent e : events) descriptions.add(e.getDescription());
+            writeStringColumn(out, titles);
+            writeStringColumn(out, descriptions);
+
+            // Recurrence settings, only for recurring rows
+            List<Integer> rows = new ArrayList<>();
+            List<String> types = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                if (events.get(i) instanceof RecurringEvent) {
+                    rows.add(i);
+                    types.add(((RecurringEvent) events.get(i)).getRecurrenceType());
+                }
+            }
+            out.writeInt(rows.size());
+            for (int row : rows) out.writeInt(row);
+            writeDictionaryColumn(out, types);
+            for (int row : rows) out.writeInt(((RecurringEvent) events.get(row)).getInterval());
+            for (int row : rows) out.writeInt(((RecurringEvent) events.get(row)).getOccurrences());
+            for (int row : rows) {
+                LocalDate end = ((RecurringEvent) events.get(row)).getRecurrenceEndDate();
+                out.writeLong(end != null ? end.toEpochDay() : NO_END_DATE);
+            }
+
+            // Reminders, only for rows that have one
+            if (!reminderRows.isEmpty()) {
+                out.writeInt(reminderRows.size());
+                for (int row : reminderRows) out.writeInt(row);
+                for (int row : reminderRows) out.writeInt(events.get(row).getReminder().getMinutesBefore());
+                List<String> overrides = new ArrayList<>();
+                for (int row : reminderRows) {
+                    String text = ReminderCSVHandler.formatOverrides(events.get(row).getReminder());
+                    overrides.add(text.isEmpty() ? null : text);
+                }
+                writeStringColumn(out, overrides);
+            }
+        } catch (IOException ex) {
+            System.out.println("Error saving " + file + ": " + ex.getMessage());
+            return false;
+        }
+
+        try {
+            AtomicCSVSaver.fsync(temp);
+            AtomicCSVSaver.moveAtomically(temp, file);
+            AtomicCSVSaver.fsyncDirectory(file);
+            return true;
+        } catch (IOException ex) {
+            System.out.println("Error saving " + file + ": " + ex.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Load all events from a snapshot file
+     *
+     * Events are added in the order they were saved, and the manager's next ID is
+     * restored. A missing file is treated as an empty calendar. Nothing is added
+     * unless the whole file could be read.
+     *
+     * @param manager The EventManager to add loaded events to
+     * @param file The snapshot to read
+     * @return true if the snapshot was read (or there is none), false if it is unreadable
+     */
+    public static boolean load(EventManager manager, Path file) {
+        if (!Files.exists(file)) return true;
+        try {
+            ByteBuffer in = MappedCSVLoader.readAll(file);
+            if (in.remaining() < 17 || in.getInt() != MAGIC) {
+                throw new IOException("not an event snapshot");
+            }
+            int version = in.getInt();
+            if (version != VERSION) {
+                throw new IOException("unsupported snapshot version " + version);
+            }
+            int count = in.getInt();
+            int nextEventId = in.getInt();
+            int flags = in.get();
+            if (count < 0 || count > in.remaining() / 4) {
+                throw new IOException("corrupt event count " + count);
+            }
+
+            int[] ids = readInts(in, count);
+            long[] starts = readLongs(in, count);
+            long[] ends = readLongs(in, count);
+            String[] locations = readDictionaryColumn(in, count);
+            String[] categories = readDictionaryColumn(in, count);
+            String[] priorities = readDictionaryColumn(in, count);
+            String[] titles = readStringColumn(in, count);
+            String[] descriptions = readStringColumn(in, count);
+
+            int recurringCount = in.getInt();
+            if (recurringCount < 0 || recurringCount > count) {
+                throw new IOException("corrupt recurring event count " + recurringCount);
+            }
+            int[] rows = readInts(in, recurringCount);
+            String[] types = readDictionaryColumn(in, recurringCount);
+            int[] intervals = readInts(in, recurringCount);
+            int[] occurrences = readInts(in, recurringCount);
+            long[] endDays = readLongs(in, recurringCount);
+
+            // Build the events (recurring rows first replace their slot)
+            MainEvent[] events = new MainEvent[count];
+            for (int r = 0; r < recurringCount; r++) {
+                int i = rows[r];
+                if (i < 0 || i >= count) throw new IOException("corrupt recurring row " + i);
+                RecurringEvent re = new RecurringEvent(ids[i], titles[i], descriptions[i],
+                        MainEvent.fromEpochSecond(starts[i]), MainEvent.fromEpochSecond(ends[i]),
+                        types[r], intervals[r], occurrences[r]);
+                re.setInterval(intervals[r]);  // Keep the stored value exactly (the constructor clamps it)
+                re.setRecurrenceEndDate(endDays[r] != NO_END_DATE ? LocalDate.ofEpochDay(endDays[r]) : null);
+                events[i] = re;
+            }
+            for (int i = 0; i < count; i++) {
+                if (events[i] == null) {
+                    events[i] = new MainEvent(ids[i], titles[i], descriptions[i],
+                            MainEvent.fromEpochSecond(starts[i]), MainEvent.fromEpochSecond(ends[i]));
+                }
+                events[i].setLocation(locations[i]);
+                events[i].setCategory(categories[i]);
+                events[i].setPriority(priorities[i]);
+            }
+
+            if ((flags & HAS_REMINDERS) != 0) {
+                int reminderCount = in.getInt();
+                if (reminderCount < 0 || reminderCount > count) {
+                    throw new IOException("corrupt reminder count " + reminderCount);
+                }
+                int[] reminderRows = readInts(in, reminderCount);
+                int[] minutes = readInts(in, reminderCount);
+                String[] overrides = readStringColumn(in, reminderCount);
+                for (int r = 0; r < reminderCount; r++) {
+                    int i = reminderRows[r];
+                    if (i < 0 || i >= count) throw new IOException("corrupt reminder row " + i);
+                    Reminder reminder = new Reminder(minutes[r]);
+                    ReminderCSVHandler.parseOverrides(reminder, overrides[r]);
+                    events[i].setReminder(reminder);
+                }
+            }
+
+            for (MainEvent event : events) {
+                manager.addEvent(event);
+            }
+            manager.setNextEventId(nextEventId);
+            return true;
+        } catch (IOException | BufferUnderflowException | IllegalArgumentException | DateTimeException ex) {
+            System.out.println("Error loading " + file + ": " + ex.getMessage());
+            return false;
+        }
+    }
+
+    // ---- Column helpers ----
+
+    /**
+     * Write distinct values once, then one dictionary index per row
+     */
+    private static void writeDictionaryColumn(DataOutputStream out, List<String> values) throws IOException {
+        Map<String, Integer> codes = new HashMap<>();
+        List<String> dictionary = new ArrayList<>();
+        int[] column = new int[values.size()];
+        for (int i = 0; i < column.length; i++) {
+            String value = values.get(i);
+            Integer code = codes.get(value);
+            if (code == null) {
+                code = dictionary.size();
+                codes.put(value, code);
+                dictionary.add(value);
+            }
+            column[i] = code;
+        }
+        out.writeInt(dictionary.size());
+        writeStringColumn(out, dictionary);
+        for (int code : column) out.writeInt(code);
+    }
+
+    private static String[] readDictionaryColumn(ByteBuffer in, int count) throws IOException {
+        int size = in.getInt();
+        if (size < 0 || size > in.remaining()) throw new IOException("corrupt dictionary size " + size);
+        String[] dictionary = readStringColumn(in, size);
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            int code = in.getInt();
+            if (code < 0 || code >= size) throw new IOException("corrupt dictionary code " + code);
+            values[i] = dictionary[code];
+        }
+        return values;
+    }
+
+    /**
+     * Write a column of strings: all byte lengths, then all UTF-8 bytes
+     */
+    private static void writeStringColumn(DataOutputStream out, List<String> values) throws IOException {
+        byte[][] encoded = new byte[values.size()][];
+        for (int i = 0; i < encoded.length; i++) {
+            String value = values.get(i);
+            encoded[i] = value != null ? value.getBytes(StandardCharsets.UTF_8) : null;
+        }
+        for (byte[] bytes : encoded) out.writeInt(bytes != null ? bytes.length : -1);
+        for (byte[] bytes : encoded) {
+            if (bytes != null) out.write(bytes);
+        }
+    }
+
+    private static String[] readStringColumn(ByteBuffer in, int count) throws IOException {
+        int[] lengths = readInts(in, count);
+        String[] values = new String[count];
+        byte[] scratch = new byte[256];
+        for (int i = 0; i < count; i++) {
+            int length = lengths[i];
+            if (length < 0) continue;  // null
+            if (length > in.remaining()) throw new IOException("corrupt string length " + length);
+            if (length > scratch.length) scratch = new byte[Math.max(length, scratch.length * 2)];
+            in.get(scratch, 0, length);
+            values[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+        return values;
+    }
+
+    private static int[] readInts(ByteBuffer in, int count) {
+        int[] values = new int[count];
+        in.asIntBuffer().get(values);
+        in.position(in.position() + count * 4);
+        return values;
+    }
+
+    private static long[] readLongs(ByteBuffer in, int count) {
+        long[] values = new long[count];
+        in.asLongBuffer().get(values);
+        in.position(in.position() + count * 8);
+        return values;
+    }
+}
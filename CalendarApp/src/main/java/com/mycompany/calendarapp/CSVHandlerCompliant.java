@@ -1,12 +1,13 @@
 package com.mycompany.calendarapp;
 
 import java.io.*;  // For file input/output
+import java.nio.charset.StandardCharsets;  // For UTF-8 character encoding
+import java.nio.file.Files;  // For checking the snapshot exists
+import java.nio.file.Path;  // For file locations
+import java.nio.file.Paths;  // For building file paths
 import java.time.LocalDate;  // For date handling
-import java.time.LocalDateTime;  // For date and time handling
 import java.time.format.DateTimeFormatter;  // For parsing/formatting dates
-import java.time.temporal.ChronoUnit;  // For date calculations
-import java.util.HashMap;  // For hash maps
-import java.util.Map;  // For map interface
+import java.util.List;  // List interface
 
 /**
  * CSVHandlerCompliant Class
@@ -16,43 +17,155 @@ import java.util.Map;  // For map interface
  * - event.csv: Core event data (eventId, title, description, startDateTime, endDateTime)
  * - recurrent.csv: Recurrence data (eventId, recurrentInterval, recurrentTimes, recurrentEndDate)
  * - additional.csv: Extra fields (eventId, location, category, priority)
+ * - reminder.csv: Reminders (eventId, minutesBefore, overrides)
  * 
  * Purpose:
  * - Separate concerns by splitting data into multiple CSV files
  * - Match the exact CSV format specified in the assignment
- * - Coordinate with AdditionalFieldsHandler for complete data persistence
+ * - Coordinate with AdditionalFieldsHandler and ReminderCSVHandler for complete data persistence
  * 
  * How It Works:
  * 1. When saving: Splits each event's data across multiple CSV files
  * 2. When loading: Reads all CSV files and reconstructs complete events
- * 3. Uses HashMap to efficiently link related data across files
+ *    (first finishing any save that was interrupted)
+ * 3. Links related data across files by eventId
+ * 
+ * The CSV files are the default storage format. Starting the app with
+ * -Dcalendar.storage=binary (or calling setStorageFormat) saves and loads the
+ * binary snapshot events.bin (BinarySnapshotHandler) instead; only one of the
+ * two formats is written by a save.
  * 
  * This is the ACTIVE CSV handler used by the application.
  */
 public class CSVHandlerCompliant {
 
     // Constants for file names
-    private static final String EVENT_FILE = "event.csv";  // Core event data
-    private static final String RECURRENT_FILE = "recurrent.csv";  // Recurrence data
+    static final String EVENT_FILE = "event.csv";  // Core event data
+    static final String RECURRENT_FILE = "recurrent.csv";  // Recurrence data
+    static final String MANIFEST_FILE = "save.manifest";  // Generation number of the last save
+    static final String STORAGE_PROPERTY = "calendar.storage";  // -Dcalendar.storage=binary selects the snapshot
     // ISO format: "2025-12-31T14:30:00" (includes T separator)
     private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    /**
+     * Where saveEvents and loadEvents keep the events
+     */
+    public enum StorageFormat {
+        CSV,  // event.csv, recurrent.csv, additional.csv and reminder.csv
+        BINARY  // events.bin
+    }
+
+    private static volatile StorageFormat storageFormat =
+        "binary".equalsIgnoreCase(System.getProperty(STORAGE_PROPERTY)) ? StorageFormat.BINARY : StorageFormat.CSV;
+
+    /**
+     * Get the format saves and loads use
+     *
+     * @return CSV unless the binary snapshot was selected
+     */
+    public static StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    /**
+     * Choose the format saves and loads use
+     *
+     * @param format CSV or BINARY
+     */
+    public static void setStorageFormat(StorageFormat format) {
+        storageFormat = format;
+    }
+
     /**
      * Save all events to CSV files
      * 
      * This is the main public method for saving. It coordinates the saving
      * process across multiple CSV files.
      * 
+     * The save is transactional (see saveEventsAtomic), so a crash part-way
+     * through never leaves the three files out of step with each other.
+     * 
      * @param manager The EventManager containing all events to save
      */
     public static void saveEvents(EventManager manager) {
-        saveEventCSV(manager);  // Save core event data to event.csv
-        saveRecurrentCSV(manager);  // Save recurrence data to recurrent.csv
-        AdditionalFieldsHandler.saveAdditionalFields(manager);  // Save additional fields to additional.csv
+        saveEventsAtomic(manager);
+    }
+
+    /**
+     * Save all events to CSV files as one transaction
+     * 
+     * All three files are first written to temporary files and flushed to disk,
+     * then moved over the real files. save.manifest records the save's generation
+     * number so loadEvents can finish a save that was interrupted.
+     * 
+     * When the binary format is selected, events.bin is written (also through a
+     * temporary file) and the CSV files are left alone.
+     * 
+     * @param manager The EventManager containing all events to save
+     * @return true if the save completed
+     */
+    public static boolean saveEventsAtomic(EventManager manager) {
+        return saveAll(manager.getAllEvents(), manager.getNextEventId());
+    }
+
+    /**
+     * Save a list of events to CSV files as one transaction
+     * 
+     * Used to save a snapshot taken with EventManager.snapshotEvents, which
+     * can be written from a background thread.
+     * 
+     * @param events The events to save
+     * @return true if the save completed
+     */
+    public static boolean saveEventsAtomic(List<MainEvent> events) {
+        int maxId = 0;
+        for (MainEvent e : events) {
+            maxId = Math.max(maxId, e.getEventId());
+        }
+        return saveAll(events, maxId + 1);  // The ID counter loading the CSV files would give
+    }
+
+    /**
+     * Save all events to the CSV files, whichever storage format is selected
+     * 
+     * Used to convert a binary snapshot back into the CSV files.
+     * 
+     * @param manager The EventManager containing all events to save
+     * @return true if the save completed
+     */
+    static synchronized boolean saveEventsToCsv(EventManager manager) {
+        return AtomicCSVSaver.save(manager.getAllEvents(),
+            Paths.get(EVENT_FILE),
+            Paths.get(RECURRENT_FILE),
+            Paths.get(AdditionalFieldsHandler.ADDITIONAL_CSV),
+            Paths.get(ReminderCSVHandler.REMINDER_CSV),
+            Paths.get(MANIFEST_FILE));
+    }
+
+    /**
+     * Save the events in the selected storage format
+     * 
+     * Synchronized so that two saves (e.g. an autosave and the final save) never
+     * write the same files at once.
+     * 
+     * @param events The events to save
+     * @param nextEventId The ID counter to store in a binary snapshot
+     * @return true if the save completed
+     */
+    private static synchronized boolean saveAll(List<MainEvent> events, int nextEventId) {
+        if (storageFormat == StorageFormat.BINARY) {
+            return BinarySnapshotHandler.save(events, nextEventId, Paths.get(BinarySnapshotHandler.SNAPSHOT_FILE));
+        }
+        return AtomicCSVSaver.save(events,
+            Paths.get(EVENT_FILE),
+            Paths.get(RECURRENT_FILE),
+            Paths.get(AdditionalFieldsHandler.ADDITIONAL_CSV),
+            Paths.get(ReminderCSVHandler.REMINDER_CSV),
+            Paths.get(MANIFEST_FILE));
     }
 
     /**
-     * Save core event data to event.csv
+     * Write core event data in event.csv format
      * 
      * Saves ALL events (both normal and recurring) with their first occurrence data.
      * For recurring events, only the first occurrence is saved here; the recurrence
@@ -60,15 +173,18 @@ public class CSVHandlerCompliant {
      * 
      * Format: eventId, title, description, startDateTime, endDateTime
      * 
-     * @param manager The EventManager containing events to save
+     * @param events The events to save
+     * @param target The file to write
+     * @throws IOException if the file cannot be written
      */
-    private static void saveEventCSV(EventManager manager) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(EVENT_FILE))) {
+    static void writeEventCSV(List<MainEvent> events, File target) throws IOException {
+        try (PrintWriter pw = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(target), StandardCharsets.UTF_8)))) {
             // Write header row
             pw.println("eventId,title,description,startDateTime,endDateTime");
             
             // Write each event
-            for (MainEvent e : manager.getAllEvents()) {
+            for (MainEvent e : events) {
                 // Save all events (including recurring) with their first occurrence times
                 pw.println(e.getEventId() + "," + 
                           escapeCsvValue(e.getTitle()) + "," +  // Escape special chars in title
@@ -76,49 +192,36 @@ public class CSVHandlerCompliant {
                           e.getStartDateTime().format(formatter) + "," + 
                           e.getEndDateTime().format(formatter));
             }
-        } catch (IOException ex) {
-            System.out.println("Error saving event.csv: " + ex.getMessage());
+            if (pw.checkError()) throw new IOException("Could not write " + target);
         }
     }
 
     /**
-     * Save recurring event data to recurrent.csv
+     * Write recurring event data in recurrent.csv format
      * 
      * Only saves data for events that are instances of RecurringEvent.
      * Normal events are not included in this file.
      * 
      * Format: eventId, recurrentInterval, recurrentTimes, recurrentEndDate
      * 
-     * @param manager The EventManager containing events
+     * @param events The events to save
+     * @param target The file to write
+     * @throws IOException if the file cannot be written
      */
-    private static void saveRecurrentCSV(EventManager manager) {
-        try (PrintWriter pw = new PrintWriter(new FileWriter(RECURRENT_FILE))) {
+    static void writeRecurrentCSV(List<MainEvent> events, File target) throws IOException {
+        try (PrintWriter pw = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(target), StandardCharsets.UTF_8)))) {
             // Write header row
             pw.println("eventId,recurrentInterval,recurrentTimes,recurrentEndDate");
             
             // Loop through all events and filter for recurring ones
-            for (MainEvent e : manager.getAllEvents()) {
+            for (MainEvent e : events) {
                 if (e instanceof RecurringEvent) {  // Only process recurring events
-                    RecurringEvent re = (RecurringEvent) e;  // Cast to RecurringEvent
-                    
-                    // Build recurrence interval string (e.g., "1d", "2w", "3m")
-                    int intervalNum = re.getInterval();
-                    String unitChar = recurrenceTypeToUnitChar(re.getRecurrenceType());
-                    String interval = intervalNum + unitChar;
-                    int times = re.getOccurrences();  // How many times it repeats
-                    String endDate = "0";  // Default to "0" when not using end date
-                    
-                    // If occurrences not set, but an end date is provided, write the end date instead
-                    if (times <= 0 && re.getRecurrenceEndDate() != null) {
-                        endDate = re.getRecurrenceEndDate().toString(); // ISO_LOCAL_DATE format
-                    }
-                    
                     // Write CSV line
-                    pw.println(e.getEventId() + "," + interval + "," + times + "," + endDate);
+                    pw.println(toRecurrentData((RecurringEvent) e).toCSVLine());
                 }
             }
-        } catch (IOException ex) {
-            System.out.println("Error saving recurrent.csv: " + ex.getMessage());
+            if (pw.checkError()) throw new IOException("Could not write " + target);
         }
     }
 
@@ -129,159 +232,194 @@ public class CSVHandlerCompliant {
      * data from multiple CSV files and reconstructs complete events.
      * 
      * Process:
-     * 1. Load basic events from event.csv
-     * 2. Load recurrence data from recurrent.csv
-     * 3. Merge the data to create complete RecurringEvent objects
-     * 4. Load additional fields from additional.csv
+     * 1. If the binary format is selected and events.bin exists, load it and
+     *    stop here (see BinarySnapshotHandler)
+     * 2. Finish any save that save.manifest shows was interrupted
+     * 3. Load basic events from event.csv
+     * 4. Load recurrence data from recurrent.csv
+     * 5. Merge the data to create complete RecurringEvent objects
+     * 6. Attach reminders from reminder.csv
+     * 7. Load additional fields from additional.csv
+     * 
+     * The files are read by MappedCSVLoader, which tokenizes the raw bytes
+     * instead of going line by line through a Reader.
      * 
      * @param manager The EventManager to add loaded events to
      */
     public static void loadEvents(EventManager manager) {
-        // First load basic events from event.csv
-        Map<Integer, MainEvent> basicEvents = loadEventCSV();
-        
-        // Then load recurrent data and link to events
-        Map<Integer, RecurrentEventData> recurrentData = loadRecurrentCSV();
-        
-        // Merge events with recurrent data
-        int maxId = 0;
-        for (Map.Entry<Integer, MainEvent> entry : basicEvents.entrySet()) {
-            int eventId = entry.getKey();
-            MainEvent event = entry.getValue();
-            
-            if (recurrentData.containsKey(eventId)) {
-                // This is a recurring event
-                RecurrentEventData rd = recurrentData.get(eventId);
-                String rawInterval = rd.getRecurrentInterval(); // e.g., "2w" or "1d"
-                int interval = 1;
-                // Parse the numeric part of the interval
-                if (rawInterval != null && rawInterval.length() > 1) {
-                    try {
-                        interval = Integer.parseInt(rawInterval.substring(0, rawInterval.length() - 1));
-                    } catch (NumberFormatException ex) {
-                        interval = 1;
-                    }
-                }
-                String recurrenceType = convertIntervalToRecurrenceType(rawInterval);
-                int occurrences = rd.getRecurrentTimes();
-                String endDate = rd.getRecurrentEndDate();
-                
-                RecurringEvent recurringEvent;
-                if (occurrences > 0) {
-                    // Create RecurringEvent using occurrences and interval
-                    recurringEvent = new RecurringEvent(
-                        eventId,
-                        event.getTitle(),
-                        event.getDescription(),
-                        event.getStartDateTime(),
-                        event.getEndDateTime(),
-                        recurrenceType,
-                        interval,
-                        occurrences
-                    );
-                } else if (endDate != null && !endDate.equals("0") && !endDate.isEmpty()) {
-                    // Create RecurringEvent using an end date (parse from ISO date)
-                    LocalDate rdEnd = LocalDate.parse(endDate);
-                    recurringEvent = new RecurringEvent(
-                        eventId,
-                        event.getTitle(),
-                        event.getDescription(),
-                        event.getStartDateTime(),
-                        event.getEndDateTime(),
-                        recurrenceType,
-                        interval,
-                        rdEnd
-                    );
-                } else {
-                    // Fallback: no occurrences or end date specified — treat as single occurrence
-                    recurringEvent = new RecurringEvent(
-                        eventId,
-                        event.getTitle(),
-                        event.getDescription(),
-                        event.getStartDateTime(),
-                        event.getEndDateTime(),
-                        recurrenceType,
-                        0
-                    );
-                }
-                
-                // Copy reminder if exists
-                if (event.getReminder() != null) {
-                    recurringEvent.setReminder(event.getReminder());
-                }
-                
-                manager.addEvent(recurringEvent);
-            } else {
-                // Normal event
-                manager.addEvent(event);
-            }
-            
-            if (eventId > maxId) maxId = eventId;
+        if (loadSelectedSnapshot(manager)) {
+            return;
         }
-        
-        manager.setNextEventId(maxId + 1);
-        
-        // Load additional fields after all events are loaded
-        AdditionalFieldsHandler.loadAdditionalFields(manager);
+        loadEventsFromCsv(manager);
     }
 
     /**
-     * Load events from event.csv
+     * Load all events from CSV files, parsing the files in parallel
+     * 
+     * Gives the same result as loadEvents(), but event.csv, recurrent.csv,
+     * additional.csv and reminder.csv are parsed at the same time (and a large event.csv is split
+     * into chunks) before the rows are joined by eventId. When the binary format
+     * is selected, events.bin is read instead.
+     * 
+     * @param manager The EventManager to add loaded events to
+     * @return Time spent parsing each file and joining the results
      */
-    private static Map<Integer, MainEvent> loadEventCSV() {
-        Map<Integer, MainEvent> events = new HashMap<>();
-        File file = new File(EVENT_FILE);
-        if (!file.exists()) return events;
+    public static MappedCSVLoader.LoadTimings loadEventsParallel(EventManager manager) {
+        long start = System.nanoTime();
+        if (loadSelectedSnapshot(manager)) {
+            return MappedCSVLoader.LoadTimings.fromSnapshot(System.nanoTime() - start);
+        }
+        recoverInterruptedSave();
+        return MappedCSVLoader.loadParallel(manager,
+            Paths.get(EVENT_FILE),
+            Paths.get(RECURRENT_FILE),
+            Paths.get(AdditionalFieldsHandler.ADDITIONAL_CSV),
+            Paths.get(ReminderCSVHandler.REMINDER_CSV));
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(EVENT_FILE))) {
-            String line = br.readLine(); // Skip header
-            while ((line = br.readLine()) != null) {
-                String[] parts = parseCsvLine(line);
-                if (parts.length >= 5) {
-                    int id = Integer.parseInt(parts[0]);
-                    String title = parts[1];
-                    String desc = parts[2];
-                    LocalDateTime start = LocalDateTime.parse(parts[3], formatter);
-                    LocalDateTime end = LocalDateTime.parse(parts[4], formatter);
-                    
-                    MainEvent event = new MainEvent(id, title, desc, start, end);
-                    events.put(id, event);
-                }
-            }
-        } catch (IOException ex) {
-            System.out.println("Error loading event.csv: " + ex.getMessage());
+    /**
+     * Load all events from the CSV files, ignoring the binary snapshot
+     * 
+     * Used to convert the CSV files into a snapshot, and when the binary format
+     * is selected but no snapshot has been saved yet.
+     * 
+     * @param manager The EventManager to add loaded events to
+     */
+    static void loadEventsFromCsv(EventManager manager) {
+        recoverInterruptedSave();
+        MappedCSVLoader.load(manager,
+            Paths.get(EVENT_FILE),
+            Paths.get(RECURRENT_FILE),
+            Paths.get(AdditionalFieldsHandler.ADDITIONAL_CSV),
+            Paths.get(ReminderCSVHandler.REMINDER_CSV));
+    }
+
+    /**
+     * Load the binary snapshot if that format is selected and one has been saved
+     * 
+     * With no snapshot yet (the first start after switching formats) the CSV
+     * files are read, and the next save writes the snapshot.
+     * 
+     * @param manager The EventManager to add loaded events to
+     * @return true if the events were loaded from the snapshot; false if the CSV
+     *         files must be read (nothing has been added then)
+     */
+    private static boolean loadSelectedSnapshot(EventManager manager) {
+        Path snapshot = Paths.get(BinarySnapshotHandler.SNAPSHOT_FILE);
+        if (storageFormat != StorageFormat.BINARY || !Files.exists(snapshot)) {
+            return false;
         }
-        
-        return events;
+        if (BinarySnapshotHandler.load(manager, snapshot)) {
+            return true;
+        }
+        System.out.println("Error loading " + snapshot + ": reading the CSV files instead");
+        return false;
     }
 
     /**
-     * Load recurring event data from recurrent.csv
+     * Finish or discard a save that was interrupted by a crash
+     * 
+     * Called before loading, so the files read are always from one complete save.
      */
-    private static Map<Integer, RecurrentEventData> loadRecurrentCSV() {
-        Map<Integer, RecurrentEventData> recurrentData = new HashMap<>();
-        File file = new File(RECURRENT_FILE);
-        if (!file.exists()) return recurrentData;
+    private static void recoverInterruptedSave() {
+        AtomicCSVSaver.recover(
+            Paths.get(EVENT_FILE),
+            Paths.get(RECURRENT_FILE),
+            Paths.get(AdditionalFieldsHandler.ADDITIONAL_CSV),
+            Paths.get(ReminderCSVHandler.REMINDER_CSV),
+            Paths.get(MANIFEST_FILE));
+    }
 
-        try (BufferedReader br = new BufferedReader(new FileReader(RECURRENT_FILE))) {
-            String line = br.readLine(); // Skip header
-            while ((line = br.readLine()) != null) {
-                String[] parts = line.split(",");
-                if (parts.length >= 4) {
-                    int eventId = Integer.parseInt(parts[0]);
-                    String interval = parts[1];
-                    int times = Integer.parseInt(parts[2]);
-                    String endDate = parts[3];
-                    
-                    RecurrentEventData rd = new RecurrentEventData(eventId, interval, times, endDate);
-                    recurrentData.put(eventId, rd);
-                }
+    /**
+     * Combine a row from event.csv with its row from recurrent.csv
+     * 
+     * @param event The basic event loaded from event.csv
+     * @param rd The recurrence data for the same eventId
+     * @return A RecurringEvent with the event's details and the recurrence settings
+     */
+    static RecurringEvent buildRecurringEvent(MainEvent event, RecurrentEventData rd) {
+        int eventId = event.getEventId();
+        String rawInterval = rd.getRecurrentInterval(); // e.g., "2w" or "1d"
+        int interval = 1;
+        // Parse the numeric part of the interval
+        if (rawInterval != null && rawInterval.length() > 1) {
+            try {
+                interval = Integer.parseInt(rawInterval.substring(0, rawInterval.length() - 1));
+            } catch (NumberFormatException ex) {
+                interval = 1;
             }
-        } catch (IOException ex) {
-            System.out.println("Error loading recurrent.csv: " + ex.getMessage());
         }
+        String recurrenceType = convertIntervalToRecurrenceType(rawInterval);
+        int occurrences = rd.getRecurrentTimes();
+        String endDate = rd.getRecurrentEndDate();
+        
+        RecurringEvent recurringEvent;
+        if (occurrences > 0) {
+            // Create RecurringEvent using occurrences and interval
+            recurringEvent = new RecurringEvent(
+                eventId,
+                event.getTitle(),
+                event.getDescription(),
+                event.getStartDateTime(),
+                event.getEndDateTime(),
+                recurrenceType,
+                interval,
+                occurrences
+            );
+        } else if (endDate != null && !endDate.equals("0") && !endDate.isEmpty()) {
+            // Create RecurringEvent using an end date (parse from ISO date)
+            LocalDate rdEnd = LocalDate.parse(endDate);
+            recurringEvent = new RecurringEvent(
+                eventId,
+                event.getTitle(),
+                event.getDescription(),
+                event.getStartDateTime(),
+                event.getEndDateTime(),
+                recurrenceType,
+                interval,
+                rdEnd
+            );
+        } else {
+            // Fallback: no occurrences or end date specified — treat as single occurrence
+            recurringEvent = new RecurringEvent(
+                eventId,
+                event.getTitle(),
+                event.getDescription(),
+                event.getStartDateTime(),
+                event.getEndDateTime(),
+                recurrenceType,
+                0
+            );
+        }
+        
+        // Copy reminder if exists
+        if (event.getReminder() != null) {
+            recurringEvent.setReminder(event.getReminder());
+        }
+        
+        return recurringEvent;
+    }
+
+    /**
+     * Describe a recurring event's pattern in recurrent.csv terms
+     * 
+     * The reverse of buildRecurringEvent: the interval becomes a string such as
+     * "2w", and the end date is only written when no occurrence count is set.
+     * 
+     * @param re The recurring event
+     * @return Its recurrence data
+     */
+    static RecurrentEventData toRecurrentData(RecurringEvent re) {
+        // Build recurrence interval string (e.g., "1d", "2w", "3m")
+        String interval = re.getInterval() + recurrenceTypeToUnitChar(re.getRecurrenceType());
+        int times = re.getOccurrences();  // How many times it repeats
+        String endDate = "0";  // Default to "0" when not using end date
         
-        return recurrentData;
+        // If occurrences not set, but an end date is provided, write the end date instead
+        if (times <= 0 && re.getRecurrenceEndDate() != null) {
+            endDate = re.getRecurrenceEndDate().toString(); // ISO_LOCAL_DATE format
+        }
+        return new RecurrentEventData(re.getEventId(), interval, times, endDate);
     }
 
     /**
@@ -308,37 +446,13 @@ public class CSVHandlerCompliant {
     }
 
     /**
-     * Escape CSV values that contain commas or quotes
+     * Escape CSV values that contain commas, quotes or line breaks
      */
-    private static String escapeCsvValue(String value) {
+    static String escapeCsvValue(String value) {
         if (value == null) return "";
-        if (value.contains(",") || value.contains("\"")) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
             return "\"" + value.replace("\"", "\"\"") + "\"";
         }
         return value;
     }
-
-    /**
-     * Parse CSV line handling quoted values
-     */
-    private static String[] parseCsvLine(String line) {
-        java.util.List<String> values = new java.util.ArrayList<>();
-        boolean inQuotes = false;
-        StringBuilder current = new StringBuilder();
-        
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                values.add(current.toString());
-                current = new StringBuilder();
-            } else {
-                current.append(c);
-            }
-        }
-        values.add(current.toString());
-        
-        return values.toArray(new String[0]);
-    }
 }
@@ -1,6 +1,8 @@
 package com.mycompany.calendarapp;
 
 import javafx.application.Application;
+import javafx.application.Platform;
+import javafx.concurrent.Task;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -14,6 +16,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
 
 /**
  * JavaFX front-end for the calendar app. Handles scene setup, dialogs for add/update/search,
@@ -22,9 +28,19 @@ import java.util.Map;
  */
 public class CalendarAppGUI extends Application {
     private EventManager manager;
+    private EventJournal journal;  // Records every edit as it happens
+    private AutosaveService autosave;  // Saves the CSV files in the background after edits
+    private ReminderService reminders;  // Fires reminders on time while the app runs
+    private Stage primaryStage;
+    private javafx.stage.Popup reminderPopup;  // Banner of the reminders that fired last
     private DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
     private CalendarView calendarView;
     private SearchEvent searchEvent;
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "calendar-io");  // File work never runs on the FX thread
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private static final String APP_GRADIENT = "-fx-background-color: linear-gradient(to bottom, #0f1f33, #0b1423); -fx-text-fill: #e7f7ff;";
     private static final String PANEL_STYLE = "-fx-background-color: #142238; -fx-background-radius: 14; -fx-border-radius: 14; -fx-border-color: #1f3550; -fx-border-width: 1; -fx-text-fill: #e7f7ff;";
@@ -32,11 +48,13 @@ public class CalendarAppGUI extends Application {
     private static final String ACCENT = "#21d4e4";
     private static final String TEXT_PRIMARY = "#e7f7ff";
     private static final String TEXT_MUTED = "#9fb8d3";
+    private static final boolean REPORT_LOAD_TIMINGS = Boolean.getBoolean("calendar.loadTimings");  // -Dcalendar.loadTimings=true prints load times
+    private static final int LIVE_RESULT_LIMIT = 200;  // Most live search hits listed, so each update stays quick
 
     @Override
     public void start(Stage primaryStage) {
-        manager = new EventManager();
-        CSVHandlerCompliant.loadEvents(manager);
+        this.primaryStage = primaryStage;
+        manager = new EventManager();  // Empty until the background load finishes
         calendarView = new CalendarView();
         searchEvent = new SearchEvent();
 
@@ -44,15 +62,176 @@ public class CalendarAppGUI extends Application {
         primaryStage.setWidth(900);
         primaryStage.setHeight(700);
 
-        // Create main menu
-        StackPane mainMenuPane = createMainMenu(primaryStage);
-        Scene scene = new Scene(mainMenuPane, 1200, 800);
+        // Load the calendar in the background so the window appears straight away
+        Task<LoadedCalendar> loadTask = new Task<LoadedCalendar>() {
+            @Override
+            protected LoadedCalendar call() {
+                updateMessage("Reading event files...");
+                updateProgress(0, 2);
+                EventManager loaded = new EventManager();
+                MappedCSVLoader.LoadTimings timings = CSVHandlerCompliant.loadEventsParallel(loaded);
+                if (REPORT_LOAD_TIMINGS) {
+                    System.out.println("Loaded " + loaded.getAllEvents().size() + " events " + timings);
+                }
+
+                updateMessage("Replaying recent edits...");
+                updateProgress(1, 2);
+                EventJournal loadedJournal = EventJournal.open(loaded);  // Replay edits made since the last full save
+                updateProgress(2, 2);
+                return new LoadedCalendar(loaded, loadedJournal);
+            }
+        };
+        loadTask.setOnSucceeded(e -> {
+            LoadedCalendar loaded = loadTask.getValue();
+            showMainMenuAfterLoad(primaryStage, loaded.manager, loaded.journal);
+        });
+        loadTask.setOnFailed(e -> {
+            showAlert(Alert.AlertType.ERROR, "Load Failed",
+                     "Error loading events: " + loadTask.getException().getMessage());
+            EventManager empty = new EventManager();
+            showMainMenuAfterLoad(primaryStage, empty, EventJournal.open(empty));
+        });
+
+        Scene scene = new Scene(createLoadingMenu(loadTask), 1200, 800);
         primaryStage.setScene(scene);
         
         // Center the window on screen
         primaryStage.centerOnScreen();
         
         primaryStage.show();
+        ioExecutor.execute(loadTask);
+    }
+
+    /**
+     * Events and journal produced by the background load in start()
+     */
+    private static class LoadedCalendar {
+        private final EventManager manager;
+        private final EventJournal journal;
+
+        LoadedCalendar(EventManager manager, EventJournal journal) {
+            this.manager = manager;
+            this.journal = journal;
+        }
+    }
+
+    /**
+     * Install the loaded calendar and swap the loading screen for the main menu (FX thread)
+     */
+    private void showMainMenuAfterLoad(Stage stage, EventManager loaded, EventJournal loadedJournal) {
+        manager = loaded;
+        journal = loadedJournal;
+        autosave = new AutosaveService(manager, journal, javafx.application.Platform::runLater,
+                                       AutosaveService.DEFAULT_DEBOUNCE_MILLIS);
+        reminders = new ReminderService(manager, javafx.application.Platform::runLater, this::showReminderPopup);
+        reminders.start();
+        stage.getScene().setRoot(createMainMenu(stage));
+    }
+
+    /**
+     * Show reminders that have just fired in a banner over the top of the window
+     */
+    private void showReminderPopup(List<MainEvent> due) {
+        if (reminderPopup != null) {
+            reminderPopup.hide();  // Replaced by the newer banner
+        }
+        VBox banner = NotificationManager.createNotificationBanner(due);
+        banner.setPrefWidth(420);
+
+        javafx.stage.Popup popup = new javafx.stage.Popup();
+        popup.getContent().add(banner);
+        // Hide once every notification has been dismissed
+        banner.getChildren().addListener((javafx.collections.ListChangeListener<javafx.scene.Node>) change -> {
+            if (banner.getChildren().isEmpty()) popup.hide();
+        });
+        popup.show(primaryStage, primaryStage.getX() + primaryStage.getWidth() - 450, primaryStage.getY() + 40);
+        reminderPopup = popup;
+    }
+
+    /**
+     * Main menu placeholder shown while the calendar loads
+     */
+    private StackPane createLoadingMenu(Task<?> loadTask) {
+        VBox vbox = new VBox(25);
+        vbox.setPadding(new Insets(30, 30, 30, 30));
+        vbox.setAlignment(javafx.geometry.Pos.TOP_LEFT);
+        vbox.setStyle("-fx-background-color: transparent;");
+
+        Label title = new Label("📅 CALENDAR APPLICATION");
+        title.setStyle("-fx-font-size: 36; -fx-font-weight: bold; -fx-text-fill: " + ACCENT + "; -fx-effect: dropshadow(gaussian, rgba(33,212,228,0.35), 14, 0, 0, 4);");
+
+        Label subtitle = new Label("Loading your calendar...");
+        subtitle.setStyle("-fx-font-size: 16; -fx-text-fill: " + TEXT_MUTED + "; -fx-padding: 0 0 20 0;");
+
+        ProgressBar progress = new ProgressBar();
+        progress.setPrefWidth(320);
+        progress.progressProperty().bind(loadTask.progressProperty());
+
+        Label status = new Label();
+        status.setStyle("-fx-text-fill: " + TEXT_MUTED + ";");
+        status.textProperty().bind(loadTask.messageProperty());
+
+        vbox.getChildren().addAll(title, subtitle, progress, status);
+
+        StackPane root = new StackPane(vbox);
+        root.setStyle(APP_GRADIENT);
+        StackPane.setAlignment(vbox, javafx.geometry.Pos.TOP_LEFT);
+        return root;
+    }
+
+    /**
+     * Run file work on the I/O thread while a small progress window is shown
+     *
+     * onSuccess and the error alert run on the FX thread once the task is done.
+     */
+    private <T> void runWithProgress(String title, Task<T> task, Consumer<T> onSuccess,
+                                     String errorTitle, String errorPrefix) {
+        Stage progressStage = new Stage();
+        progressStage.initModality(javafx.stage.Modality.APPLICATION_MODAL);
+        progressStage.setTitle(title);
+        progressStage.setOnCloseRequest(javafx.event.Event::consume);  // Closes itself when the task ends
+
+        ProgressBar progress = new ProgressBar();
+        progress.setPrefWidth(300);
+        progress.progressProperty().bind(task.progressProperty());
+        Label status = new Label();
+        status.setStyle("-fx-text-fill: " + TEXT_PRIMARY + ";");
+        status.textProperty().bind(task.messageProperty());
+
+        VBox box = new VBox(12, status, progress);
+        box.setPadding(new Insets(20));
+        box.setStyle(PANEL_STYLE);
+        progressStage.setScene(new Scene(box));
+
+        task.setOnSucceeded(e -> {
+            progressStage.close();
+            onSuccess.accept(task.getValue());
+        });
+        task.setOnFailed(e -> {
+            progressStage.close();
+            showAlert(Alert.AlertType.ERROR, errorTitle, errorPrefix + task.getException().getMessage());
+        });
+
+        progressStage.show();
+        ioExecutor.execute(task);
+    }
+
+    /**
+     * Called by JavaFX when the application exits (including closing the window)
+     */
+    @Override
+    public void stop() {
+        if (reminders != null) {
+            reminders.shutdown();
+        }
+        if (autosave != null) {
+            autosave.flush();  // Write any edits still waiting for the autosave timer
+            autosave.shutdown();
+        }
+        if (journal != null) {
+            journal.close();
+        }
+        ioExecutor.shutdown();
     }
 
     private StackPane createMainMenu(Stage stage) {
@@ -90,7 +269,7 @@ public class CalendarAppGUI extends Application {
 
         Button btnExit = createStyledButton("🚪 Save & Exit", "#f44336");
         btnExit.setOnAction(e -> {
-            CSVHandlerCompliant.saveEvents(manager);
+            autosave.flush();  // Full save now; stop() then shuts the services down
             stage.close();
         });
 
@@ -737,6 +916,7 @@ public class CalendarAppGUI extends Application {
                     event.setDescription(updated.getDescription());
                     event.setStartDateTime(updated.getStartDateTime());
                     event.setEndDateTime(updated.getEndDateTime());
+                    manager.updateEvent(event);  // Keep the time index in step with the new times
 
                     showAlert(Alert.AlertType.INFORMATION, "Success", "Event updated successfully!");
                     return true;
@@ -929,11 +1109,9 @@ public class CalendarAppGUI extends Application {
 
         // Map events by date for quick lookup
         java.util.Map<Integer, List<MainEvent>> eventsByDate = new java.util.HashMap<>();
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            if (event.getStartDateTime().getYear() == year && event.getStartDateTime().getMonthValue() == month) {
-                int day = event.getStartDateTime().getDayOfMonth();
-                eventsByDate.computeIfAbsent(day, k -> new ArrayList<>()).add(event);
-            }
+        for (MainEvent event : manager.eventsBetween(firstDay.atStartOfDay(), firstDay.plusMonths(1).atStartOfDay())) {
+            int day = event.getStartDateTime().getDayOfMonth();
+            eventsByDate.computeIfAbsent(day, k -> new ArrayList<>()).add(event);
         }
 
         // Add empty cells for days before month starts
@@ -1065,6 +1243,9 @@ public class CalendarAppGUI extends Application {
         String[] dayNames = {"Sunday", "Monday", "Tuesday", "Wednesday", "Thursday", "Friday", "Saturday"};
         LocalDate currentDay = weekStart;
 
+        // Fetch the whole week once, then pick out each day's events
+        List<MainEvent> weekEvents = manager.eventsBetween(weekStart.atStartOfDay(), weekEnd.plusDays(1).atStartOfDay());
+
         for (int i = 0; i < 7; i++) {
             VBox dayBox = new VBox(8);
             dayBox.setStyle(CARD_STYLE + "-fx-border-color: " + ACCENT + "; -fx-border-width: 1.5; -fx-padding: 10;");
@@ -1075,7 +1256,7 @@ public class CalendarAppGUI extends Application {
             dayBox.getChildren().add(dayLabel);
 
             boolean hasEvent = false;
-            for (MainEvent event : manager.getAllEventsExpanded()) {
+            for (MainEvent event : weekEvents) {
                 if (event.getStartDateTime().toLocalDate().equals(finalCurrentDay)) {
                     VBox eventItemBox = new VBox(3);
                     eventItemBox.setPadding(new Insets(5, 0, 0, 20));
@@ -1149,12 +1330,7 @@ public class CalendarAppGUI extends Application {
         dateLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 16; -fx-text-fill: " + TEXT_PRIMARY + ";");
         content.getChildren().add(dateLabel);
 
-        List<MainEvent> dailyEvents = new ArrayList<>();
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            if (event.getStartDateTime().toLocalDate().equals(date)) {
-                dailyEvents.add(event);
-            }
-        }
+        List<MainEvent> dailyEvents = manager.eventsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 
         if (dailyEvents.isEmpty()) {
             Label noEventsLabel = new Label("✅ No events scheduled for this day");
@@ -1240,12 +1416,8 @@ public class CalendarAppGUI extends Application {
         monthLabel.setStyle("-fx-font-weight: bold; -fx-font-size: 16; -fx-text-fill: " + ACCENT + ";");
         content.getChildren().add(monthLabel);
 
-        List<MainEvent> monthlyEvents = new ArrayList<>();
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            if (event.getStartDateTime().getYear() == year && event.getStartDateTime().getMonthValue() == month) {
-                monthlyEvents.add(event);
-            }
-        }
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+        List<MainEvent> monthlyEvents = manager.eventsBetween(monthStart.atStartOfDay(), monthStart.plusMonths(1).atStartOfDay());
 
         if (monthlyEvents.isEmpty()) {
             Label noEventsLabel = new Label("✅ No events scheduled for this month");
@@ -1376,12 +1548,7 @@ public class CalendarAppGUI extends Application {
         textArea.setEditable(false);
         textArea.setWrapText(true);
 
-        java.util.List<MainEvent> results = new java.util.ArrayList<>();
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            if (event.getStartDateTime().toLocalDate().equals(date)) {
-                results.add(event);
-            }
-        }
+        java.util.List<MainEvent> results = manager.eventsBetween(date.atStartOfDay(), date.plusDays(1).atStartOfDay());
 
         if (results.isEmpty()) {
             textArea.setText("No events found on this date.");
@@ -1442,13 +1609,7 @@ public class CalendarAppGUI extends Application {
         textArea.setEditable(false);
         textArea.setWrapText(true);
 
-        java.util.List<MainEvent> results = new java.util.ArrayList<>();
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            LocalDate eventDate = event.getStartDateTime().toLocalDate();
-            if (!eventDate.isBefore(startDate) && !eventDate.isAfter(endDate)) {
-                results.add(event);
-            }
-        }
+        java.util.List<MainEvent> results = manager.eventsBetween(startDate.atStartOfDay(), endDate.plusDays(1).atStartOfDay());
 
         if (results.isEmpty()) {
             textArea.setText("No events found in this date range.");
@@ -1476,16 +1637,28 @@ public class CalendarAppGUI extends Application {
 
         TextField titleField = new TextField();
         titleField.setPromptText("Event Title");
+        CheckBox wordStarts = new CheckBox("Match word beginnings only");
+
+        // Live results, updated on a background thread as the user types
+        Label liveStatus = new Label();
+        TextArea liveResults = createLiveResultsArea();
+        LiveSearch liveSearch = new LiveSearch(manager, Platform::runLater);
+        Runnable refresh = () -> liveSearch.submit(titleFilter(titleField.getText(), wordStarts.isSelected()),
+            result -> showLiveResults(result, liveStatus, liveResults));
+        titleField.textProperty().addListener((obs, oldText, newText) -> refresh.run());
+        wordStarts.selectedProperty().addListener((obs, oldV, newV) -> refresh.run());
+        dialog.setOnHidden(e -> liveSearch.close());
+
         VBox content = new VBox(10);
         content.setPadding(new Insets(10));
-        content.getChildren().addAll(new Label("Title:"), titleField);
+        content.getChildren().addAll(new Label("Title:"), titleField, wordStarts, liveStatus, liveResults);
 
         dialog.getDialogPane().setContent(content);
         dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
 
         dialog.setResultConverter(dialogButton -> {
             if (dialogButton == ButtonType.OK) {
-                showSearchTitleResultsDialog(titleField.getText());
+                showSearchTitleResultsDialog(titleField.getText(), wordStarts.isSelected());
             }
             return null;
         });
@@ -1493,7 +1666,15 @@ public class CalendarAppGUI extends Application {
         dialog.showAndWait();
     }
 
-    private void showSearchTitleResultsDialog(String title) {
+    /**
+     * The live filter of the title search: "title contains" like the results
+     * dialog, or word beginnings when the user asks for them
+     */
+    private static LiveSearch.Filter titleFilter(String title, boolean wordStarts) {
+        return wordStarts ? new LiveSearch.TitleWords(title) : new LiveSearch.TitleContains(title);
+    }
+
+    private void showSearchTitleResultsDialog(String title, boolean wordStarts) {
         Dialog<Boolean> dialog = new Dialog<>();
         dialog.setTitle("Search Results");
         dialog.setHeaderText("Events matching '" + title + "'");
@@ -1502,12 +1683,10 @@ public class CalendarAppGUI extends Application {
         textArea.setEditable(false);
         textArea.setWrapText(true);
 
-        java.util.List<MainEvent> results = new java.util.ArrayList<>();
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            if (event.getTitle().toLowerCase().contains(title.toLowerCase())) {
-                results.add(event);
-            }
-        }
+        // The indexes rule out events first; the remaining titles are checked as usual
+        java.util.List<MainEvent> results = wordStarts
+            ? SearchEvent.findByTitleWords(manager, title)
+            : SearchEvent.findByTitle(manager, title);
 
         if (results.isEmpty()) {
             textArea.setText("No events found with that title.");
@@ -1590,6 +1769,36 @@ public class CalendarAppGUI extends Application {
         grid.add(new Label("Priority:"), 0, 9);
         grid.add(priorityBox, 1, 9);
 
+        // Live results: every change to a filter searches again on a background thread
+        Label liveStatus = new Label();
+        TextArea liveResults = createLiveResultsArea();
+        grid.add(liveStatus, 0, 10, 2, 1);
+        grid.add(liveResults, 0, 11, 2, 1);
+        LiveSearch liveSearch = new LiveSearch(manager, Platform::runLater);
+        Runnable refresh = () -> {
+            SearchQuery query = advancedQuery(titleField.getText().trim(), descField.getText().trim(),
+                startDatePicker.getValue(), endDatePicker.getValue(),
+                startTimeFilter.isSelected() ? startTimePicker.getValue() : null,
+                endTimeFilter.isSelected() ? endTimePicker.getValue() : null,
+                remindersOnly.isSelected(), locationField.getText().trim(),
+                categoryBox.getValue().equals("All Categories") ? null : categoryBox.getValue(),
+                priorityBox.getValue().equals("All Priorities") ? null : priorityBox.getValue());
+            liveSearch.submit(query, result -> showLiveResults(result, liveStatus, liveResults));
+        };
+        titleField.textProperty().addListener((obs, oldV, newV) -> refresh.run());
+        descField.textProperty().addListener((obs, oldV, newV) -> refresh.run());
+        locationField.textProperty().addListener((obs, oldV, newV) -> refresh.run());
+        startDatePicker.valueProperty().addListener((obs, oldV, newV) -> refresh.run());
+        endDatePicker.valueProperty().addListener((obs, oldV, newV) -> refresh.run());
+        startTimeFilter.selectedProperty().addListener((obs, oldV, newV) -> refresh.run());
+        endTimeFilter.selectedProperty().addListener((obs, oldV, newV) -> refresh.run());
+        startTimePicker.addChangeListener(() -> { if (startTimeFilter.isSelected()) refresh.run(); });
+        endTimePicker.addChangeListener(() -> { if (endTimeFilter.isSelected()) refresh.run(); });
+        remindersOnly.selectedProperty().addListener((obs, oldV, newV) -> refresh.run());
+        categoryBox.valueProperty().addListener((obs, oldV, newV) -> refresh.run());
+        priorityBox.valueProperty().addListener((obs, oldV, newV) -> refresh.run());
+        dialog.setOnHidden(e -> liveSearch.close());
+
         dialog.getDialogPane().setContent(grid);
         dialog.getDialogPane().getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
 
@@ -1628,59 +1837,59 @@ public class CalendarAppGUI extends Application {
                                                      LocalTime startTime, LocalTime endTime,
                                                      boolean remindersOnly,
                                                      String locationQuery, String categoryFilter, String priorityFilter) {
-        java.util.List<MainEvent> results = new java.util.ArrayList<>();
-
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            boolean match = true;
-
-            if (titleQuery != null && !titleQuery.isEmpty()) {
-                match &= event.getTitle().toLowerCase().contains(titleQuery.toLowerCase());
-            }
-
-            if (descQuery != null && !descQuery.isEmpty()) {
-                match &= event.getDescription() != null && event.getDescription().toLowerCase().contains(descQuery.toLowerCase());
-            }
-
-            LocalDate eventDate = event.getStartDateTime().toLocalDate();
-            LocalTime eventTime = event.getStartDateTime().toLocalTime();
-
-            if (startDate != null && eventDate.isBefore(startDate)) {
-                match = false;
-            }
-            if (endDate != null && eventDate.isAfter(endDate)) {
-                match = false;
-            }
-
-            if (startTime != null && eventTime.isBefore(startTime)) {
-                match = false;
-            }
-            if (endTime != null && eventTime.isAfter(endTime)) {
-                match = false;
-            }
-
-            if (remindersOnly && event.getReminder() == null) {
-                match = false;
-            }
+        SearchQuery query = advancedQuery(titleQuery, descQuery, startDate, endDate, startTime, endTime,
+                                          remindersOnly, locationQuery, categoryFilter, priorityFilter);
 
-            // Additional field filters
-            if (locationQuery != null && !locationQuery.isEmpty()) {
-                match &= event.getLocation() != null && event.getLocation().toLowerCase().contains(locationQuery.toLowerCase());
-            }
+        // Let the planner pick the most selective index and check only what is left
+        return new SearchPlanner(manager).plan(query).execute();
+    }
 
-            if (categoryFilter != null) {
-                match &= event.getCategory() != null && event.getCategory().equals(categoryFilter);
-            }
+    private static SearchQuery advancedQuery(String titleQuery, String descQuery,
+                                             LocalDate startDate, LocalDate endDate,
+                                             LocalTime startTime, LocalTime endTime,
+                                             boolean remindersOnly,
+                                             String locationQuery, String categoryFilter, String priorityFilter) {
+        SearchQuery query = new SearchQuery();
+        query.setTitleContains(titleQuery);
+        query.setDescriptionContains(descQuery);
+        query.setLocationContains(locationQuery);
+        query.setStartDate(startDate);
+        query.setEndDate(endDate);
+        query.setStartTime(startTime);
+        query.setEndTime(endTime);
+        query.setRemindersOnly(remindersOnly);
+        query.setCategory(categoryFilter);
+        query.setPriority(priorityFilter);
+        return query;
+    }
 
-            if (priorityFilter != null) {
-                match &= event.getPriority() != null && event.getPriority().equals(priorityFilter);
-            }
+    private TextArea createLiveResultsArea() {
+        TextArea area = new TextArea();
+        area.setEditable(false);
+        area.setPrefRowCount(8);
+        area.setPromptText("Results appear here as you type");
+        return area;
+    }
 
-            if (match) {
-                results.add(event);
-            }
+    /**
+     * Show a live search result (runs on the FX thread). Only the first
+     * LIVE_RESULT_LIMIT hits are listed, so large result sets do not slow typing.
+     */
+    private void showLiveResults(LiveSearch.Result result, Label status, TextArea area) {
+        java.util.List<MainEvent> hits = result.getHits();
+        StringBuilder sb = new StringBuilder();
+        int shown = Math.min(hits.size(), LIVE_RESULT_LIMIT);
+        for (int i = 0; i < shown; i++) {
+            MainEvent event = hits.get(i);
+            sb.append("ID ").append(event.getEventId()).append("  ")
+              .append(event.getStartDateTime().format(dateTimeFormatter)).append("  ")
+              .append(event.getTitle()).append("\n");
         }
-
-        return results;
+        if (hits.size() > shown) {
+            sb.append("... and ").append(hits.size() - shown).append(" more\n");
+        }
+        area.setText(sb.toString());
+        status.setText(result.toString());
     }
 
     private void showAdvancedSearchResults(java.util.List<MainEvent> results, String titleQuery, String descQuery,
@@ -1861,6 +2070,7 @@ public class CalendarAppGUI extends Application {
                         }
 
                         event.setReminder(new Reminder(minutesBefore));
+                        manager.updateEvent(event);  // Reschedule the reminder
                         showAlert(Alert.AlertType.INFORMATION, "Success", "Reminder set for '" + event.getTitle() + "'");
                         return true;
                     } else {
@@ -1972,6 +2182,7 @@ public class CalendarAppGUI extends Application {
                     if (event != null) {
                         if (event.getReminder() != null) {
                             event.setReminder(null);
+                            manager.updateEvent(event);  // Unschedule the reminder
                             showAlert(Alert.AlertType.INFORMATION, "Success", "Reminder removed from '" + event.getTitle() + "'");
                             return true;
                         } else {
@@ -2179,40 +2390,48 @@ public class CalendarAppGUI extends Application {
 
         java.util.Optional<String> result = dialog.showAndWait();
         result.ifPresent(filename -> {
-            try {
-                // First save current state to CSV files
-                CSVHandlerCompliant.saveEvents(manager);
-                
-                // Create backup directory if it doesn't exist
-                java.io.File backupDir = new java.io.File("backups");
-                if (!backupDir.exists()) {
-                    backupDir.mkdir();
-                }
-                
-                String backupPath = "backups/" + filename;
-                
-                // Create backup using BackupManager (copy from root folder logic)
-                java.nio.file.Path backup = java.nio.file.Paths.get(backupPath);
-                if (backup.getParent() != null) {
-                    java.nio.file.Files.createDirectories(backup.getParent());
-                }
+            // First save current state to CSV files (snapshot taken here, written in the background)
+            CompletableFuture<Boolean> saved = autosave.flushAsync();
+            String backupPath = "backups/" + filename;
+
+            Task<String> backupTask = new Task<String>() {
+                @Override
+                protected String call() throws Exception {
+                    updateMessage("Saving current events...");
+                    updateProgress(0, 1);
+                    if (!saved.get()) {
+                        throw new java.io.IOException("could not save current events");
+                    }
+                    // Backups hold the CSV files, so bring them up to date from the snapshot just saved
+                    if (CSVHandlerCompliant.getStorageFormat() == CSVHandlerCompliant.StorageFormat.BINARY
+                            && !BinarySnapshotHandler.convertBinaryToCsv()) {
+                        throw new java.io.IOException("could not write the CSV files");
+                    }
+
+                    // Create backup using BackupManager (copy from root folder logic)
+                    java.nio.file.Path backup = java.nio.file.Paths.get(backupPath);
+                    if (backup.getParent() != null) {
+                        java.nio.file.Files.createDirectories(backup.getParent());  // Also creates "backups"
+                    }
 
-                try (java.io.BufferedWriter writer = java.nio.file.Files.newBufferedWriter(backup, java.nio.charset.StandardCharsets.UTF_8)) {
-                    writer.write("--- event.csv ---\n");
-                    copyFileToBackup("event.csv", writer);
-                    writer.write("\n--- recurrent.csv ---\n");
-                    copyFileToBackup("recurrent.csv", writer);
-                    writer.write("\n--- additional.csv ---\n");
-                    copyFileToBackup("additional.csv", writer);
-                    writer.flush();
+                    try (java.io.BufferedWriter writer = java.nio.file.Files.newBufferedWriter(backup, java.nio.charset.StandardCharsets.UTF_8)) {
+                        String[] files = {"event.csv", "recurrent.csv", "additional.csv", "reminder.csv"};
+                        for (int i = 0; i < files.length; i++) {
+                            updateMessage("Copying " + files[i] + "...");
+                            updateProgress(i + 1, files.length + 1);
+                            writer.write((i == 0 ? "" : "\n") + "--- " + files[i] + " ---\n");
+                            copyFileToBackup(files[i], writer);
+                        }
+                        writer.flush();
+                    }
+                    updateProgress(1, 1);
+                    return backupPath;
                 }
-                
-                showAlert(Alert.AlertType.INFORMATION, "Backup Created", 
-                         "Backup successfully created at: " + backupPath);
-            } catch (Exception ex) {
-                showAlert(Alert.AlertType.ERROR, "Backup Failed", 
-                         "Error creating backup: " + ex.getMessage());
-            }
+            };
+            runWithProgress("Creating Backup", backupTask,
+                path -> showAlert(Alert.AlertType.INFORMATION, "Backup Created",
+                                  "Backup successfully created at: " + path),
+                "Backup Failed", "Error creating backup: ");
         });
     }
 
@@ -2276,51 +2495,89 @@ public class CalendarAppGUI extends Application {
             
             if (mode.isPresent()) {
                 boolean appendMode = mode.get().equals("APPEND");
-                
-                try {
-                    // Extract sections from backup file
-                    java.util.List<String> allLines = java.nio.file.Files.readAllLines(
-                        selectedFile.toPath(), java.nio.charset.StandardCharsets.UTF_8);
-                    
-                    java.util.Map<String, java.util.List<String>> sections = extractSectionsFromBackup(allLines);
-                    
+
+                Task<EventManager> restoreTask = new Task<EventManager>() {
+                    @Override
+                    protected EventManager call() throws Exception {
+                        // Extract sections from backup file
+                        updateMessage("Reading backup...");
+                        updateProgress(0, 2);
+                        java.util.List<String> allLines = java.nio.file.Files.readAllLines(
+                            selectedFile.toPath(), java.nio.charset.StandardCharsets.UTF_8);
+                        java.util.Map<String, java.util.List<String>> sections = extractSectionsFromBackup(allLines);
+
+                        updateMessage("Loading backup events...");
+                        updateProgress(1, 2);
+                        EventManager backup = loadBackupSections(sections);
+                        updateProgress(2, 2);
+                        return backup;
+                    }
+                };
+                runWithProgress("Restoring Backup", restoreTask, backup -> {
                     if (appendMode) {
                         // APPEND MODE: Merge with existing events
-                        appendBackupToExisting(sections);
+                        appendBackupToExisting(backup);
                     } else {
                         // OVERWRITE MODE: Replace all events
-                        // Write event.csv
-                        java.util.List<String> eventLines = sections.getOrDefault("event.csv", java.util.Collections.emptyList());
-                        java.nio.file.Files.write(java.nio.file.Paths.get("event.csv"), eventLines, 
-                                                java.nio.charset.StandardCharsets.UTF_8);
-                        
-                        // Write recurrent.csv
-                        java.util.List<String> recurrentLines = sections.getOrDefault("recurrent.csv", java.util.Collections.emptyList());
-                        java.nio.file.Files.write(java.nio.file.Paths.get("recurrent.csv"), recurrentLines, 
-                                                java.nio.charset.StandardCharsets.UTF_8);
-                        
-                        // Write additional.csv
-                        java.util.List<String> additionalLines = sections.getOrDefault("additional.csv", java.util.Collections.emptyList());
-                        if (!additionalLines.isEmpty()) {
-                            java.nio.file.Files.write(java.nio.file.Paths.get("additional.csv"), additionalLines, 
-                                                    java.nio.charset.StandardCharsets.UTF_8);
-                        }
-                        
-                        // Reload events from restored CSV files
-                        manager.getAllEvents().clear();
-                        CSVHandlerCompliant.loadEvents(manager);
+                        replaceAllEvents(backup);
                     }
-                    
                     showAlert(Alert.AlertType.INFORMATION, "Restore Complete", 
                              "Events successfully restored from backup!");
-                } catch (Exception ex) {
-                    showAlert(Alert.AlertType.ERROR, "Restore Failed", 
-                             "Error restoring backup: " + ex.getMessage());
-                }
+                }, "Restore Failed", "Error restoring backup: ");
             }
         }
     }
 
+    /**
+     * Load the CSV sections of a backup into a separate EventManager (I/O thread)
+     *
+     * The sections are written to temporary files rather than the live CSV files,
+     * so a restore never races with an autosave writing those files.
+     */
+    private EventManager loadBackupSections(java.util.Map<String, java.util.List<String>> sections) throws java.io.IOException {
+        java.nio.file.Path tempEventPath = java.nio.file.Files.createTempFile("restore_event", ".csv");
+        java.nio.file.Path tempRecurrentPath = java.nio.file.Files.createTempFile("restore_recurrent", ".csv");
+        java.nio.file.Path tempAdditionalPath = java.nio.file.Files.createTempFile("restore_additional", ".csv");
+        java.nio.file.Path tempReminderPath = java.nio.file.Files.createTempFile("restore_reminder", ".csv");
+        try {
+            java.nio.file.Files.write(tempEventPath,
+                sections.getOrDefault("event.csv", java.util.Collections.emptyList()), java.nio.charset.StandardCharsets.UTF_8);
+            java.nio.file.Files.write(tempRecurrentPath,
+                sections.getOrDefault("recurrent.csv", java.util.Collections.emptyList()), java.nio.charset.StandardCharsets.UTF_8);
+            java.nio.file.Files.write(tempAdditionalPath,
+                sections.getOrDefault("additional.csv", java.util.Collections.emptyList()), java.nio.charset.StandardCharsets.UTF_8);
+            java.nio.file.Files.write(tempReminderPath,
+                sections.getOrDefault("reminder.csv", java.util.Collections.emptyList()), java.nio.charset.StandardCharsets.UTF_8);
+
+            EventManager backup = new EventManager();
+            MappedCSVLoader.load(backup, tempEventPath, tempRecurrentPath, tempAdditionalPath, tempReminderPath);
+            return backup;
+        } finally {
+            // Clean up temporary files
+            java.nio.file.Files.deleteIfExists(tempEventPath);
+            java.nio.file.Files.deleteIfExists(tempRecurrentPath);
+            java.nio.file.Files.deleteIfExists(tempAdditionalPath);
+            java.nio.file.Files.deleteIfExists(tempReminderPath);
+        }
+    }
+
+    /**
+     * Replace every event with the ones from a backup (FX thread)
+     */
+    private void replaceAllEvents(EventManager backup) {
+        // Not journaled one by one - the saved snapshot below is the new starting point
+        manager.removeChangeListener(journal);
+        manager.removeChangeListener(autosave);
+        manager.clear();
+        for (MainEvent event : backup.getAllEvents()) {
+            manager.addEvent(event);
+        }
+        manager.setNextEventId(backup.getNextEventId());
+        manager.addChangeListener(journal);
+        manager.addChangeListener(autosave);
+        autosave.flushAsync();  // Save and empty the journal so old edits are not replayed over the backup
+    }
+
     private java.util.Map<String, java.util.List<String>> extractSectionsFromBackup(java.util.List<String> lines) {
         java.util.Map<String, java.util.List<String>> sections = new java.util.HashMap<>();
         String currentSection = null;
@@ -2345,58 +2602,16 @@ public class CalendarAppGUI extends Application {
         return sections;
     }
 
-    private void appendBackupToExisting(java.util.Map<String, java.util.List<String>> backupSections) throws java.io.IOException {
-        // Load backup data into a temporary EventManager
-        EventManager tempManager = new EventManager();
-        
-        // Write backup to temporary CSV files
-        java.nio.file.Path tempEventPath = java.nio.file.Paths.get("temp_event.csv");
-        java.nio.file.Path tempRecurrentPath = java.nio.file.Paths.get("temp_recurrent.csv");
-        java.nio.file.Path tempAdditionalPath = java.nio.file.Paths.get("temp_additional.csv");
-        
-        try {
-            // Write temporary files
-            java.util.List<String> eventLines = backupSections.getOrDefault("event.csv", java.util.Collections.emptyList());
-            java.nio.file.Files.write(tempEventPath, eventLines, java.nio.charset.StandardCharsets.UTF_8);
-            
-            java.util.List<String> recurrentLines = backupSections.getOrDefault("recurrent.csv", java.util.Collections.emptyList());
-            java.nio.file.Files.write(tempRecurrentPath, recurrentLines, java.nio.charset.StandardCharsets.UTF_8);
-            
-            java.util.List<String> additionalLines = backupSections.getOrDefault("additional.csv", java.util.Collections.emptyList());
-            if (!additionalLines.isEmpty()) {
-                java.nio.file.Files.write(tempAdditionalPath, additionalLines, java.nio.charset.StandardCharsets.UTF_8);
-            }
-            
-            // Load from temporary files using CSVHandlerCompliant logic
-            java.io.BufferedReader eventReader = new java.io.BufferedReader(
-                new java.io.FileReader(tempEventPath.toFile()));
-            eventReader.readLine(); // Skip header
-            
-            String line;
-            while ((line = eventReader.readLine()) != null) {
-                String[] parts = line.split(",", 5);
-                if (parts.length >= 5) {
-                    int eventId = Integer.parseInt(parts[0]);
-                    String title = parts[1];
-                    String description = parts[2];
-                    LocalDateTime start = LocalDateTime.parse(parts[3]);
-                    LocalDateTime end = LocalDateTime.parse(parts[4]);
-                    
-                    MainEvent event = new MainEvent(manager.generateEventId(), title, description, start, end);
-                    manager.addEvent(event);
-                }
-            }
-            eventReader.close();
-            
-            showAlert(Alert.AlertType.INFORMATION, "Append Complete", 
-                     "Backup events successfully appended to current events!");
-            
-        } finally {
-            // Clean up temporary files
-            java.nio.file.Files.deleteIfExists(tempEventPath);
-            java.nio.file.Files.deleteIfExists(tempRecurrentPath);
-            java.nio.file.Files.deleteIfExists(tempAdditionalPath);
+    private void appendBackupToExisting(EventManager backup) {
+        for (MainEvent backupEvent : backup.getAllEvents()) {
+            MainEvent event = new MainEvent(manager.generateEventId(), backupEvent.getTitle(),
+                                            backupEvent.getDescription(), backupEvent.getStartDateTime(),
+                                            backupEvent.getEndDateTime());
+            manager.addEvent(event);
         }
+
+        showAlert(Alert.AlertType.INFORMATION, "Append Complete", 
+                 "Backup events successfully appended to current events!");
     }
 
     private void showEventStatisticsDialog() {
@@ -2404,11 +2619,9 @@ public class CalendarAppGUI extends Application {
         dialog.setTitle("📊 Event Statistics");
         dialog.setHeaderText("Event Analytics & Insights");
         
-        // Get all expanded events for accurate statistics
-        List<MainEvent> allEvents = manager.getAllEventsExpanded();
-        
-        // Generate statistics report
-        String report = EventStatistics.generateStatisticsReport(allEvents);
+        // The running statistics already cover every occurrence - just format them
+        StatisticsSnapshot stats = manager.getLiveStatistics().getSnapshot(LocalDateTime.now());
+        String report = EventStatistics.formatReport(stats);
         
         // Create TextArea to display statistics
         TextArea statsArea = new TextArea(report);
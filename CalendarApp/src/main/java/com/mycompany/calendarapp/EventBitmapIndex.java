@@ -0,0 +1,263 @@
+package com.mycompany.calendarapp;
+
+import java.util.ArrayList;  // For creating array lists
+import java.util.Collections;  // For read-only views
+import java.util.HashMap;  // For value -> bitmap tables
+import java.util.IdentityHashMap;  // For remembering what each event was indexed under
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+import java.util.Set;  // Set interface
+
+/**
+ * EventBitmapIndex Class
+ *
+ * Bitmap indexes over event IDs for the fields that only have a few different
+ * values: one RoaringBitmap per category, one per priority, and one for the events
+ * that have a reminder.
+ *
+ * Purpose:
+ * - Answer "all HIGH priority Meetings" (and any mix of category, priority and
+ *   reminder filters) by ANDing a few bitmaps instead of comparing strings on
+ *   every event
+ * - Count the events of a category or priority straight away
+ *
+ * How It Works:
+ * - It listens to EventManager. The values each event was indexed under are
+ *   remembered, so an edited event can be taken out of its old bitmaps first
+ * - Occurrences share the category, priority and reminder of their series, so a
+ *   recurring event is indexed once under its ID
+ * - Two events can share an ID (e.g. from a file). The bitmaps are sets, so when one
+ *   of them is removed the bits of the others are put back (each ID keeps a list of
+ *   its events), and hasSharedIds() tells searches that an ID may stand for events
+ *   with different values
+ */
+public class EventBitmapIndex implements EventChangeListener {
+
+    // Instance variables
+    private final EventManager manager;  // The events being indexed
+    private final Map<String, RoaringBitmap> byCategory = new HashMap<>();  // Category -> event IDs
+    private final Map<String, RoaringBitmap> byPriority = new HashMap<>();  // Priority -> event IDs
+    private final RoaringBitmap withReminder = new RoaringBitmap();  // Events that have a reminder
+    private final Map<MainEvent, Indexed> indexed = new IdentityHashMap<>();  // What each event was indexed under
+    private final Map<Integer, List<Indexed>> byId = new HashMap<>();  // ID -> what each event using it was indexed under
+    private int sharedCount;  // Events whose ID an earlier event already uses
+
+    /**
+     * Constructor - Indexes every event in a manager and starts listening for changes
+     *
+     * @param manager The EventManager to index
+     */
+    public EventBitmapIndex(EventManager manager) {
+        this.manager = manager;
+        for (MainEvent event : manager.getAllEvents()) {
+            add(event);
+        }
+        manager.addChangeListener(this);
+    }
+
+    /**
+     * Stop following the manager
+     */
+    public void close() {
+        manager.removeChangeListener(this);
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        add(event);
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        remove(event);
+        add(event);
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        remove(event);
+    }
+
+    @Override
+    public void eventsCleared() {
+        byCategory.clear();
+        byPriority.clear();
+        withReminder.clear();
+        indexed.clear();
+        byId.clear();
+        sharedCount = 0;
+    }
+
+    // ---- Queries ----
+
+    /**
+     * Find the events matching a mix of category, priority and reminder filters
+     *
+     * The bitmaps of the given filters are ANDed, smallest first.
+     *
+     * @param category Exact category, or null for any
+     * @param priority Exact priority, or null for any
+     * @param remindersOnly true to keep only events with a reminder
+     * @return A new bitmap of the matching event IDs, or null if no filter was given
+     */
+    public RoaringBitmap matching(String category, String priority, boolean remindersOnly) {
+        List<RoaringBitmap> bitmaps = new ArrayList<>();
+        if (category != null) bitmaps.add(byCategory.getOrDefault(category, new RoaringBitmap()));
+        if (priority != null) bitmaps.add(byPriority.getOrDefault(priority, new RoaringBitmap()));
+        if (remindersOnly) bitmaps.add(withReminder);
+        if (bitmaps.isEmpty()) return null;
+
+        bitmaps.sort((a, b) -> Integer.compare(a.cardinality(), b.cardinality()));
+        RoaringBitmap result = bitmaps.get(0);
+        for (int i = 1; i < bitmaps.size() && !result.isEmpty(); i++) {
+            result = RoaringBitmap.and(result, bitmaps.get(i));
+        }
+        return result == bitmaps.get(0) ? result.copy() : result;  // Never hand out a live bitmap
+    }
+
+    /**
+     * Count the events of a category
+     *
+     * @param category The category
+     * @return Number of events (a recurring event counts once)
+     */
+    public int countCategory(String category) {
+        RoaringBitmap ids = byCategory.get(category);
+        return ids == null ? 0 : ids.cardinality();
+    }
+
+    /**
+     * Count the events of a priority
+     *
+     * @param priority The priority
+     * @return Number of events (a recurring event counts once)
+     */
+    public int countPriority(String priority) {
+        RoaringBitmap ids = byPriority.get(priority);
+        return ids == null ? 0 : ids.cardinality();
+    }
+
+    /**
+     * Count the events that have a reminder
+     *
+     * @return Number of events (a recurring event counts once)
+     */
+    public int countWithReminder() {
+        return withReminder.cardinality();
+    }
+
+    /**
+     * Get the categories in use
+     *
+     * @return Read-only set of category names
+     */
+    public Set<String> getCategories() {
+        return Collections.unmodifiableSet(byCategory.keySet());
+    }
+
+    /**
+     * Check whether two indexed events share an ID
+     *
+     * If so, an ID in a result may also stand for an event that does not match,
+     * and callers should still check the values themselves.
+     *
+     * @return true if some ID is used by more than one event
+     */
+    public boolean hasSharedIds() {
+        return sharedCount > 0;
+    }
+
+    /**
+     * Get the number of indexed events
+     *
+     * @return Event count
+     */
+    public int size() {
+        return indexed.size();
+    }
+
+    /**
+     * Estimate the memory used by the bitmaps
+     *
+     * @return Approximate size in bytes
+     */
+    public long memoryBytes() {
+        long bytes = withReminder.memoryBytes();
+        for (RoaringBitmap ids : byCategory.values()) bytes += ids.memoryBytes();
+        for (RoaringBitmap ids : byPriority.values()) bytes += ids.memoryBytes();
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EventBitmapIndex[%d events, %d categories, %d priorities, ~%d bytes]",
+            indexed.size(), byCategory.size(), byPriority.size(), memoryBytes());
+    }
+
+    // ---- Updating ----
+
+    private void add(MainEvent event) {
+        Indexed entry = new Indexed(event.getEventId(), event.getCategory(), event.getPriority(),
+            event.getReminder() != null);
+        List<Indexed> sameId = byId.computeIfAbsent(entry.id, key -> new ArrayList<>(1));
+        if (!sameId.isEmpty()) sharedCount++;
+        sameId.add(entry);
+        setBits(entry);
+        indexed.put(event, entry);
+    }
+
+    private void remove(MainEvent event) {
+        Indexed old = indexed.remove(event);
+        if (old == null) return;
+
+        // Use the values it was indexed under - the event may have changed since
+        clearBits(old);
+        List<Indexed> sameId = byId.get(old.id);
+        sameId.remove(old);
+        if (sameId.isEmpty()) {
+            byId.remove(old.id);
+            return;
+        }
+        sharedCount--;
+        for (Indexed other : sameId) {
+            setBits(other);  // Put back what the other events with this ID need
+        }
+    }
+
+    private void setBits(Indexed entry) {
+        if (entry.category != null) byCategory.computeIfAbsent(entry.category, key -> new RoaringBitmap()).add(entry.id);
+        if (entry.priority != null) byPriority.computeIfAbsent(entry.priority, key -> new RoaringBitmap()).add(entry.id);
+        if (entry.hasReminder) withReminder.add(entry.id);
+    }
+
+    private void clearBits(Indexed entry) {
+        clear(byCategory, entry.category, entry.id);
+        clear(byPriority, entry.priority, entry.id);
+        if (entry.hasReminder) withReminder.remove(entry.id);
+    }
+
+    private static void clear(Map<String, RoaringBitmap> table, String value, int id) {
+        if (value == null) return;
+        RoaringBitmap ids = table.get(value);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) table.remove(value);
+    }
+
+    /**
+     * The ID and values an event was indexed under
+     */
+    private static class Indexed {
+        private final int id;
+        private final String category;
+        private final String priority;
+        private final boolean hasReminder;
+
+        Indexed(int id, String category, String priority, boolean hasReminder) {
+            this.id = id;
+            this.category = category;
+            this.priority = priority;
+            this.hasReminder = hasReminder;
+        }
+    }
+}
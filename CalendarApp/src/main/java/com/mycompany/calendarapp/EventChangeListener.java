@@ -0,0 +1,45 @@
+package com.mycompany.calendarapp;
+
+/**
+ * EventChangeListener Interface
+ *
+ * Implemented by anything that needs to hear about changes made through an
+ * EventManager, such as the save journal.
+ *
+ * Purpose:
+ * - Let other parts of the application react to added, edited and deleted events
+ *   without EventManager knowing about them
+ *
+ * How It Works:
+ * - Register with EventManager.addChangeListener
+ * - EventManager calls these methods right after each change has been applied
+ * - Edits made through setters are only reported once EventManager.updateEvent is called
+ */
+public interface EventChangeListener {
+
+    /**
+     * Called after an event has been added
+     *
+     * @param event The new event
+     */
+    void eventAdded(MainEvent event);
+
+    /**
+     * Called after an event has been edited in place
+     *
+     * @param event The edited event
+     */
+    void eventUpdated(MainEvent event);
+
+    /**
+     * Called after an event has been deleted
+     *
+     * @param event The removed event
+     */
+    void eventDeleted(MainEvent event);
+
+    /**
+     * Called after every event has been removed
+     */
+    void eventsCleared();
+}
@@ -0,0 +1,168 @@
+package com.mycompany.calendarapp;
+
+import java.util.ArrayList;  // For creating array lists
+import java.util.BitSet;  // For yes/no columns
+import java.util.HashMap;  // For the category dictionary
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+
+/**
+ * EventColumns Class
+ *
+ * A read-only, column-by-column copy of a list of events, made for the statistics
+ * code. Instead of one object per event, each field is kept in its own array, so a
+ * statistic that only needs start times reads one long[] from start to end.
+ *
+ * Purpose:
+ * - Let EventStatistics scan large expanded event lists quickly
+ * - Keep the memory of a snapshot small (no per-event objects besides the source list)
+ *
+ * Columns (one entry per row, in the order of the source list):
+ * - ids: event ID
+ * - starts, ends: times as MainEvent epoch seconds
+ * - priorities: PRIORITY_HIGH, PRIORITY_MEDIUM, PRIORITY_LOW or PRIORITY_OTHER
+ * - categories: index into the category dictionary (getCategoryName)
+ * - hasReminder: bit set when the event has a reminder
+ * - recurring: bit set when the row is a RecurringEvent (not one of its occurrences)
+ *
+ * The columns are filled once when the snapshot is built; later changes to the
+ * events are not seen. Build a new snapshot with of() after events change.
+ */
+public class EventColumns {
+
+    // Constants
+    public static final byte PRIORITY_HIGH = 0;
+    public static final byte PRIORITY_MEDIUM = 1;
+    public static final byte PRIORITY_LOW = 2;
+    public static final byte PRIORITY_OTHER = 3;  // Missing or unknown priority
+
+    // Columns (package-private so EventStatistics can scan the arrays directly)
+    final int size;  // Number of rows
+    final int[] ids;  // Event IDs
+    final long[] starts;  // Start times (epoch seconds)
+    final long[] ends;  // End times (epoch seconds)
+    final byte[] priorities;  // Priority codes
+    final int[] categories;  // Category dictionary codes
+    final BitSet hasReminder;  // Rows with a reminder
+    final BitSet recurring;  // Rows that are recurring series
+
+    // Instance variables
+    private final List<String> categoryNames;  // Category dictionary: code -> name
+    private final List<MainEvent> source;  // The events the rows were built from
+
+    private EventColumns(List<MainEvent> events) {
+        this.size = events.size();
+        this.ids = new int[size];
+        this.starts = new long[size];
+        this.ends = new long[size];
+        this.priorities = new byte[size];
+        this.categories = new int[size];
+        this.hasReminder = new BitSet(size);
+        this.recurring = new BitSet(size);
+        this.categoryNames = new ArrayList<>();
+        this.source = events;
+
+        Map<String, Integer> categoryCodes = new HashMap<>();
+        for (int row = 0; row < size; row++) {
+            MainEvent event = events.get(row);
+            ids[row] = event.getEventId();
+            starts[row] = event.getStartEpochSecond();
+            ends[row] = event.getEndEpochSecond();
+            priorities[row] = priorityCode(event.getPriority());
+
+            String category = event.getCategory();
+            Integer code = categoryCodes.get(category);
+            if (code == null) {
+                code = categoryNames.size();
+                categoryCodes.put(category, code);
+                categoryNames.add(category);
+            }
+            categories[row] = code;
+
+            if (event.getReminder() != null) hasReminder.set(row);
+            if (event instanceof RecurringEvent) recurring.set(row);
+        }
+    }
+
+    /**
+     * Build a snapshot of a list of events
+     *
+     * @param events The events, in the order the rows should have
+     *               (the list is kept to look up rows with getEvent, so do not change it)
+     * @return The column snapshot
+     */
+    public static EventColumns of(List<MainEvent> events) {
+        return new EventColumns(events);
+    }
+
+    /**
+     * Build a snapshot of all occurrences in an EventManager
+     *
+     * Uses getAllEventsExpanded(), so each occurrence of a recurring series is a row.
+     *
+     * @param manager The EventManager
+     * @return The column snapshot
+     */
+    public static EventColumns of(EventManager manager) {
+        return new EventColumns(manager.getAllEventsExpanded());
+    }
+
+    /**
+     * Get the number of rows
+     *
+     * @return Row count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the event a row was built from
+     *
+     * @param row The row
+     * @return The event (or occurrence)
+     */
+    public MainEvent getEvent(int row) {
+        return source.get(row);
+    }
+
+    /**
+     * Get the category name of a dictionary code
+     *
+     * @param code A value from the categories column
+     * @return The category name (may be null if an event had no category)
+     */
+    public String getCategoryName(int code) {
+        return categoryNames.get(code);
+    }
+
+    /**
+     * Get the number of different categories
+     *
+     * @return Dictionary size
+     */
+    public int getCategoryCount() {
+        return categoryNames.size();
+    }
+
+    /**
+     * Turn a priority string into its column code
+     *
+     * @param priority "HIGH", "MEDIUM" or "LOW" (any case); anything else is PRIORITY_OTHER
+     * @return The priority code
+     */
+    public static byte priorityCode(String priority) {
+        if (priority == null) return PRIORITY_OTHER;
+        switch (priority.toUpperCase()) {
+            case "HIGH": return PRIORITY_HIGH;
+            case "MEDIUM": return PRIORITY_MEDIUM;
+            case "LOW": return PRIORITY_LOW;
+            default: return PRIORITY_OTHER;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("EventColumns[%d rows, %d categories]", size, categoryNames.size());
+    }
+}
@@ -0,0 +1,176 @@
+package com.mycompany.calendarapp;
+
+import java.util.Arrays;  // For clearing the tables
+
+/**
+ * EventIdMap Class
+ *
+ * A hash map from event ID (a plain int) to its MainEvent, used by EventManager
+ * so lookups by ID don't have to scan the whole event list.
+ *
+ * Purpose:
+ * - Find, add and remove events by ID in constant time
+ * - Avoid the Integer objects a HashMap<Integer, MainEvent> would create per key
+ *
+ * How It Works:
+ * - Keys and values live in two parallel arrays (open addressing)
+ * - A key's slot comes from a hash of the ID; on a collision the next slot is tried
+ * - An empty slot is one whose value is null
+ * - The arrays double in size when they become half full
+ * - Removal shifts later entries back so lookups never hit a gap too early
+ */
+public class EventIdMap {
+
+    // Constants
+    private static final int DEFAULT_CAPACITY = 16;  // Starting table size (always a power of two)
+
+    // Instance variables
+    private int[] keys;  // Event IDs
+    private MainEvent[] values;  // Events, null marks an empty slot
+    private int size = 0;  // Number of stored entries
+    private int mask;  // keys.length - 1, for fast modulo
+
+    /**
+     * Constructor - Creates an empty map
+     */
+    public EventIdMap() {
+        keys = new int[DEFAULT_CAPACITY];
+        values = new MainEvent[DEFAULT_CAPACITY];
+        mask = DEFAULT_CAPACITY - 1;
+    }
+
+    /**
+     * Get the event stored under an ID
+     *
+     * @param id The event ID
+     * @return The event, or null if none is stored
+     */
+    public MainEvent get(int id) {
+        int slot = slotOf(id);
+        while (values[slot] != null) {
+            if (keys[slot] == id) return values[slot];
+            slot = (slot + 1) & mask;  // Try the next slot
+        }
+        return null;
+    }
+
+    /**
+     * Check whether an ID is stored
+     *
+     * @param id The event ID
+     * @return true if the map holds an event with this ID
+     */
+    public boolean containsKey(int id) {
+        return get(id) != null;
+    }
+
+    /**
+     * Store an event under an ID, replacing any previous event
+     *
+     * @param id The event ID
+     * @param event The event (must not be null)
+     * @return The event previously stored under this ID, or null
+     */
+    public MainEvent put(int id, MainEvent event) {
+        int slot = slotOf(id);
+        while (values[slot] != null) {
+            if (keys[slot] == id) {
+                MainEvent previous = values[slot];
+                values[slot] = event;
+                return previous;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = id;
+        values[slot] = event;
+        size++;
+        if (size * 2 > keys.length) grow();  // Keep the table at most half full
+        return null;
+    }
+
+    /**
+     * Remove the event stored under an ID
+     *
+     * @param id The event ID
+     * @return The removed event, or null if none was stored
+     */
+    public MainEvent remove(int id) {
+        int slot = slotOf(id);
+        while (values[slot] != null) {
+            if (keys[slot] == id) {
+                MainEvent removed = values[slot];
+                closeGap(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Get the number of stored events
+     *
+     * @return Entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Remove all entries
+     */
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+    }
+
+    /**
+     * Compute the home slot for an ID (multiplicative hashing spreads sequential IDs)
+     */
+    private int slotOf(int id) {
+        int h = id * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * Empty a slot and move back any following entries that would otherwise
+     * become unreachable (backward-shift deletion)
+     */
+    private void closeGap(int gap) {
+        int slot = (gap + 1) & mask;
+        while (values[slot] != null) {
+            int home = slotOf(keys[slot]);
+            // Move the entry if its home slot is not between the gap and its current slot
+            boolean canMove = (slot > gap) ? (home <= gap || home > slot) : (home <= gap && home > slot);
+            if (canMove) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    /**
+     * Double the table size and re-insert every entry
+     */
+    private void grow() {
+        int[] oldKeys = keys;
+        MainEvent[] oldValues = values;
+        keys = new int[oldKeys.length * 2];
+        values = new MainEvent[oldKeys.length * 2];
+        mask = keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slotOf(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+            }
+        }
+    }
+}
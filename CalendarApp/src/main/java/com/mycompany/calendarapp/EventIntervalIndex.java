@@ -0,0 +1,241 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDateTime;  // For date and time handling
+import java.util.ArrayList;  // For creating array lists
+import java.util.IdentityHashMap;  // For mapping each stored event to its tree node
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+import java.util.Random;  // For treap node priorities
+
+/**
+ * EventIntervalIndex Class
+ *
+ * An augmented interval tree over the events held by EventManager. Each event is
+ * stored as one interval covering its whole time span; for a RecurringEvent that is
+ * the span from the first occurrence's start to the last occurrence's end.
+ *
+ * Purpose:
+ * - Answer "which events touch this time window?" without scanning every event
+ * - Stay up to date as events are added, updated and deleted
+ *
+ * How It Works:
+ * - The tree is a treap (a binary search tree balanced by random priorities),
+ *   ordered by interval start
+ * - Every node remembers the latest end time found anywhere in its subtree, so whole
+ *   subtrees that finish before the query window can be skipped
+ * - A query costs O(log n + k), where k is the number of events returned
+ *
+ * The index only narrows down candidates. Callers still check the exact occurrence
+ * times of recurring events against the window.
+ */
+public class EventIntervalIndex {
+
+    /**
+     * One tree node, holding a single event and its time span
+     */
+    private static final class Node {
+        final MainEvent event;  // The indexed event
+        final long low;  // Span start (epoch seconds)
+        final long high;  // Span end (epoch seconds)
+        final long seq;  // Insertion number, breaks ties between equal starts
+        final int priority;  // Random heap priority that keeps the tree balanced
+        long maxHigh;  // Latest span end anywhere in this subtree
+        Node left;
+        Node right;
+
+        Node(MainEvent event, long low, long high, long seq, int priority) {
+            this.event = event;
+            this.low = low;
+            this.high = high;
+            this.seq = seq;
+            this.priority = priority;
+            this.maxHigh = high;
+        }
+    }
+
+    // Instance variables
+    private Node root;  // Root of the treap
+    private final Map<MainEvent, Node> nodes = new IdentityHashMap<>();  // Event -> its node, for removal
+    private final Random random = new Random();
+    private long nextSeq = 0;  // Counter for node insertion numbers
+
+    /**
+     * Add an event to the index
+     *
+     * Recurring events that produce no occurrences are not indexed.
+     *
+     * @param event The event to add
+     */
+    public void add(MainEvent event) {
+        if (nodes.containsKey(event)) return;  // Already indexed
+
+        long low = event.getStartEpochSecond();
+        long high = spanEndOf(event);
+        if (low == MainEvent.NO_TIME || high == MainEvent.NO_TIME) return;  // Nothing to index
+        high = Math.max(low, high);
+        Node node = new Node(event, low, high, nextSeq++, random.nextInt());
+        root = insert(root, node);
+        nodes.put(event, node);
+    }
+
+    /**
+     * Remove an event from the index
+     *
+     * @param event The event to remove
+     * @return true if the event was indexed and has been removed
+     */
+    public boolean remove(MainEvent event) {
+        Node node = nodes.remove(event);
+        if (node == null) return false;
+        root = delete(root, node);
+        return true;
+    }
+
+    /**
+     * Re-index an event whose times were changed in place
+     *
+     * @param event The edited event
+     */
+    public void update(MainEvent event) {
+        remove(event);
+        add(event);
+    }
+
+    /**
+     * Remove every event from the index
+     */
+    public void clear() {
+        root = null;
+        nodes.clear();
+    }
+
+    /**
+     * Get the number of indexed events
+     *
+     * @return Count of events in the tree
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Find all events whose span touches the given window
+     *
+     * Both ends of the window are inclusive, so the result is a superset of the
+     * events that actually have an occurrence inside it.
+     *
+     * @param from Window start
+     * @param to Window end
+     * @return Candidate events, ordered by span start
+     */
+    public List<MainEvent> candidates(LocalDateTime from, LocalDateTime to) {
+        List<MainEvent> result = new ArrayList<>();
+        collect(root, MainEvent.toEpochSecond(from), MainEvent.toEpochSecond(to), result);
+        return result;
+    }
+
+    /**
+     * Walk the tree and collect nodes overlapping [from, to]
+     *
+     * Left subtrees are skipped when nothing in them ends late enough, and the walk
+     * stops going right once node starts pass the end of the window.
+     */
+    private void collect(Node node, long from, long to, List<MainEvent> out) {
+        if (node == null || node.maxHigh < from) return;  // Whole subtree ends too early
+        collect(node.left, from, to, out);
+        if (node.low > to) return;  // This node and everything to its right start too late
+        if (node.high >= from) out.add(node.event);
+        collect(node.right, from, to, out);
+    }
+
+    /**
+     * Work out when an event's last occurrence ends
+     *
+     * @return The end of the event's span as a MainEvent epoch second, or
+     *         MainEvent.NO_TIME if it has no occurrences
+     */
+    private static long spanEndOf(MainEvent event) {
+        if (event instanceof RecurringEvent) {
+            return MainEvent.toEpochSecond(((RecurringEvent) event).getLastOccurrenceEnd());
+        }
+        long start = event.getStartEpochSecond();
+        long end = event.getEndEpochSecond();
+        if (end == MainEvent.NO_TIME || end < start) return start;  // Treat bad ranges as a single instant
+        return end;
+    }
+
+    // ---- Treap maintenance ----
+
+    private static boolean lessThan(Node a, Node b) {
+        if (a.low != b.low) return a.low < b.low;
+        return a.seq < b.seq;
+    }
+
+    private static void refresh(Node node) {
+        long max = node.high;
+        if (node.left != null && node.left.maxHigh > max) max = node.left.maxHigh;
+        if (node.right != null && node.right.maxHigh > max) max = node.right.maxHigh;
+        node.maxHigh = max;
+    }
+
+    private static Node rotateRight(Node node) {
+        Node pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        refresh(node);
+        refresh(pivot);
+        return pivot;
+    }
+
+    private static Node rotateLeft(Node node) {
+        Node pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        refresh(node);
+        refresh(pivot);
+        return pivot;
+    }
+
+    private static Node insert(Node node, Node added) {
+        if (node == null) return added;
+        if (lessThan(added, node)) {
+            node.left = insert(node.left, added);
+            if (node.left.priority > node.priority) node = rotateRight(node);
+        } else {
+            node.right = insert(node.right, added);
+            if (node.right.priority > node.priority) node = rotateLeft(node);
+        }
+        refresh(node);
+        return node;
+    }
+
+    private static Node delete(Node node, Node target) {
+        if (node == null) return null;
+        if (node == target) {
+            return merge(node.left, node.right);
+        }
+        if (lessThan(target, node)) {
+            node.left = delete(node.left, target);
+        } else {
+            node.right = delete(node.right, target);
+        }
+        refresh(node);
+        return node;
+    }
+
+    /**
+     * Join two treaps where every node in the left one sorts before the right one
+     */
+    private static Node merge(Node left, Node right) {
+        if (left == null) return right;
+        if (right == null) return left;
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            refresh(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        refresh(right);
+        return right;
+    }
+}
@@ -0,0 +1,555 @@
+package com.mycompany.calendarapp;
+
+import java.io.IOException;  // For file errors
+import java.nio.ByteBuffer;  // For file contents
+import java.nio.channels.FileChannel;  // For appending and syncing the journal
+import java.nio.charset.StandardCharsets;  // For UTF-8 encoding
+import java.nio.file.Files;  // For file sizes
+import java.nio.file.Path;  // For file locations
+import java.nio.file.Paths;  // For building file paths
+import java.nio.file.StandardOpenOption;  // For opening the journal file
+import java.time.DateTimeException;  // Thrown for invalid dates
+import java.time.LocalDateTime;  // For date and time handling
+import java.time.format.DateTimeFormatter;  // For formatting dates
+import java.util.ArrayList;  // For collecting record fields
+import java.util.List;  // List interface
+import java.util.concurrent.ExecutorService;  // Background writer thread
+import java.util.concurrent.Executors;  // For creating the writer thread
+import java.util.concurrent.RejectedExecutionException;  // Thrown once the journal is closed
+import java.util.concurrent.TimeUnit;  // For waiting on the writer thread
+import java.util.zip.CRC32;  // For record checksums
+
+/**
+ * EventJournal Class
+ *
+ * A write-ahead log of changes made to an EventManager. Instead of rewriting
+ * event.csv, recurrent.csv and additional.csv after every edit, each change is
+ * appended to journal.log as one line and synced to disk by a background thread.
+ * Now and then the journal is compacted: the events are saved in full and the
+ * journal is emptied.
+ *
+ * Purpose:
+ * - Make saving a single edit cost the same no matter how many events exist
+ * - Persist every change immediately, so nothing is lost if the app is closed
+ *   without "Save & Exit"
+ *
+ * How It Works:
+ * 1. The CSV files are loaded as usual, then open() is called
+ * 2. Any records left in the journal are replayed on top of the loaded events
+ * 3. The journal then listens to the manager and queues ADD, UPDATE, DELETE or
+ *    CLEAR records. A background thread appends whatever is queued and syncs the
+ *    file once for the whole batch (group commit), so an edit made on the JavaFX
+ *    thread never waits for the disk. flush() (also called by close()) waits
+ *    until every queued record is on disk
+ * 4. After COMPACT_THRESHOLD records (or on compact()) the events are saved in
+ *    full (CSVHandlerCompliant.saveEventsAtomic) and the journal is truncated
+ * 5. When snapshots are saved elsewhere (AutosaveService), checkpoint() marks the
+ *    journal position of the snapshot and discardUpTo() drops only the records
+ *    the saved snapshot already contains
+ *
+ * Record Format (CSV, one per line):
+ * - ADD/UPDATE: op, eventId, title, description, startDateTime, endDateTime,
+ *   recurrentInterval, recurrentTimes, recurrentEndDate, location, category, priority,
+ *   reminderMinutes, reminderOverrides, crc
+ * - DELETE: op, eventId, crc
+ * - CLEAR: op, crc
+ * The recurrence columns are empty for normal events and the reminder columns are
+ * empty for events without a reminder. crc is a CRC-32 of the rest of the line,
+ * so a record torn by a crash is recognised and ignored.
+ *
+ * ADD and UPDATE records carry the whole event, so replaying a journal over CSV
+ * files that already contain its changes gives the same result.
+ */
+public class EventJournal implements EventChangeListener {
+
+    // Constants
+    public static final String JOURNAL_FILE = "journal.log";  // Default journal location
+    private static final int COMPACT_THRESHOLD = 1000;  // Records to allow before compacting
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    // Instance variables
+    private final EventManager manager;  // The events being journaled
+    private final Path file;  // Journal file location
+    private final ExecutorService writer;  // Background thread that appends and syncs records
+    private final Object fileLock = new Object();  // Guards channel, length and discarded
+    private FileChannel channel;  // Open journal, or null until the first write
+    private long length = 0;  // Bytes currently in the journal file
+    private long discarded = 0;  // Bytes removed from the front of the journal so far
+    // The fields below are guarded by this
+    private List<byte[]> pending = new ArrayList<>();  // Records waiting for the writer thread
+    private boolean writeScheduled = false;  // A writePending task is queued
+    private long appended = 0;  // Journal position after the last queued record
+    private long durable = 0;  // Journal position up to which records are synced to disk
+    private int failedWrites = 0;  // Batches that could not be written
+    private int recordCount = 0;  // Records in the journal since the last compaction
+    private boolean autoCompact = true;  // Compact automatically after COMPACT_THRESHOLD records
+
+    /**
+     * Constructor - Creates a journal for a manager (not yet attached)
+     *
+     * @param manager The EventManager whose changes are recorded
+     * @param file Where the journal is stored
+     */
+    public EventJournal(EventManager manager, Path file) {
+        this.manager = manager;
+        this.file = file;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal");
+            thread.setDaemon(true);  // Do not keep the application alive
+            return thread;
+        });
+    }
+
+    /**
+     * Replay the default journal into a manager and start recording its changes
+     *
+     * @param manager The EventManager, already loaded from the CSV files
+     * @return The attached journal
+     */
+    public static EventJournal open(EventManager manager) {
+        return open(manager, Paths.get(JOURNAL_FILE));
+    }
+
+    /**
+     * Replay a journal into a manager and start recording its changes
+     *
+     * @param manager The EventManager, already loaded from the CSV files
+     * @param file Journal file location
+     * @return The attached journal
+     */
+    public static EventJournal open(EventManager manager, Path file) {
+        EventJournal journal = new EventJournal(manager, file);
+        boolean clean = journal.replay();
+        try {
+            journal.length = Files.exists(file) ? Files.size(file) : 0;
+        } catch (IOException ex) {
+            clean = false;  // Compacting below resets the journal
+        }
+        journal.appended = journal.length;
+        journal.durable = journal.length;
+        manager.addChangeListener(journal);
+        if (!clean) {
+            journal.compact();  // Drop the torn tail so new records start on a fresh line
+        }
+        return journal;
+    }
+
+    /**
+     * Save all events in full and empty the journal
+     *
+     * Must be called on the thread that edits the events.
+     */
+    public void compact() {
+        long mark = checkpoint();  // Every record so far is covered by the save below
+        if (!CSVHandlerCompliant.saveEventsAtomic(manager)) {
+            return;  // Keep the journal - it still holds edits the saved files lack
+        }
+        discardUpTo(mark);
+    }
+
+    /**
+     * Turn automatic compaction on or off
+     *
+     * Turned off when an AutosaveService saves the CSV files instead, so that
+     * only one of them writes snapshots.
+     *
+     * @param autoCompact true to compact after COMPACT_THRESHOLD records
+     */
+    public synchronized void setAutoCompact(boolean autoCompact) {
+        this.autoCompact = autoCompact;
+    }
+
+    /**
+     * Mark the current end of the journal
+     *
+     * Call this at the moment a snapshot of the events is taken. Once that
+     * snapshot has been saved, discardUpTo(mark) removes the records it covers.
+     *
+     * @return The journal position of the snapshot (counted from when the journal was opened)
+     */
+    public synchronized long checkpoint() {
+        return appended;
+    }
+
+    /**
+     * Remove the records before a checkpoint, keeping any written after it
+     *
+     * Waits for the writer thread to sync the records up to the checkpoint first.
+     *
+     * @param checkpoint A value returned by checkpoint()
+     */
+    public void discardUpTo(long checkpoint) {
+        if (!waitUntilDurable(checkpoint)) {
+            return;  // Those records never reached the file - keep it as it is
+        }
+        synchronized (fileLock) {
+            discardSyncedUpTo(checkpoint);
+        }
+    }
+
+    /**
+     * Remove the records before a checkpoint that is already on disk (holding fileLock)
+     */
+    private void discardSyncedUpTo(long checkpoint) {
+        long position = checkpoint - discarded;  // Offset in the current file
+        if (position <= 0) return;  // Already discarded
+        try {
+            FileChannel ch = channel();
+            if (position >= length) {
+                ch.truncate(0);  // Nothing newer than the snapshot
+                ch.force(true);
+                discarded += length;
+                length = 0;
+                synchronized (this) {
+                    recordCount = pending.size();
+                }
+                return;
+            }
+
+            // Copy the newer records to a fresh file and swap it in
+            ByteBuffer tail = ByteBuffer.allocate((int) (length - position));
+            while (tail.hasRemaining() && ch.read(tail, position + tail.position()) >= 0) {
+                // Keep reading until the tail is complete
+            }
+            tail.flip();
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+                while (tail.hasRemaining()) {
+                    out.write(tail);
+                }
+                out.force(true);
+            }
+            ch.close();
+            channel = null;
+            AtomicCSVSaver.moveAtomically(temp, file);
+
+            discarded += position;
+            length -= position;
+            int tailRecords = 0;
+            for (int i = 0; i < tail.limit(); i++) {
+                if (tail.get(i) == '\n') tailRecords++;  // Approximate: quoted line breaks also count
+            }
+            synchronized (this) {
+                recordCount = tailRecords + pending.size();
+            }
+        } catch (IOException ex) {
+            System.out.println("Error compacting journal: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Wait until every record queued so far is synced to disk
+     *
+     * @return true if they all were, false if writing them failed
+     */
+    public boolean flush() {
+        return waitUntilDurable(checkpoint());
+    }
+
+    /**
+     * Stop recording changes, write the records still queued and close the journal file
+     */
+    public void close() {
+        manager.removeChangeListener(this);
+        flush();
+        writer.shutdown();
+        try {
+            writer.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (fileLock) {
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException ex) {
+                    System.out.println("Error closing journal: " + ex.getMessage());
+                }
+                channel = null;
+            }
+        }
+    }
+
+    /**
+     * Get the number of records written since the last compaction
+     *
+     * @return Record count
+     */
+    public synchronized int getRecordCount() {
+        return recordCount;
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        append(eventRecord("ADD", event));
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        append(eventRecord("UPDATE", event));
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        append("DELETE," + event.getEventId());
+    }
+
+    @Override
+    public void eventsCleared() {
+        append("CLEAR");
+    }
+
+    // ---- Writing ----
+
+    /**
+     * Build the body of an ADD or UPDATE record
+     */
+    private static String eventRecord(String op, MainEvent e) {
+        String interval = "";
+        String times = "";
+        String endDate = "";
+        if (e instanceof RecurringEvent) {
+            RecurrentEventData rd = CSVHandlerCompliant.toRecurrentData((RecurringEvent) e);
+            interval = rd.getRecurrentInterval();
+            times = String.valueOf(rd.getRecurrentTimes());
+            endDate = rd.getRecurrentEndDate();
+        }
+        return op + "," + e.getEventId() + "," +
+               CSVHandlerCompliant.escapeCsvValue(e.getTitle()) + "," +
+               CSVHandlerCompliant.escapeCsvValue(e.getDescription()) + "," +
+               e.getStartDateTime().format(formatter) + "," +
+               e.getEndDateTime().format(formatter) + "," +
+               interval + "," + times + "," + endDate + "," +
+               CSVHandlerCompliant.escapeCsvValue(e.getLocation()) + "," +
+               CSVHandlerCompliant.escapeCsvValue(e.getCategory()) + "," +
+               CSVHandlerCompliant.escapeCsvValue(e.getPriority()) + "," +
+               (e.getReminder() != null ? e.getReminder().getMinutesBefore() + "," +
+                   ReminderCSVHandler.formatOverrides(e.getReminder()) : ",");
+    }
+
+    /**
+     * Queue one record with its checksum for the writer thread
+     *
+     * Returns straight away; the record is on disk once flush() returns.
+     */
+    private void append(String body) {
+        byte[] line = (body + "," + checksum(body) + "\n").getBytes(StandardCharsets.UTF_8);
+        boolean compactNow;
+        synchronized (this) {
+            pending.add(line);
+            appended += line.length;
+            recordCount++;
+            scheduleWrite();
+            compactNow = autoCompact && recordCount >= COMPACT_THRESHOLD;
+        }
+        if (compactNow) {
+            compact();
+        }
+    }
+
+    /**
+     * Queue a writePending task unless one is queued already (holding this)
+     *
+     * @return false if the writer thread has been shut down
+     */
+    private boolean scheduleWrite() {
+        if (writeScheduled || pending.isEmpty()) return true;
+        try {
+            writer.execute(this::writePending);
+            writeScheduled = true;
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;  // Closed
+        }
+    }
+
+    /**
+     * Append every queued record and sync the file once (writer thread)
+     *
+     * If the write fails the records stay queued and are retried with the next one.
+     */
+    private void writePending() {
+        List<byte[]> batch;
+        synchronized (this) {
+            batch = pending;
+            pending = new ArrayList<>();
+            writeScheduled = false;
+        }
+        synchronized (fileLock) {
+            long written = 0;
+            try {
+                FileChannel ch = channel();
+                for (byte[] line : batch) {
+                    ByteBuffer buffer = ByteBuffer.wrap(line);
+                    while (buffer.hasRemaining()) {
+                        ch.write(buffer, length + written + buffer.position());  // Always write at the end
+                    }
+                    written += line.length;
+                }
+                ch.force(false);  // One sync makes the whole batch durable
+                length += written;
+            } catch (IOException ex) {
+                System.out.println("Error writing journal: " + ex.getMessage());
+                synchronized (this) {
+                    batch.addAll(pending);
+                    pending = batch;
+                    failedWrites++;
+                    notifyAll();
+                }
+                return;
+            }
+            synchronized (this) {
+                durable += written;
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Wait until the records before a journal position are synced to disk
+     *
+     * @return false if a write failed (or the journal was closed) while waiting
+     */
+    private synchronized boolean waitUntilDurable(long position) {
+        int failures = failedWrites;
+        while (durable < position) {
+            if (failedWrites != failures || !scheduleWrite()) return false;  // Also retries a failed batch
+            try {
+                wait();
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Open the journal file on first use (holding fileLock)
+     */
+    private FileChannel channel() throws IOException {
+        if (channel == null) {
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                       StandardOpenOption.WRITE);
+        }
+        return channel;
+    }
+
+    private static String checksum(String body) {
+        CRC32 crc = new CRC32();
+        crc.update(body.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    // ---- Replaying ----
+
+    /**
+     * Apply every intact record in the journal to the manager
+     *
+     * @return true if the whole journal was readable, false if a damaged record was skipped
+     */
+    private boolean replay() {
+        MappedCSVLoader.CsvCursor cursor;
+        try {
+            cursor = MappedCSVLoader.open(file);
+        } catch (IOException ex) {
+            System.out.println("Error reading journal: " + ex.getMessage());
+            return false;
+        }
+        if (cursor == null) return true;  // No journal yet
+
+        boolean clean = true;
+        while (cursor.hasRecord()) {
+            List<String> fields = new ArrayList<>();
+            while (cursor.hasField()) {
+                fields.add(cursor.nextString());
+            }
+            cursor.nextRecord();
+            if (fields.isEmpty() || (fields.size() == 1 && fields.get(0).isEmpty())) continue;  // Blank line
+
+            if (!intact(fields) || !apply(fields)) {
+                clean = false;
+                continue;
+            }
+            recordCount++;
+        }
+        return clean;
+    }
+
+    /**
+     * Check a record's checksum against its other fields
+     */
+    private static boolean intact(List<String> fields) {
+        if (fields.size() < 2) return false;
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < fields.size() - 1; i++) {
+            if (i > 0) body.append(',');
+            String value = fields.get(i);
+            body.append(i == 0 ? value : CSVHandlerCompliant.escapeCsvValue(value));
+        }
+        return checksum(body.toString()).equals(fields.get(fields.size() - 1));
+    }
+
+    /**
+     * Apply one record to the manager
+     *
+     * @return false if the record could not be understood
+     */
+    private boolean apply(List<String> fields) {
+        try {
+            switch (fields.get(0)) {
+                case "ADD":
+                case "UPDATE":
+                    if (fields.size() != 15) return false;
+                    MainEvent event = buildEvent(fields);
+                    manager.deleteEvent(event.getEventId());  // Replace any older copy
+                    manager.addEvent(event);
+                    if (event.getEventId() >= manager.getNextEventId()) {
+                        manager.setNextEventId(event.getEventId() + 1);
+                    }
+                    return true;
+                case "DELETE":
+                    if (fields.size() != 3) return false;
+                    manager.deleteEvent(Integer.parseInt(fields.get(1)));
+                    return true;
+                case "CLEAR":
+                    manager.clear();
+                    return true;
+                default:
+                    return false;
+            }
+        } catch (NumberFormatException | DateTimeException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Rebuild the event stored in an ADD or UPDATE record
+     */
+    private static MainEvent buildEvent(List<String> fields) {
+        MainEvent event = new MainEvent(
+            Integer.parseInt(fields.get(1)),
+            fields.get(2),
+            fields.get(3),
+            LocalDateTime.parse(fields.get(4), formatter),
+            LocalDateTime.parse(fields.get(5), formatter));
+
+        if (!fields.get(6).isEmpty()) {
+            RecurrentEventData rd = new RecurrentEventData(event.getEventId(), fields.get(6),
+                Integer.parseInt(fields.get(7)), fields.get(8));
+            event = CSVHandlerCompliant.buildRecurringEvent(event, rd);
+        }
+        event.setLocation(fields.get(9));
+        event.setCategory(fields.get(10));
+        event.setPriority(fields.get(11));
+        if (!fields.get(12).isEmpty()) {
+            Reminder reminder = new Reminder(Integer.parseInt(fields.get(12)));
+            ReminderCSVHandler.parseOverrides(reminder, fields.get(13));
+            event.setReminder(reminder);
+        }
+        return event;
+    }
+}
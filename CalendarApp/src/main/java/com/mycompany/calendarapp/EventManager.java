@@ -1,8 +1,14 @@
 package com.mycompany.calendarapp;
 
 import java.time.LocalDateTime;  // For date and time handling
+import java.util.ArrayDeque;  // For events waiting behind another with the same ID
 import java.util.ArrayList;  // For creating array lists
+import java.util.Collections;  // For read-only list views
+import java.util.Comparator;  // For sorting events by start time
+import java.util.HashMap;  // For events that share an ID
+import java.util.LinkedHashSet;  // For the events, in the order they were added
 import java.util.List;  // List interface
+import java.util.Map;  // Map interface
 
 /**
  * EventManager Class
@@ -16,6 +22,10 @@ import java.util.List;  // List interface
  * - Generate unique event IDs
  * - Detect clashing/conflicting events
  * - Expand recurring events into their individual occurrences
+ * - Answer time-window queries through an interval index
+ * - Cache the expanded occurrence list between changes
+ * 
+ * Changes are reported to any registered EventChangeListener.
  * 
  * Key Responsibilities:
  * - Maintaining the master list of all events
@@ -26,8 +36,19 @@ import java.util.List;  // List interface
 public class EventManager {
 
     // Instance variables
-    private List<MainEvent> events = new ArrayList<>();  // The master list storing all events
+    private final LinkedHashSet<MainEvent> events = new LinkedHashSet<>();  // All events, in insertion order; removing one is O(1)
+    private List<MainEvent> eventList;  // Read-only copy of events for getAllEvents, or null after a change
+    private final EventIdMap eventsById = new EventIdMap();  // Same events keyed by ID, for fast lookup
+    private final Map<Integer, ArrayDeque<MainEvent>> sharedIds = new HashMap<>();  // Later events with an ID already in eventsById, oldest first
     private int nextEventId = 1;  // Counter for generating unique event IDs
+    private final EventIntervalIndex intervalIndex = new EventIntervalIndex();  // Events indexed by time span
+    private final OccurrenceCache occurrenceCache = new OccurrenceCache();  // Result of getAllEventsExpanded
+    private final List<EventChangeListener> listeners = new ArrayList<>();  // Told about every change
+    private ReminderScheduler reminderScheduler;  // Pending reminders, created on first use
+    private LiveStatistics liveStatistics;  // Running statistics, created on first use
+    private TextIndex textIndex;  // Word index for text searches, created on first use
+    private TrigramIndex trigramIndex;  // Substring index for "contains" searches, created on first use
+    private EventBitmapIndex bitmapIndex;  // Category/priority/reminder bitmaps, created on first use
 
     /**
      * Generate a unique event ID
@@ -41,54 +62,143 @@ public class EventManager {
         return nextEventId++;  // Return current value, then increment
     }
 
+    /**
+     * Register a listener to be told about added, updated and deleted events
+     * 
+     * @param listener The listener to add
+     */
+    public void addChangeListener(EventChangeListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Stop telling a listener about changes
+     * 
+     * @param listener The listener to remove
+     */
+    public void removeChangeListener(EventChangeListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Add an event to the manager
      * 
+     * Adding an event that is already in the manager does nothing.
+     * 
      * @param event The event to add to the collection
      */
     public void addEvent(MainEvent event) { 
-        events.add(event);  // Add to the internal list
+        if (!events.add(event)) return;  // Already here
+        eventList = null;
+        if (!eventsById.containsKey(event.getEventId())) {
+            eventsById.put(event.getEventId(), event);  // The first event with an ID wins, as with a list scan
+        } else {
+            sharedIds.computeIfAbsent(event.getEventId(), id -> new ArrayDeque<>()).add(event);  // Next in line
+        }
+        intervalIndex.add(event);  // Make it visible to time-window queries
+        occurrenceCache.invalidate(event);
+        for (EventChangeListener listener : listeners) listener.eventAdded(event);
+    }
+
+    /**
+     * Refresh the indexes after an event has been edited in place
+     * 
+     * Call this after changing an event's times (or a recurring event's
+     * recurrence settings) through its setters.
+     * 
+     * @param event The event that was modified
+     */
+    public void updateEvent(MainEvent event) {
+        intervalIndex.update(event);
+        occurrenceCache.invalidate(event);  // Its occurrences may have changed
+        for (EventChangeListener listener : listeners) listener.eventUpdated(event);
+    }
+
+    /**
+     * Remove every event from the manager
+     * 
+     * The ID counter is left unchanged.
+     */
+    public void clear() {
+        events.clear();
+        eventList = null;
+        eventsById.clear();
+        sharedIds.clear();
+        intervalIndex.clear();
+        occurrenceCache.clear();
+        for (EventChangeListener listener : listeners) listener.eventsCleared();
     }
     
     /**
      * Get all events stored in the manager
      * 
-     * Returns the raw list of events (recurring events not expanded).
+     * Returns a read-only list of the events (recurring events not expanded),
+     * in the order they were added. Use addEvent, deleteEvent and clear to change
+     * the collection; the list returned before a change does not follow it. The
+     * list is only copied again after a change.
      * 
      * @return List of all events
      */
     public List<MainEvent> getAllEvents() { 
-        return events; 
+        if (eventList == null) {
+            eventList = Collections.unmodifiableList(new ArrayList<>(events));
+        }
+        return eventList; 
+    }
+
+    /**
+     * Copy every event, for saving on another thread
+     * 
+     * The copies are separate objects, so edits made after this call do not
+     * change the snapshot while it is being written.
+     * 
+     * @return Copies of all events, in the same order as getAllEvents
+     */
+    public List<MainEvent> snapshotEvents() {
+        List<MainEvent> snapshot = new ArrayList<>(events.size());
+        for (MainEvent event : events) {
+            snapshot.add(event.copy());
+        }
+        return snapshot;
     }
 
     /**
      * Find an event by its ID
      * 
-     * Searches through all events to find one with the matching ID.
+     * Looks the ID up in the ID map, so this takes constant time
+     * regardless of how many events are stored.
      * 
      * @param id The event ID to search for
      * @return The MainEvent with that ID, or null if not found
      */
     public MainEvent findEventById(int id) {
-        // Loop through all events
-        for (MainEvent e : events) {
-            if (e.getEventId() == id) return e;  // Found it!
-        }
-        return null;  // Not found
+        return eventsById.get(id);
     }
 
     /**
      * Delete an event by its ID
      * 
-     * Finds and removes the event from the collection.
+     * Finds the event through the ID map and removes it from the collection
+     * without searching the list, so this takes constant time. If several
+     * events share the ID, the one added first is deleted and the next one
+     * takes its place in the ID map.
      * 
      * @param id The ID of the event to delete
      * @return true if the event was found and deleted, false otherwise
      */
     public boolean deleteEvent(int id) {
-        MainEvent e = findEventById(id);  // First, find the event
+        MainEvent e = eventsById.remove(id);  // First, find and unmap the event
         if (e != null) {
-            events.remove(e);  // Remove it from the list
+            ArrayDeque<MainEvent> waiting = sharedIds.get(id);
+            if (waiting != null) {
+                eventsById.put(id, waiting.poll());  // The next event with this ID is found from now on
+                if (waiting.isEmpty()) sharedIds.remove(id);
+            }
+            events.remove(e);  // Remove it from the set, keeping the others in order
+            eventList = null;
+            intervalIndex.remove(e);  // And from the time index
+            occurrenceCache.invalidate(e);
+            for (EventChangeListener listener : listeners) listener.eventDeleted(e);
             return true;  // Success
         }
         return false;  // Event not found
@@ -105,6 +215,91 @@ public class EventManager {
     public void setNextEventId(int id) { 
         this.nextEventId = id; 
     }
+
+    /**
+     * Get the ID the next call to generateEventId will return
+     * 
+     * @return The next event ID
+     */
+    public int getNextEventId() {
+        return nextEventId;
+    }
+    
+    /**
+     * Get the scheduler holding the next pending reminder of every event
+     * 
+     * It is created the first time it is asked for and then kept up to date
+     * through the change listeners. After setting or removing a reminder, call
+     * updateEvent so the scheduler sees the change.
+     * 
+     * @return The reminder scheduler for these events
+     */
+    public ReminderScheduler getReminderScheduler() {
+        if (reminderScheduler == null) {
+            reminderScheduler = new ReminderScheduler(this);
+        }
+        return reminderScheduler;
+    }
+
+    /**
+     * Get statistics of all occurrences that are kept up to date as events change
+     * 
+     * They are counted the first time they are asked for; after that each add,
+     * update or delete only recounts the changed event.
+     * 
+     * @return The running statistics for these events
+     */
+    public LiveStatistics getLiveStatistics() {
+        if (liveStatistics == null) {
+            liveStatistics = EventStatistics.subscribe(this);
+        }
+        return liveStatistics;
+    }
+
+    /**
+     * Get the word index over event titles, descriptions and locations
+     * 
+     * It is built the first time it is asked for and then kept up to date
+     * through the change listeners.
+     * 
+     * @return The text index for these events
+     */
+    public TextIndex getTextIndex() {
+        if (textIndex == null) {
+            textIndex = new TextIndex(this);
+        }
+        return textIndex;
+    }
+
+    /**
+     * Get the trigram (substring) index over event titles, descriptions and locations
+     * 
+     * Like the text index, it is built the first time it is asked for and then
+     * kept up to date through the change listeners.
+     * 
+     * @return The trigram index for these events
+     */
+    public TrigramIndex getTrigramIndex() {
+        if (trigramIndex == null) {
+            trigramIndex = new TrigramIndex(this);
+        }
+        return trigramIndex;
+    }
+
+    /**
+     * Get the bitmap indexes over event categories, priorities and reminders
+     * 
+     * Built the first time it is asked for and then kept up to date through the
+     * change listeners.
+     * 
+     * @return The bitmap index for these events
+     */
+    public EventBitmapIndex getBitmapIndex() {
+        if (bitmapIndex == null) {
+            bitmapIndex = new EventBitmapIndex(this);
+        }
+        return bitmapIndex;
+    }
     
     /**
      * Get all events including expanded occurrences of recurring events
@@ -115,24 +310,47 @@ public class EventManager {
      * 
      * Example: A weekly meeting with 4 occurrences becomes 4 separate events.
      * 
+     * The result is cached until an event changes, and only the series that
+     * changed are expanded again. The list is read-only and shared, so the
+     * occurrences in it must not be edited.
+     * 
      * @return List of all events with recurring events expanded into individual occurrences
      */
     public List<MainEvent> getAllEventsExpanded() {
-        List<MainEvent> expandedEvents = new ArrayList<>();  // Create new list for result
-        
-        // Go through each event in the collection
-        for (MainEvent event : events) {
-            if (event instanceof RecurringEvent) {
-                // This is a recurring event - expand it into multiple occurrences
-                RecurringEvent recurring = (RecurringEvent) event;  // Cast to RecurringEvent
-                expandedEvents.addAll(recurring.generateOccurrences());  // Add all its occurrences
-            } else {
-                // Normal event - add it as-is
-                expandedEvents.add(event);
+        return occurrenceCache.getExpanded(events);  // Only changed series are expanded again
+    }
+
+    /**
+     * Get the occurrences of some events, e.g. the results of an index lookup
+     * 
+     * @param ids Event IDs, in the order the results should have
+     * @return The occurrences of each event (normal events are their own single
+     *         occurrence), including every event that shares one of the IDs
+     */
+    public List<MainEvent> getOccurrencesOf(int[] ids) {
+        List<MainEvent> result = new ArrayList<>();
+        for (int id : ids) {
+            MainEvent event = eventsById.get(id);
+            if (event != null) {
+                result.addAll(occurrenceCache.getOccurrences(event));
+                ArrayDeque<MainEvent> waiting = sharedIds.get(id);
+                if (waiting != null) {
+                    for (MainEvent later : waiting) {
+                        result.addAll(occurrenceCache.getOccurrences(later));
+                    }
+                }
             }
         }
-        
-        return expandedEvents;  // Return the expanded list
+        return result;
+    }
+
+    /**
+     * Get the cache behind getAllEventsExpanded, e.g. to read its hit and miss counts
+     * 
+     * @return The occurrence cache
+     */
+    public OccurrenceCache getOccurrenceCache() {
+        return occurrenceCache;
     }
     
     /**
@@ -153,29 +371,30 @@ public class EventManager {
         List<MainEvent> clashes = new ArrayList<>();  // List to store clashing events
         LocalDateTime newStart = newEvent.getStartDateTime();  // When new event starts
         LocalDateTime newEnd = newEvent.getEndDateTime();  // When new event ends
+        long newStartKey = newEvent.getStartEpochSecond();  // Same times as numbers, for comparing
+        long newEndKey = newEvent.getEndEpochSecond();
         
-        // Check against all existing events
-        for (MainEvent existing : events) {
+        // Only events whose span touches the new event's time range can clash
+        for (MainEvent existing : intervalIndex.candidates(newStart, newEnd)) {
             // Skip comparing an event with itself (important when updating events)
             if (existing.getEventId() == newEvent.getEventId()) {
                 continue;  // Skip to next event
             }
             
             if (existing instanceof RecurringEvent) {
-                // For recurring events, we need to check all occurrences
-                RecurringEvent recurring = (RecurringEvent) existing;
-                List<MainEvent> occurrences = recurring.generateOccurrences();  // Get all occurrences
+                // For recurring events, check the occurrences near the new event's time range
+                List<MainEvent> occurrences = occurrencesNear(existing, newStart, newEnd);
                 
                 // Check each occurrence
                 for (MainEvent occurrence : occurrences) {
-                    if (eventsOverlap(newStart, newEnd, occurrence.getStartDateTime(), occurrence.getEndDateTime())) {
+                    if (eventsOverlap(newStartKey, newEndKey, occurrence.getStartEpochSecond(), occurrence.getEndEpochSecond())) {
                         clashes.add(existing);  // Found a clash!
                         break; // Only add the recurring event once, even if multiple occurrences clash
                     }
                 }
             } else {
                 // For normal events, direct time comparison
-                if (eventsOverlap(newStart, newEnd, existing.getStartDateTime(), existing.getEndDateTime())) {
+                if (eventsOverlap(newStartKey, newEndKey, existing.getStartEpochSecond(), existing.getEndEpochSecond())) {
                     clashes.add(existing);  // This event clashes
                 }
             }
@@ -183,6 +402,88 @@ public class EventManager {
         
         return clashes;  // Return all clashing events
     }
+
+    /**
+     * Get all event occurrences that start within a time window
+     * 
+     * Uses the interval index, so only events near the window are examined.
+     * Recurring events are expanded and only their occurrences inside the
+     * window are returned.
+     * 
+     * @param from Start of the window (inclusive)
+     * @param to End of the window (exclusive)
+     * @return Occurrences starting in [from, to), sorted by start time
+     */
+    public List<MainEvent> eventsBetween(LocalDateTime from, LocalDateTime to) {
+        List<MainEvent> result = new ArrayList<>();
+        long fromKey = MainEvent.toEpochSecond(from);
+        long toKey = MainEvent.toEpochSecond(to);
+        for (MainEvent candidate : intervalIndex.candidates(from, to)) {
+            for (MainEvent occurrence : occurrencesNear(candidate, from, to)) {
+                long start = occurrence.getStartEpochSecond();
+                if (start >= fromKey && start < toKey) {
+                    result.add(occurrence);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(MainEvent::getStartEpochSecond));
+        return result;
+    }
+
+    /**
+     * Get all event occurrences that overlap a time range
+     * 
+     * Uses the same overlap rule as clash detection: touching end-to-start
+     * is not an overlap.
+     * 
+     * @param start Start of the range
+     * @param end End of the range
+     * @return Overlapping occurrences, sorted by start time
+     */
+    public List<MainEvent> eventsOverlapping(LocalDateTime start, LocalDateTime end) {
+        List<MainEvent> result = new ArrayList<>();
+        long startKey = MainEvent.toEpochSecond(start);
+        long endKey = MainEvent.toEpochSecond(end);
+        for (MainEvent candidate : intervalIndex.candidates(start, end)) {
+            for (MainEvent occurrence : occurrencesNear(candidate, start, end)) {
+                if (eventsOverlap(startKey, endKey, occurrence.getStartEpochSecond(), occurrence.getEndEpochSecond())) {
+                    result.add(occurrence);
+                }
+            }
+        }
+        result.sort(Comparator.comparingLong(MainEvent::getStartEpochSecond));
+        return result;
+    }
+
+    /**
+     * Count the events whose time span touches a time range, without expanding them
+     * 
+     * A recurring event counts once, for its whole span, even if none of its
+     * occurrences falls in the range. Used to judge how selective a date filter is.
+     * 
+     * @param from Start of the range
+     * @param to End of the range
+     * @return Number of events the interval index would return
+     */
+    public int countEventsTouching(LocalDateTime from, LocalDateTime to) {
+        return intervalIndex.candidates(from, to).size();
+    }
+
+    /**
+     * Expand an event into the occurrences that could touch a time range
+     * 
+     * A normal event is its own single occurrence. For a recurring event only
+     * occurrences starting between (from - event length) and to are generated;
+     * callers still apply their exact time check.
+     */
+    private List<MainEvent> occurrencesNear(MainEvent event, LocalDateTime from, LocalDateTime to) {
+        if (event instanceof RecurringEvent) {
+            RecurringEvent recurring = (RecurringEvent) event;
+            long duration = Math.max(0, (event.getEndEpochSecond() - event.getStartEpochSecond()) / 60);
+            return recurring.occurrencesBetween(from.minusMinutes(duration).toLocalDate(), to.toLocalDate());
+        }
+        return Collections.singletonList(event);
+    }
     
     /**
      * Check if two time ranges overlap
@@ -196,16 +497,17 @@ public class EventManager {
      * - Event 1: 9:00-10:00, Event 2: 10:00-11:00 → NO OVERLAP (start2 not before end1)
      * - Event 1: 9:00-10:00, Event 2: 8:00-9:00 → NO OVERLAP (start1 not before end2)
      * 
+     * Times are compared as the epoch-second numbers stored by MainEvent.
+     * 
      * @param start1 Start time of first event
      * @param end1 End time of first event
      * @param start2 Start time of second event
      * @param end2 End time of second event
      * @return true if the events overlap, false otherwise
      */
-    private boolean eventsOverlap(LocalDateTime start1, LocalDateTime end1, 
-                                   LocalDateTime start2, LocalDateTime end2) {
+    private static boolean eventsOverlap(long start1, long end1, long start2, long end2) {
         // Events overlap if one starts before the other ends
-        return start1.isBefore(end2) && start2.isBefore(end1);
+        return start1 < end2 && start2 < end1;
     }
     
 }
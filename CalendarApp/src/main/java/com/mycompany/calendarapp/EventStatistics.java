@@ -1,96 +1,132 @@
 package com.mycompany.calendarapp;
 
 import java.time.DayOfWeek;
-import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * Event Statistics Generator
  * Provides insights and analytics on events
+ *
+ * Every statistic can be worked out from a List of events or from an EventColumns
+ * snapshot; the list versions build a snapshot and scan its arrays.
+ *
+ * The full report is computed in one pass (computeStatistics). Above
+ * PARALLEL_THRESHOLD rows the pass is split into ranges that run on a ForkJoinPool
+ * and are merged in row order, so the result is the same as the sequential pass.
  */
 public class EventStatistics {
 
+    private static final long SECONDS_PER_DAY = 86400;
+    public static final int PARALLEL_THRESHOLD = 100_000;  // Rows needed before computeStatistics runs in parallel
+    private static final int PARALLEL_CHUNK = 16_384;  // Rows handled by one fork/join leaf task
+
     /**
      * Get the busiest day of the week based on event count
      */
     public static Map.Entry<DayOfWeek, Integer> getBusiestDayOfWeek(List<MainEvent> events) {
-        Map<DayOfWeek, Integer> dayCount = new HashMap<>();
-        
-        for (DayOfWeek day : DayOfWeek.values()) {
-            dayCount.put(day, 0);
-        }
-        
-        for (MainEvent event : events) {
-            DayOfWeek day = event.getStartDateTime().getDayOfWeek();
-            dayCount.put(day, dayCount.get(day) + 1);
+        return getBusiestDayOfWeek(EventColumns.of(events));
+    }
+
+    /**
+     * Get the busiest day of the week from a column snapshot (earliest day in the week wins ties)
+     */
+    public static Map.Entry<DayOfWeek, Integer> getBusiestDayOfWeek(EventColumns columns) {
+        int[] counts = dayOfWeekCounts(columns);
+        int best = 0;
+        for (int day = 1; day < 7; day++) {
+            if (counts[day] > counts[best]) best = day;
         }
-        
-        return dayCount.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .orElse(null);
+        return new AbstractMap.SimpleImmutableEntry<>(DayOfWeek.of(best + 1), counts[best]);
     }
 
     /**
      * Get busiest hour of the day (0-23)
      */
     public static Map.Entry<Integer, Integer> getBusiestHour(List<MainEvent> events) {
-        Map<Integer, Integer> hourCount = new HashMap<>();
-        
-        for (int hour = 0; hour < 24; hour++) {
-            hourCount.put(hour, 0);
+        return getBusiestHour(EventColumns.of(events));
+    }
+
+    /**
+     * Get busiest hour of the day (0-23) from a column snapshot (earliest hour wins ties)
+     */
+    public static Map.Entry<Integer, Integer> getBusiestHour(EventColumns columns) {
+        int[] counts = new int[24];
+        long[] starts = columns.starts;
+        for (int row = 0; row < columns.size; row++) {
+            counts[hourOf(starts[row])]++;
         }
-        
-        for (MainEvent event : events) {
-            int hour = event.getStartDateTime().getHour();
-            hourCount.put(hour, hourCount.get(hour) + 1);
+        int best = 0;
+        for (int hour = 1; hour < 24; hour++) {
+            if (counts[hour] > counts[best]) best = hour;
         }
-        
-        return hourCount.entrySet().stream()
-            .max(Map.Entry.comparingByValue())
-            .orElse(null);
+        return new AbstractMap.SimpleImmutableEntry<>(best, counts[best]);
     }
 
     /**
      * Get event distribution by month
      */
     public static Map<String, Integer> getEventsByMonth(List<MainEvent> events) {
-        Map<String, Integer> monthCount = new LinkedHashMap<>();
-        
-        for (MainEvent event : events) {
-            String monthYear = event.getStartDateTime().getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) 
-                             + " " + event.getStartDateTime().getYear();
-            monthCount.put(monthYear, monthCount.getOrDefault(monthYear, 0) + 1);
+        return getEventsByMonth(EventColumns.of(events));
+    }
+
+    /**
+     * Get event distribution by month from a column snapshot (months in the order they first appear)
+     */
+    public static Map<String, Integer> getEventsByMonth(EventColumns columns) {
+        Map<Integer, int[]> monthCount = new LinkedHashMap<>();
+        long[] starts = columns.starts;
+        int lastMonth = Integer.MIN_VALUE;
+        int[] lastCount = null;
+        for (int row = 0; row < columns.size; row++) {
+            int month = monthKeyOf(starts[row]);
+            if (month != lastMonth) {  // Rows are often grouped by month - skip the lookup then
+                lastMonth = month;
+                lastCount = monthCount.computeIfAbsent(month, key -> new int[1]);
+            }
+            lastCount[0]++;
         }
-        
-        return monthCount;
+
+        Map<String, Integer> result = new LinkedHashMap<>();
+        for (Map.Entry<Integer, int[]> entry : monthCount.entrySet()) {
+            result.put(monthName(entry.getKey()), entry.getValue()[0]);
+        }
+        return result;
     }
 
     /**
      * Get average events per week
      */
     public static double getAverageEventsPerWeek(List<MainEvent> events) {
-        if (events.isEmpty()) return 0.0;
-        
-        LocalDate earliest = events.stream()
-            .map(e -> e.getStartDateTime().toLocalDate())
-            .min(LocalDate::compareTo)
-            .orElse(LocalDate.now());
-        
-        LocalDate latest = events.stream()
-            .map(e -> e.getStartDateTime().toLocalDate())
-            .max(LocalDate::compareTo)
-            .orElse(LocalDate.now());
-        
-        long totalDays = java.time.temporal.ChronoUnit.DAYS.between(earliest, latest);
+        return getAverageEventsPerWeek(EventColumns.of(events));
+    }
+
+    /**
+     * Get average events per week from a column snapshot
+     */
+    public static double getAverageEventsPerWeek(EventColumns columns) {
+        if (columns.size == 0) return 0.0;
+
+        long earliest = Long.MAX_VALUE;
+        long latest = Long.MIN_VALUE;
+        long[] starts = columns.starts;
+        for (int row = 0; row < columns.size; row++) {
+            long day = epochDayOf(starts[row]);
+            if (day < earliest) earliest = day;
+            if (day > latest) latest = day;
+        }
+
+        long totalDays = latest - earliest;
         if (totalDays == 0) totalDays = 1;
-        
+
         double weeks = totalDays / 7.0;
         if (weeks < 1) weeks = 1;
-        
-        return events.size() / weeks;
+
+        return columns.size / weeks;
     }
 
     /**
@@ -100,6 +136,13 @@ public class EventStatistics {
         return events.size();
     }
 
+    /**
+     * Get total events count from a column snapshot
+     */
+    public static int getTotalEvents(EventColumns columns) {
+        return columns.size;
+    }
+
     /**
      * Get events with reminders count
      */
@@ -109,6 +152,13 @@ public class EventStatistics {
             .count();
     }
 
+    /**
+     * Get events with reminders count from a column snapshot
+     */
+    public static int getEventsWithReminders(EventColumns columns) {
+        return columns.hasReminder.cardinality();
+    }
+
     /**
      * Get recurring events count
      */
@@ -118,73 +168,268 @@ public class EventStatistics {
             .count();
     }
 
+    /**
+     * Get recurring events count from a column snapshot
+     */
+    public static int getRecurringEvents(EventColumns columns) {
+        return columns.recurring.cardinality();
+    }
+
     /**
      * Get upcoming events (future events)
      */
     public static int getUpcomingEventsCount(List<MainEvent> events) {
-        LocalDateTime now = LocalDateTime.now();
-        return (int) events.stream()
-            .filter(e -> e.getStartDateTime().isAfter(now))
-            .count();
+        return getUpcomingEventsCount(EventColumns.of(events), LocalDateTime.now());
+    }
+
+    /**
+     * Get upcoming events (starting after now) from a column snapshot
+     */
+    public static int getUpcomingEventsCount(EventColumns columns, LocalDateTime now) {
+        long nowKey = MainEvent.toEpochSecond(now);
+        long[] starts = columns.starts;
+        int count = 0;
+        for (int row = 0; row < columns.size; row++) {
+            if (starts[row] > nowKey) count++;
+        }
+        return count;
     }
 
     /**
      * Get past events count
      */
     public static int getPastEventsCount(List<MainEvent> events) {
-        LocalDateTime now = LocalDateTime.now();
-        return (int) events.stream()
-            .filter(e -> e.getEndDateTime().isBefore(now))
-            .count();
+        return getPastEventsCount(EventColumns.of(events), LocalDateTime.now());
+    }
+
+    /**
+     * Get past events (ended before now) count from a column snapshot
+     */
+    public static int getPastEventsCount(EventColumns columns, LocalDateTime now) {
+        long nowKey = MainEvent.toEpochSecond(now) + (now.getNano() > 0 ? 1 : 0);  // Same second still counts as past
+        long[] ends = columns.ends;
+        int count = 0;
+        for (int row = 0; row < columns.size; row++) {
+            if (ends[row] < nowKey) count++;
+        }
+        return count;
     }
 
     /**
      * Get average event duration in minutes
      */
     public static double getAverageEventDuration(List<MainEvent> events) {
-        if (events.isEmpty()) return 0.0;
-        
-        long totalMinutes = events.stream()
-            .mapToLong(e -> java.time.temporal.ChronoUnit.MINUTES.between(
-                e.getStartDateTime(), e.getEndDateTime()))
-            .sum();
-        
-        return totalMinutes / (double) events.size();
+        return getAverageEventDuration(EventColumns.of(events));
+    }
+
+    /**
+     * Get average event duration in minutes from a column snapshot
+     */
+    public static double getAverageEventDuration(EventColumns columns) {
+        if (columns.size == 0) return 0.0;
+
+        long totalMinutes = 0;
+        for (int row = 0; row < columns.size; row++) {
+            totalMinutes += durationMinutes(columns, row);
+        }
+        return totalMinutes / (double) columns.size;
     }
 
     /**
      * Get longest event
      */
     public static MainEvent getLongestEvent(List<MainEvent> events) {
-        return events.stream()
-            .max(Comparator.comparingLong(e -> java.time.temporal.ChronoUnit.MINUTES.between(
-                e.getStartDateTime(), e.getEndDateTime())))
-            .orElse(null);
+        return getLongestEvent(EventColumns.of(events));
+    }
+
+    /**
+     * Get longest event from a column snapshot (the first one if several are equally long)
+     */
+    public static MainEvent getLongestEvent(EventColumns columns) {
+        int longest = -1;
+        long longestMinutes = Long.MIN_VALUE;
+        for (int row = 0; row < columns.size; row++) {
+            long minutes = durationMinutes(columns, row);
+            if (minutes > longestMinutes) {
+                longestMinutes = minutes;
+                longest = row;
+            }
+        }
+        return longest < 0 ? null : columns.getEvent(longest);
     }
 
     /**
      * Get events per day of week distribution
      */
     public static Map<DayOfWeek, Integer> getEventsByDayOfWeek(List<MainEvent> events) {
+        return getEventsByDayOfWeek(EventColumns.of(events));
+    }
+
+    /**
+     * Get events per day of week distribution from a column snapshot
+     */
+    public static Map<DayOfWeek, Integer> getEventsByDayOfWeek(EventColumns columns) {
+        int[] counts = dayOfWeekCounts(columns);
         Map<DayOfWeek, Integer> dayCount = new LinkedHashMap<>();
-        
         for (DayOfWeek day : DayOfWeek.values()) {
-            dayCount.put(day, 0);
+            dayCount.put(day, counts[day.ordinal()]);
         }
-        
-        for (MainEvent event : events) {
-            DayOfWeek day = event.getStartDateTime().getDayOfWeek();
-            dayCount.put(day, dayCount.get(day) + 1);
-        }
-        
         return dayCount;
     }
 
+    // ---- Column helpers (also used by StatisticsAccumulator) ----
+
+    /**
+     * Count rows per day of the week (index 0 = Monday)
+     */
+    private static int[] dayOfWeekCounts(EventColumns columns) {
+        int[] counts = new int[7];
+        long[] starts = columns.starts;
+        for (int row = 0; row < columns.size; row++) {
+            counts[dayOfWeekIndexOf(starts[row])]++;
+        }
+        return counts;
+    }
+
+    static long durationMinutes(EventColumns columns, int row) {
+        return (columns.ends[row] - columns.starts[row]) / 60;  // Whole minutes, like ChronoUnit.MINUTES.between
+    }
+
+    static long epochDayOf(long epochSecond) {
+        return Math.floorDiv(epochSecond, SECONDS_PER_DAY);
+    }
+
+    static int hourOf(long epochSecond) {
+        return (int) (Math.floorMod(epochSecond, SECONDS_PER_DAY) / 3600);
+    }
+
+    /**
+     * Day of the week of a time, 0 = Monday ... 6 = Sunday (1970-01-01 was a Thursday)
+     */
+    static int dayOfWeekIndexOf(long epochSecond) {
+        return (int) Math.floorMod(epochDayOf(epochSecond) + 3, 7L);
+    }
+
+    /**
+     * Month of a time as year * 12 + (month - 1)
+     *
+     * Converts the day number to a calendar date with plain arithmetic (the
+     * civil-from-days method used by LocalDate.ofEpochDay) without creating objects.
+     */
+    static int monthKeyOf(long epochSecond) {
+        long zeroDay = epochDayOf(epochSecond) + 719468;  // Days since 0000-03-01
+        long era = Math.floorDiv(zeroDay, 146097);
+        long dayOfEra = zeroDay - era * 146097;
+        long yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        long dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        long marchMonth = (5 * dayOfYear + 2) / 153;  // 0 = March ... 11 = February
+        long month = marchMonth < 10 ? marchMonth + 3 : marchMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+        return (int) (year * 12 + month - 1);
+    }
+
+    /**
+     * Display name of a month key from monthKeyOf, e.g. "Mar 2025"
+     */
+    static String monthName(int monthKey) {
+        YearMonth month = YearMonth.of(Math.floorDiv(monthKey, 12), Math.floorMod(monthKey, 12) + 1);
+        return month.getMonth().getDisplayName(TextStyle.SHORT, Locale.ENGLISH) + " " + month.getYear();
+    }
+
+    // ---- Single-pass engine ----
+
+    /**
+     * Work out every statistic in one pass over a column snapshot
+     *
+     * @param columns The events
+     * @param now The time that splits upcoming from past events
+     * @return All statistics of the events
+     */
+    public static StatisticsSnapshot computeStatistics(EventColumns columns, LocalDateTime now) {
+        if (columns.size() >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1) {
+            return computeStatisticsParallel(columns, now, ForkJoinPool.commonPool());
+        }
+        return computeStatisticsSequential(columns, now);
+    }
+
+    /**
+     * Work out every statistic in one pass on the calling thread
+     *
+     * @param columns The events
+     * @param now The time that splits upcoming from past events
+     * @return All statistics of the events
+     */
+    public static StatisticsSnapshot computeStatisticsSequential(EventColumns columns, LocalDateTime now) {
+        StatisticsAccumulator accumulator = new StatisticsAccumulator(now);
+        accumulator.accumulate(columns, 0, columns.size());
+        return accumulator.toSnapshot(columns);
+    }
+
+    /**
+     * Work out every statistic by splitting the rows across a fork/join pool
+     *
+     * Each task accumulates a range of rows; results are merged left to right, so
+     * the snapshot equals the one from computeStatisticsSequential.
+     *
+     * @param columns The events
+     * @param now The time that splits upcoming from past events
+     * @param pool The pool to run on
+     * @return All statistics of the events
+     */
+    public static StatisticsSnapshot computeStatisticsParallel(EventColumns columns, LocalDateTime now, ForkJoinPool pool) {
+        return computeStatisticsParallel(columns, now, pool, PARALLEL_CHUNK);
+    }
+
+    /**
+     * computeStatisticsParallel with a chosen leaf size, so tests can split small inputs
+     *
+     * @param chunk Most rows one task accumulates without splitting
+     */
+    static StatisticsSnapshot computeStatisticsParallel(EventColumns columns, LocalDateTime now, ForkJoinPool pool,
+                                                        int chunk) {
+        StatisticsAccumulator accumulator = pool.invoke(new StatisticsTask(columns, now, 0, columns.size(), chunk));
+        return accumulator.toSnapshot(columns);
+    }
+
+    /**
+     * Work out every statistic in one pass over a list of events
+     *
+     * @param events The events
+     * @return All statistics of the events, with upcoming/past split at the current time
+     */
+    public static StatisticsSnapshot computeStatistics(List<MainEvent> events) {
+        return computeStatistics(EventColumns.of(events), LocalDateTime.now());
+    }
+
+    /**
+     * Start keeping statistics of an EventManager up to date as its events change
+     *
+     * @param manager The EventManager to follow
+     * @return Statistics that update on every add, update and delete
+     */
+    public static LiveStatistics subscribe(EventManager manager) {
+        return new LiveStatistics(manager);
+    }
+
     /**
      * Generate a full statistics report as a string
      */
     public static String generateStatisticsReport(List<MainEvent> events) {
-        if (events.isEmpty()) {
+        return generateStatisticsReport(EventColumns.of(events));
+    }
+
+    /**
+     * Generate a full statistics report from a column snapshot
+     */
+    public static String generateStatisticsReport(EventColumns events) {
+        return formatReport(computeStatistics(events, LocalDateTime.now()));
+    }
+
+    /**
+     * Format computed statistics as the report shown to the user
+     */
+    public static String formatReport(StatisticsSnapshot stats) {
+        if (stats.getTotalEvents() == 0) {
             return "No events to analyze.";
         }
 
@@ -194,14 +439,14 @@ public class EventStatistics {
         
         // Basic counts
         report.append("📈 OVERVIEW:\n");
-        report.append(String.format("   Total Events: %d\n", getTotalEvents(events)));
-        report.append(String.format("   Upcoming Events: %d\n", getUpcomingEventsCount(events)));
-        report.append(String.format("   Past Events: %d\n", getPastEventsCount(events)));
-        report.append(String.format("   Recurring Events: %d\n", getRecurringEvents(events)));
-        report.append(String.format("   Events with Reminders: %d\n\n", getEventsWithReminders(events)));
+        report.append(String.format("   Total Events: %d\n", stats.getTotalEvents()));
+        report.append(String.format("   Upcoming Events: %d\n", stats.getUpcomingEvents()));
+        report.append(String.format("   Past Events: %d\n", stats.getPastEvents()));
+        report.append(String.format("   Recurring Events: %d\n", stats.getRecurringEvents()));
+        report.append(String.format("   Events with Reminders: %d\n\n", stats.getEventsWithReminders()));
         
         // Busiest day
-        Map.Entry<DayOfWeek, Integer> busiestDay = getBusiestDayOfWeek(events);
+        Map.Entry<DayOfWeek, Integer> busiestDay = stats.getBusiestDayOfWeek();
         if (busiestDay != null) {
             report.append("🗓️ BUSIEST DAY OF WEEK:\n");
             report.append(String.format("   %s (%d events)\n\n",
@@ -210,7 +455,7 @@ public class EventStatistics {
         }
         
         // Busiest hour
-        Map.Entry<Integer, Integer> busiestHour = getBusiestHour(events);
+        Map.Entry<Integer, Integer> busiestHour = stats.getBusiestHour();
         if (busiestHour != null) {
             report.append("⏰ BUSIEST HOUR OF DAY:\n");
             report.append(String.format("   %02d:00 (%d events)\n\n",
@@ -219,7 +464,7 @@ public class EventStatistics {
         
         // Day of week distribution
         report.append("📅 EVENTS BY DAY OF WEEK:\n");
-        Map<DayOfWeek, Integer> dayDist = getEventsByDayOfWeek(events);
+        Map<DayOfWeek, Integer> dayDist = stats.getEventsByDayOfWeek();
         for (Map.Entry<DayOfWeek, Integer> entry : dayDist.entrySet()) {
             report.append(String.format("   %-10s: %3d events %s\n",
                 entry.getKey().getDisplayName(TextStyle.SHORT, Locale.ENGLISH),
@@ -230,26 +475,59 @@ public class EventStatistics {
         
         // Average stats
         report.append("📊 AVERAGES:\n");
-        report.append(String.format("   Average Events per Week: %.2f\n", getAverageEventsPerWeek(events)));
-        report.append(String.format("   Average Event Duration: %.1f minutes\n\n", getAverageEventDuration(events)));
+        report.append(String.format("   Average Events per Week: %.2f\n", stats.getAverageEventsPerWeek()));
+        report.append(String.format("   Average Event Duration: %.1f minutes\n\n", stats.getAverageEventDuration()));
         
         // Monthly distribution
         report.append("📆 EVENTS BY MONTH:\n");
-        Map<String, Integer> monthDist = getEventsByMonth(events);
+        Map<String, Integer> monthDist = stats.getEventsByMonth();
         for (Map.Entry<String, Integer> entry : monthDist.entrySet()) {
             report.append(String.format("   %-10s: %3d events\n", entry.getKey(), entry.getValue()));
         }
         report.append("\n");
         
         // Longest event
-        MainEvent longest = getLongestEvent(events);
+        MainEvent longest = stats.getLongestEvent();
         if (longest != null) {
-            long duration = java.time.temporal.ChronoUnit.MINUTES.between(
-                longest.getStartDateTime(), longest.getEndDateTime());
             report.append("⏱️ LONGEST EVENT:\n");
-            report.append(String.format("   %s (%d minutes)\n", longest.getTitle(), duration));
+            report.append(String.format("   %s (%d minutes)\n", longest.getTitle(), stats.getLongestEventMinutes()));
         }
         
         return report.toString();
     }
+
+    /**
+     * Fork/join task that accumulates a range of rows, splitting it in half until
+     * it is small enough
+     */
+    private static class StatisticsTask extends RecursiveTask<StatisticsAccumulator> {
+        private static final long serialVersionUID = 1L;
+        private final EventColumns columns;
+        private final LocalDateTime now;
+        private final int from;  // First row (inclusive)
+        private final int to;  // Last row (exclusive)
+        private final int chunk;  // Most rows accumulated without splitting
+
+        StatisticsTask(EventColumns columns, LocalDateTime now, int from, int to, int chunk) {
+            this.columns = columns;
+            this.now = now;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected StatisticsAccumulator compute() {
+            if (to - from <= chunk) {
+                StatisticsAccumulator accumulator = new StatisticsAccumulator(now);
+                accumulator.accumulate(columns, from, to);
+                return accumulator;
+            }
+            int middle = (from + to) >>> 1;
+            StatisticsTask right = new StatisticsTask(columns, now, middle, to, chunk);
+            right.fork();
+            StatisticsAccumulator left = new StatisticsTask(columns, now, from, middle, chunk).compute();
+            return left.merge(right.join());  // Left rows first, so order-dependent results match
+        }
+    }
 }
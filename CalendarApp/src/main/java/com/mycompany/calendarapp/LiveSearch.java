@@ -0,0 +1,342 @@
+package com.mycompany.calendarapp;
+
+import java.util.ArrayList;  // For creating array lists
+import java.util.Arrays;  // For sorting and searching IDs
+import java.util.List;  // List interface
+import java.util.Locale;  // For case folding that does not depend on the user's language
+import java.util.concurrent.Executor;  // For handing results back (e.g. to the FX thread)
+import java.util.concurrent.ExecutorService;  // For the search thread
+import java.util.concurrent.Executors;  // For creating the search thread
+import java.util.concurrent.Future;  // For cancelling a search that has not started yet
+import java.util.concurrent.atomic.AtomicLong;  // For telling which search is the newest
+import java.util.function.Consumer;  // For result callbacks
+import java.util.function.Predicate;  // For the checks the indexes leave
+
+/**
+ * LiveSearch Class
+ *
+ * Runs a search again every time the user changes the query (search-as-you-type)
+ * without blocking the screen and without redoing work it has already done.
+ *
+ * Purpose:
+ * - Search on a background thread, so typing never waits for a search
+ * - Drop searches the user has already typed past
+ * - Check only the occurrences the indexes cannot rule out, and when the new query
+ *   only narrows the previous one (e.g. "mee" -> "meet"), only the previous hits
+ *   if there are fewer of them
+ *
+ * How It Works:
+ * - submit() runs on the thread that owns the EventManager and only does index
+ *   lookups there (Filter.lookup): they give the IDs of the events that may match
+ *   and the checks the indexes leave. It also takes getAllEventsExpanded, which
+ *   is cached and never changed afterwards
+ * - The search thread finds the occurrences of those IDs in that list through a
+ *   table of positions sorted by event ID, built once per list (so once per
+ *   change to the events, not once per keystroke), and checks only them
+ * - Each submit() gets a new generation number. The search thread compares it with
+ *   the newest number every 1024 events and gives up as soon as a newer query is
+ *   waiting; a query that has not started yet is cancelled outright
+ * - The hits of the last finished search are kept with its filter. If the next
+ *   filter narrows it (Filter.narrows) and no event has changed since, the smaller
+ *   of those hits and the new candidates is checked
+ * - Hits are sorted by start time (SearchEvent.BY_START), like the results of the
+ *   full searches, and handed to the given executor (the GUI passes
+ *   Platform::runLater); they are only delivered if no newer query was submitted
+ *   meanwhile
+ *
+ * Call submit() and close() from one thread (the FX thread in the GUI).
+ */
+public class LiveSearch {
+
+    // Constants
+    private static final int CHECK_EVERY = 1024;  // Events between checks for a newer query (a power of two)
+
+    /**
+     * A search condition that can tell whether it only narrows another one
+     */
+    public interface Filter {
+        /**
+         * Look the filter up in the manager's indexes
+         *
+         * Called on the thread that owns the manager, so it must only do index
+         * lookups: occurrences are read on the search thread.
+         *
+         * @param manager The events being searched
+         * @return The candidate IDs and the checks left for each occurrence
+         */
+        Lookup lookup(EventManager manager);
+
+        /**
+         * @param previous An earlier filter
+         * @return true if every event matching this filter also matches previous,
+         *         so this filter only has to look at previous's hits
+         */
+        boolean narrows(Filter previous);
+    }
+
+    /**
+     * What a filter's index lookups leave for the search thread
+     */
+    public static class Lookup {
+        private final int[] ids;  // Sorted IDs of the events that may match, or null for every event
+        private final Predicate<MainEvent> check;  // What the indexes have not settled
+
+        /**
+         * @param ids Sorted IDs of the events that may match, or null if no index
+         *            narrows the search; never changed afterwards
+         * @param check The test each occurrence of those events must still pass;
+         *              it runs on the search thread
+         */
+        public Lookup(int[] ids, Predicate<MainEvent> check) {
+            this.ids = ids;
+            this.check = check;
+        }
+
+        /**
+         * Check an occurrence that may not be among the candidates
+         */
+        boolean matches(MainEvent event) {
+            return (ids == null || Arrays.binarySearch(ids, event.getEventId()) >= 0) && check.test(event);
+        }
+    }
+
+    // Instance variables
+    private final EventManager manager;  // The events being searched
+    private final Executor resultExecutor;  // Where result callbacks run
+    private final ExecutorService searchThread = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "calendar-search");  // Searches never run on the FX thread
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicLong newest = new AtomicLong();  // Generation of the newest submitted query
+    private Future<?> pending;  // The last submitted search
+
+    // Only used on the search thread
+    private Filter lastFilter;  // Filter of the last finished search
+    private List<MainEvent> lastHits;  // Its hits
+    private List<MainEvent> lastVersion;  // getAllEventsExpanded when it was submitted (replaced on every change)
+    private OccurrencePositions positions;  // Where each event's occurrences are in lastVersion
+    /**
+     * Constructor - Prepares live searching over the events of a manager
+     *
+     * @param manager The EventManager to search
+     * @param resultExecutor Runs the result callbacks (e.g. Platform::runLater)
+     */
+    public LiveSearch(EventManager manager, Executor resultExecutor) {
+        this.manager = manager;
+        this.resultExecutor = resultExecutor;
+    }
+
+    /**
+     * Start searching for a new query, abandoning any older one
+     *
+     * @param filter The new query
+     * @param onResult Called with the result, through the result executor, unless a
+     *                 newer query has been submitted by then
+     */
+    public void submit(Filter filter, Consumer<Result> onResult) {
+        long generation = newest.incrementAndGet();
+        if (pending != null) {
+            pending.cancel(false);  // Not started yet: never starts. Running: stops at its next check
+        }
+        Lookup lookup = filter.lookup(manager);  // Index lookups stay on this thread
+        List<MainEvent> version = manager.getAllEventsExpanded();  // Cached; rebuilt only after a change
+        pending = searchThread.submit(() -> search(filter, lookup, version, generation, onResult));
+    }
+
+    /**
+     * Stop the search thread (e.g. when the dialog closes)
+     */
+    public void close() {
+        newest.incrementAndGet();  // Nothing still running may deliver
+        searchThread.shutdownNow();
+    }
+
+    /**
+     * Run one search on the search thread
+     */
+    private void search(Filter filter, Lookup lookup, List<MainEvent> version,
+                        long generation, Consumer<Result> onResult) {
+        long started = System.nanoTime();
+        if (positions == null || lastVersion != version) {
+            positions = new OccurrencePositions(version);  // The events have changed
+            lastFilter = null;
+        }
+        lastVersion = version;
+        List<MainEvent> candidates = lookup.ids == null ? version : positions.occurrencesOf(lookup.ids);
+        boolean narrowed = lastFilter != null && filter.narrows(lastFilter) && lastHits.size() < candidates.size();
+        List<MainEvent> source = narrowed ? lastHits : candidates;
+        Predicate<MainEvent> test = narrowed ? lookup::matches : lookup.check;  // Earlier hits may not be candidates
+
+        List<MainEvent> hits = new ArrayList<>();
+        for (int i = 0; i < source.size(); i++) {
+            if ((i & (CHECK_EVERY - 1)) == 0 && newest.get() != generation) {
+                return;  // The user has typed on - this result would never be shown
+            }
+            MainEvent event = source.get(i);
+            if (test.test(event)) {
+                hits.add(event);
+            }
+        }
+        if (!narrowed) {
+            hits.sort(SearchEvent.BY_START);  // Earlier hits are sorted already
+        }
+        lastFilter = filter;
+        lastHits = hits;
+
+        Result result = new Result(hits, source.size(), narrowed, (System.nanoTime() - started) / 1_000_000);
+        resultExecutor.execute(() -> {
+            if (newest.get() == generation) {
+                onResult.accept(result);
+            }
+        });
+    }
+
+    /**
+     * The positions of every event's occurrences in one getAllEventsExpanded list
+     *
+     * Sorted by event ID, so the occurrences of a set of IDs are found by binary
+     * search without reading the other occurrences.
+     */
+    private static class OccurrencePositions {
+        private final List<MainEvent> occurrences;  // The list the positions point into
+        private final int[] ids;  // Event ID of each entry, ascending
+        private final int[] positions;  // Position of each entry in occurrences
+
+        OccurrencePositions(List<MainEvent> occurrences) {
+            this.occurrences = occurrences;
+            long[] keys = new long[occurrences.size()];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = ((long) occurrences.get(i).getEventId() << 32) | i;  // ID, then position
+            }
+            Arrays.sort(keys);
+            ids = new int[keys.length];
+            positions = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                ids[i] = (int) (keys[i] >> 32);
+                positions[i] = (int) keys[i];
+            }
+        }
+
+        /**
+         * @param wanted Sorted event IDs
+         * @return The occurrences of those events
+         */
+        List<MainEvent> occurrencesOf(int[] wanted) {
+            List<MainEvent> result = new ArrayList<>();
+            for (int id : wanted) {
+                for (int i = firstEntry(id); i < ids.length && ids[i] == id; i++) {
+                    result.add(occurrences.get(positions[i]));
+                }
+            }
+            return result;
+        }
+
+        private int firstEntry(int id) {
+            int low = 0;
+            int high = ids.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] < id) low = mid + 1; else high = mid;
+            }
+            return low;
+        }
+    }
+
+    /**
+     * The outcome of one live search
+     */
+    public static class Result {
+        private final List<MainEvent> hits;
+        private final int checked;  // Events looked at
+        private final boolean narrowed;  // The previous hits were looked at instead of the index candidates
+        private final long millis;  // Time spent searching
+
+        Result(List<MainEvent> hits, int checked, boolean narrowed, long millis) {
+            this.hits = hits;
+            this.checked = checked;
+            this.narrowed = narrowed;
+            this.millis = millis;
+        }
+
+        public List<MainEvent> getHits() { return hits; }
+        public int getChecked() { return checked; }
+        public boolean isNarrowed() { return narrowed; }
+        public long getMillis() { return millis; }
+
+        @Override
+        public String toString() {
+            return hits.size() + " matches (checked " + checked
+                + (narrowed ? " previous hits" : " candidates") + " in " + millis + " ms)";
+        }
+    }
+
+    /**
+     * Title search for titles that contain the typed text (any case), like
+     * SearchEvent.findByTitle
+     */
+    public static class TitleContains implements Filter {
+        private final String query;  // As typed
+        private final String text;  // Lower-case
+
+        /**
+         * Constructor - Creates the filter for a typed query
+         *
+         * @param query The text (any case); empty text matches every event
+         */
+        public TitleContains(String query) {
+            this.query = query;
+            this.text = query.toLowerCase(Locale.ROOT);
+        }
+
+        @Override
+        public Lookup lookup(EventManager manager) {
+            return new Lookup(SearchEvent.titleCandidateIds(manager, query),
+                              event -> event.getTitle().toLowerCase(Locale.ROOT).contains(text));
+        }
+
+        @Override
+        public boolean narrows(Filter previous) {
+            return previous instanceof TitleContains && text.contains(((TitleContains) previous).text);
+        }
+    }
+
+    /**
+     * Title search where every query word must start a word of the title, like
+     * SearchEvent.findByTitleWords
+     */
+    public static class TitleWords implements Filter {
+        private final String query;  // As typed
+        private final List<String> words;  // Lower-case query words
+
+        /**
+         * Constructor - Creates the filter for a typed query
+         *
+         * @param query The words (any case); no words matches every event
+         */
+        public TitleWords(String query) {
+            this.query = query;
+            this.words = TextIndex.tokenize(query);
+        }
+
+        @Override
+        public Lookup lookup(EventManager manager) {
+            // The word index answers this filter exactly; the titles are still checked
+            return new Lookup(manager.getTextIndex().searchPrefixes(TextIndex.Field.TITLE, query), this::matches);
+        }
+
+        private boolean matches(MainEvent event) {
+            return SearchEvent.titleWordsStartWith(event, words);
+        }
+
+        @Override
+        public boolean narrows(Filter previous) {
+            if (!(previous instanceof TitleWords)) return false;
+            // Each earlier word must start one of the new words ("team m" -> "team mee")
+            for (String word : ((TitleWords) previous).words) {
+                if (!SearchEvent.startsAny(words, word)) return false;
+            }
+            return true;
+        }
+    }
+}
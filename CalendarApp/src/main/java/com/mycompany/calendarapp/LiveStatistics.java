@@ -0,0 +1,279 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDateTime;  // For the upcoming/past split
+import java.util.Arrays;  // For resetting histograms
+import java.util.Collections;  // For single-event expansions
+import java.util.IdentityHashMap;  // For finding an event's contribution
+import java.util.LinkedHashMap;  // For the month results
+import java.util.LinkedHashSet;  // For events sharing the same longest duration
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+import java.util.NavigableMap;  // For range walks over sorted times
+import java.util.TreeMap;  // For time-sorted counts
+
+/**
+ * LiveStatistics Class
+ *
+ * Statistics of all occurrences in an EventManager that are kept up to date as
+ * events change, so the statistics dialog does not have to scan every event
+ * each time it opens.
+ *
+ * Purpose:
+ * - Keep the counts, histograms and sums of the statistics report current
+ * - Make getSnapshot() cost about the same no matter how many events there are
+ *
+ * How It Works:
+ * - It listens to EventManager. When an event is added its occurrences are added
+ *   to the running totals; when it is deleted they are taken away again; an update
+ *   does both. Each change costs O(occurrences of that event)
+ * - What each event added is remembered (its occurrence start/end times), because
+ *   by the time an update is reported the event already holds its new values
+ * - Start and end times are also counted in time-sorted maps. The upcoming and past
+ *   counts are kept for a boundary time; when a snapshot is asked for with a later
+ *   time, only the occurrences between the old and new boundary are walked
+ * - The sorted maps also give the earliest and latest start, and a map sorted by
+ *   duration gives the longest event
+ *
+ * The figures match EventStatistics.computeStatistics, except that months are
+ * listed in date order and ties for the longest event go to the event that has
+ * been counted longest. Use it from the thread that edits the events.
+ */
+public class LiveStatistics implements EventChangeListener {
+
+    // Instance variables
+    private final EventManager manager;  // The events being counted
+    private final Map<MainEvent, Contribution> contributions = new IdentityHashMap<>();  // What each event added
+    private int total = 0;
+    private int recurring = 0;
+    private int withReminders = 0;
+    private final int[] dayCounts = new int[7];  // Index 0 = Monday
+    private final int[] hourCounts = new int[24];
+    private final TreeMap<Integer, int[]> monthCounts = new TreeMap<>();  // Month key -> count
+    private final TreeMap<Long, int[]> startCounts = new TreeMap<>();  // Start second -> count
+    private final TreeMap<Long, int[]> endCounts = new TreeMap<>();  // End second -> count
+    private final TreeMap<Long, LinkedHashSet<Contribution>> byLongest = new TreeMap<>();  // Longest minutes -> events
+    private long totalMinutes = 0;
+    private long upcomingAfter;  // Current boundary: starts after this are upcoming
+    private long pastBefore;  // Current boundary: ends before this are past
+    private int upcoming = 0;
+    private int past = 0;
+
+    /**
+     * Constructor - Counts every event in a manager and starts listening for changes
+     *
+     * @param manager The EventManager to follow
+     */
+    public LiveStatistics(EventManager manager) {
+        this.manager = manager;
+        LocalDateTime now = LocalDateTime.now();
+        this.upcomingAfter = MainEvent.toEpochSecond(now);
+        this.pastBefore = upcomingAfter + (now.getNano() > 0 ? 1 : 0);
+        for (MainEvent event : manager.getAllEvents()) {
+            add(event);
+        }
+        manager.addChangeListener(this);
+    }
+
+    /**
+     * Stop following the manager
+     */
+    public void close() {
+        manager.removeChangeListener(this);
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        add(event);
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        remove(event);
+        add(event);
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        remove(event);
+    }
+
+    @Override
+    public void eventsCleared() {
+        contributions.clear();
+        total = 0;
+        recurring = 0;
+        withReminders = 0;
+        Arrays.fill(dayCounts, 0);
+        Arrays.fill(hourCounts, 0);
+        monthCounts.clear();
+        startCounts.clear();
+        endCounts.clear();
+        byLongest.clear();
+        totalMinutes = 0;
+        upcoming = 0;
+        past = 0;
+    }
+
+    // ---- Queries ----
+
+    /**
+     * Get the current statistics
+     *
+     * Moves the upcoming/past boundary to the given time first, walking only the
+     * occurrences that start or end between the old and the new boundary.
+     *
+     * @param now The time that splits upcoming from past events
+     * @return The statistics
+     */
+    public StatisticsSnapshot getSnapshot(LocalDateTime now) {
+        moveBoundary(now);
+
+        Map<String, Integer> byMonth = new LinkedHashMap<>();
+        for (Map.Entry<Integer, int[]> entry : monthCounts.entrySet()) {
+            byMonth.put(EventStatistics.monthName(entry.getKey()), entry.getValue()[0]);
+        }
+
+        double averagePerWeek = 0.0;
+        double averageDuration = 0.0;
+        if (total > 0) {
+            averagePerWeek = StatisticsAccumulator.averagePerWeek(total,
+                EventStatistics.epochDayOf(startCounts.firstKey()), EventStatistics.epochDayOf(startCounts.lastKey()));
+            averageDuration = totalMinutes / (double) total;
+        }
+
+        MainEvent longest = null;
+        long longestMinutes = 0;
+        if (!byLongest.isEmpty()) {
+            Map.Entry<Long, LinkedHashSet<Contribution>> top = byLongest.lastEntry();
+            longest = top.getValue().iterator().next().longest;
+            longestMinutes = top.getKey();
+        }
+
+        return new StatisticsSnapshot(now, total, upcoming, past, recurring, withReminders,
+            dayCounts, hourCounts, byMonth, averagePerWeek, averageDuration, longest, longestMinutes);
+    }
+
+    // ---- Updating ----
+
+    /**
+     * Add an event's occurrences to the totals
+     */
+    private void add(MainEvent event) {
+        List<MainEvent> rows = event instanceof RecurringEvent
+            ? ((RecurringEvent) event).generateOccurrences()
+            : Collections.singletonList(event);
+
+        int n = rows.size();
+        Contribution contribution = new Contribution(n);
+        for (int i = 0; i < n; i++) {
+            MainEvent row = rows.get(i);
+            long start = row.getStartEpochSecond();
+            long end = row.getEndEpochSecond();
+            contribution.starts[i] = start;
+            contribution.ends[i] = end;
+            long minutes = (end - start) / 60;
+            if (contribution.longest == null || minutes > contribution.longestMinutes) {
+                contribution.longestMinutes = minutes;
+                contribution.longest = row;
+            }
+            if (row instanceof RecurringEvent) contribution.recurringRows++;
+            if (row.getReminder() != null) contribution.reminderRows++;
+        }
+        contributions.put(event, contribution);
+        apply(contribution, 1);
+        if (contribution.longest != null) {
+            byLongest.computeIfAbsent(contribution.longestMinutes, key -> new LinkedHashSet<>()).add(contribution);
+        }
+    }
+
+    /**
+     * Take an event's occurrences away from the totals
+     */
+    private void remove(MainEvent event) {
+        Contribution contribution = contributions.remove(event);
+        if (contribution == null) return;
+        apply(contribution, -1);
+        if (contribution.longest != null) {
+            LinkedHashSet<Contribution> same = byLongest.get(contribution.longestMinutes);
+            same.remove(contribution);
+            if (same.isEmpty()) byLongest.remove(contribution.longestMinutes);
+        }
+    }
+
+    /**
+     * Add (sign 1) or subtract (sign -1) one event's occurrences
+     */
+    private void apply(Contribution contribution, int sign) {
+        long[] starts = contribution.starts;
+        long[] ends = contribution.ends;
+        for (int i = 0; i < starts.length; i++) {
+            long start = starts[i];
+            long end = ends[i];
+            dayCounts[EventStatistics.dayOfWeekIndexOf(start)] += sign;
+            hourCounts[EventStatistics.hourOf(start)] += sign;
+            count(monthCounts, EventStatistics.monthKeyOf(start), sign);
+            count(startCounts, start, sign);
+            count(endCounts, end, sign);
+            totalMinutes += sign * ((end - start) / 60);
+            if (start > upcomingAfter) upcoming += sign;
+            if (end < pastBefore) past += sign;
+        }
+        total += sign * starts.length;
+        recurring += sign * contribution.recurringRows;
+        withReminders += sign * contribution.reminderRows;
+    }
+
+    /**
+     * Move the upcoming/past boundary, only walking the times in between
+     */
+    private void moveBoundary(LocalDateTime now) {
+        long newUpcomingAfter = MainEvent.toEpochSecond(now);
+        long newPastBefore = newUpcomingAfter + (now.getNano() > 0 ? 1 : 0);
+
+        // Starts in (old, new] are no longer upcoming (or become upcoming again if time went back)
+        if (newUpcomingAfter > upcomingAfter) {
+            upcoming -= sum(startCounts.subMap(upcomingAfter, false, newUpcomingAfter, true));
+        } else if (newUpcomingAfter < upcomingAfter) {
+            upcoming += sum(startCounts.subMap(newUpcomingAfter, false, upcomingAfter, true));
+        }
+        // Ends in [old, new) have become past
+        if (newPastBefore > pastBefore) {
+            past += sum(endCounts.subMap(pastBefore, true, newPastBefore, false));
+        } else if (newPastBefore < pastBefore) {
+            past -= sum(endCounts.subMap(newPastBefore, true, pastBefore, false));
+        }
+        upcomingAfter = newUpcomingAfter;
+        pastBefore = newPastBefore;
+    }
+
+    private static <K> void count(NavigableMap<K, int[]> counts, K key, int sign) {
+        int[] count = counts.computeIfAbsent(key, k -> new int[1]);
+        count[0] += sign;
+        if (count[0] == 0) counts.remove(key);
+    }
+
+    private static int sum(NavigableMap<Long, int[]> counts) {
+        int sum = 0;
+        for (int[] count : counts.values()) sum += count[0];
+        return sum;
+    }
+
+    /**
+     * What one event added to the totals
+     */
+    private static class Contribution {
+        private final long[] starts;  // Occurrence starts (epoch seconds)
+        private final long[] ends;  // Occurrence ends (epoch seconds)
+        private int recurringRows = 0;
+        private int reminderRows = 0;
+        private MainEvent longest;  // Its longest occurrence (first of equals)
+        private long longestMinutes;
+
+        Contribution(int size) {
+            this.starts = new long[size];
+            this.ends = new long[size];
+        }
+    }
+}
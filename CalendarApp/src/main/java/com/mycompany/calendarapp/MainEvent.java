@@ -1,6 +1,7 @@
 package com.mycompany.calendarapp;
 
 import java.time.LocalDateTime;  // For date and time handling
+import java.time.ZoneOffset;  // For converting times to and from seconds
 
 /**
  * MainEvent Class
@@ -20,14 +21,23 @@ import java.time.LocalDateTime;  // For date and time handling
  * - Location: Where the event takes place
  * - Category: Type of event (Work, Personal, Meeting, etc.)
  * - Priority: Importance level (HIGH, MEDIUM, LOW)
+ * 
+ * Times are stored as two long numbers (seconds since 1970-01-01T00:00, with no
+ * time zone shift) instead of two LocalDateTime objects. getStartDateTime() and
+ * getEndDateTime() rebuild the LocalDateTime when asked; code that only compares
+ * times can use getStartEpochSecond() and getEndEpochSecond() instead.
+ * Parts of a second are not kept.
  */
 public class MainEvent {
+    // Constants
+    public static final long NO_TIME = Long.MIN_VALUE;  // Stored in place of a null date-time
+
     // Core event fields
     private int eventId;  // Unique identifier for this event
     private String title;  // Event name/title
     private String description;  // Detailed description
-    private LocalDateTime startDateTime;  // When the event starts
-    private LocalDateTime endDateTime;  // When the event ends
+    private long startEpochSecond;  // When the event starts (NO_TIME = not set)
+    private long endEpochSecond;  // When the event ends (NO_TIME = not set)
     
     // Optional features
     private Reminder reminder;  // Reminder settings (null = no reminder set)
@@ -56,20 +66,35 @@ public class MainEvent {
         this.eventId = eventId;
         this.title = title;
         this.description = description;
-        this.startDateTime = startDateTime;
-        this.endDateTime = endDateTime;
+        this.startEpochSecond = toEpochSecond(startDateTime);
+        this.endEpochSecond = toEpochSecond(endDateTime);
         this.reminder = null;  // No reminder by default
         this.location = "";  // Empty location by default
         this.category = "General";  // Default category
         this.priority = "MEDIUM";  // Default priority
     }
 
+    /**
+     * Constructor - Creates an event with only its times set
+     * 
+     * Used by Occurrence, which reads every other field from its series.
+     * 
+     * @param startDateTime When the event begins
+     * @param endDateTime When the event ends
+     */
+    protected MainEvent(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        this.startEpochSecond = toEpochSecond(startDateTime);
+        this.endEpochSecond = toEpochSecond(endDateTime);
+    }
+
     // Getter methods - Provide read access to private fields
     public int getEventId() { return eventId; }
     public String getTitle() { return title; }
     public String getDescription() { return description; }
-    public LocalDateTime getStartDateTime() { return startDateTime; }
-    public LocalDateTime getEndDateTime() { return endDateTime; }
+    public LocalDateTime getStartDateTime() { return fromEpochSecond(startEpochSecond); }
+    public LocalDateTime getEndDateTime() { return fromEpochSecond(endEpochSecond); }
+    public long getStartEpochSecond() { return startEpochSecond; }
+    public long getEndEpochSecond() { return endEpochSecond; }
     public Reminder getReminder() { return reminder; }
     public String getLocation() { return location; }
     public String getCategory() { return category; }
@@ -79,13 +104,59 @@ public class MainEvent {
     public void setEventId(int eventId) { this.eventId = eventId; }
     public void setTitle(String title) { this.title = title; }
     public void setDescription(String description) { this.description = description; }
-    public void setStartDateTime(LocalDateTime startDateTime) { this.startDateTime = startDateTime; }
-    public void setEndDateTime(LocalDateTime endDateTime) { this.endDateTime = endDateTime; }
+    public void setStartDateTime(LocalDateTime startDateTime) { this.startEpochSecond = toEpochSecond(startDateTime); }
+    public void setEndDateTime(LocalDateTime endDateTime) { this.endEpochSecond = toEpochSecond(endDateTime); }
     public void setReminder(Reminder reminder) { this.reminder = reminder; }
     public void setLocation(String location) { this.location = location; }
     public void setCategory(String category) { this.category = category; }
     public void setPriority(String priority) { this.priority = priority; }
 
+    /**
+     * Create an independent copy of this event
+     * 
+     * The copy has the same ID and field values; changing one afterwards does not
+     * affect the other. Used to take a consistent snapshot for saving.
+     * 
+     * @return A new event equal to this one
+     */
+    public MainEvent copy() {
+        MainEvent copy = new MainEvent(eventId, title, description, null, null);
+        copy.startEpochSecond = startEpochSecond;
+        copy.endEpochSecond = endEpochSecond;
+        copyDetailsTo(copy);
+        return copy;
+    }
+
+    /**
+     * Copy the reminder and additional fields onto another event
+     */
+    protected void copyDetailsTo(MainEvent target) {
+        target.reminder = reminder != null ? reminder.copy() : null;
+        target.location = location;
+        target.category = category;
+        target.priority = priority;
+    }
+
+    /**
+     * Convert a date-time into the number stored by MainEvent
+     * 
+     * @param dateTime The date-time (may be null)
+     * @return Seconds since 1970-01-01T00:00 (no time zone shift), or NO_TIME for null
+     */
+    public static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime == null ? NO_TIME : dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    /**
+     * Convert a number stored by MainEvent back into a date-time
+     * 
+     * @param epochSecond Seconds since 1970-01-01T00:00, or NO_TIME
+     * @return The date-time, or null for NO_TIME
+     */
+    public static LocalDateTime fromEpochSecond(long epochSecond) {
+        return epochSecond == NO_TIME ? null : LocalDateTime.ofEpochSecond(epochSecond, 0, ZoneOffset.UTC);
+    }
+
     /**
      * toString method - Creates a readable string representation
      * 
@@ -96,11 +167,11 @@ public class MainEvent {
     @Override
     public String toString() {
         return "MainEvent{" +
-                "eventId=" + eventId +
-                ", title='" + title + '\'' +
-                ", description='" + description + '\'' +
-                ", startDateTime=" + startDateTime +
-                ", endDateTime=" + endDateTime +
+                "eventId=" + getEventId() +
+                ", title='" + getTitle() + '\'' +
+                ", description='" + getDescription() + '\'' +
+                ", startDateTime=" + getStartDateTime() +
+                ", endDateTime=" + getEndDateTime() +
                 '}';
     }
 }
@@ -18,6 +18,7 @@ public class MainMenu {
         Scanner input = new Scanner(System.in);
         EventManager manager = new EventManager();
         CSVHandlerCompliant.loadEvents(manager);
+        EventJournal journal = EventJournal.open(manager);  // Replay edits made since the last full save
 
         DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
         CalendarView calendarView = new CalendarView();
@@ -55,7 +56,8 @@ public class MainMenu {
                     break;
 
                 case 5:
-                    CSVHandlerCompliant.saveEvents(manager);
+                    journal.compact();  // Full save, then empty the journal
+                    journal.close();
                     System.out.println("Saved! Goodbye!");
                     System.exit(0);
                     break;
@@ -163,6 +165,7 @@ public class MainMenu {
                         re.setOccurrences(input.nextInt());
                         input.nextLine();
                     }
+                    manager.updateEvent(eventToUpdate);
                     System.out.println("Event updated!");
                     break;
 
@@ -279,7 +282,7 @@ public class MainMenu {
                 case 3:
                     System.out.print("Enter event title: ");
                     String title = input.nextLine();
-                    searchEvent.searchByEventName(allEvents, title);
+                    searchEvent.searchByEventName(manager, title);
                     break;
 
                 case 4:
@@ -383,6 +386,7 @@ public class MainMenu {
         }
 
         event.setReminder(new Reminder(minutesBefore));
+        manager.updateEvent(event);  // Reschedule the reminder
         System.out.println("✓ Reminder set for '" + event.getTitle() + "': " + event.getReminder().getDisplayText());
     }
 
@@ -430,6 +434,7 @@ public class MainMenu {
         }
 
         event.setReminder(null);
+        manager.updateEvent(event);  // Unschedule the reminder
         System.out.println("Reminder removed from '" + event.getTitle() + "'");
     }
 }
@@ -0,0 +1,750 @@
+package com.mycompany.calendarapp;
+
+import java.io.IOException;  // For file errors
+import java.nio.ByteBuffer;  // For holding file contents
+import java.nio.channels.FileChannel;  // For mapping/reading files
+import java.nio.charset.StandardCharsets;  // For UTF-8 decoding
+import java.nio.file.Files;  // For file checks
+import java.nio.file.Path;  // For file locations
+import java.nio.file.StandardOpenOption;  // For opening files read-only
+import java.time.DateTimeException;  // Thrown for invalid dates
+import java.time.LocalDateTime;  // For date and time handling
+import java.time.format.DateTimeFormatter;  // For the slow-path date parser
+import java.time.format.DateTimeParseException;  // Thrown for invalid override dates
+import java.util.ArrayList;  // For collecting parsed rows
+import java.util.Arrays;  // For growing arrays
+import java.util.List;  // List interface
+import java.util.concurrent.ForkJoinPool;  // Thread pool for parallel loading
+import java.util.concurrent.ForkJoinTask;  // Tasks run on the pool
+import java.util.function.Function;  // Row reader callbacks
+
+/**
+ * MappedCSVLoader Class
+ *
+ * Fast loader for the CSV files (event.csv, recurrent.csv, additional.csv, reminder.csv).
+ * It produces the same events as reading the files line by line, but does much less
+ * work per row.
+ *
+ * How It Works:
+ * 1. Each file is opened with a FileChannel; large files are memory-mapped, small
+ *    ones are read into memory with one read call
+ * 2. Rows are tokenized straight from the bytes, without building a String per line
+ *    or splitting it into an array
+ * 3. Dates in the usual "yyyy-MM-ddTHH:mm:ss" layout are decoded digit by digit;
+ *    anything else falls back to LocalDateTime.parse
+ * 4. The files are joined by eventId: recurrent.csv rows replace their basic event
+ *    as they are read, reminder.csv rows are attached before the events reach the
+ *    manager (so its reminder scheduler picks them up in one build), and
+ *    additional.csv rows are applied through EventManager.findEventById
+ *
+ * loadParallel() does the same work with the four files (and chunks of a large
+ * event.csv) parsed at the same time.
+ *
+ * Rows that cannot be parsed (bad numbers or dates) are skipped instead of aborting
+ * the whole load. Quoted values may contain commas, doubled quotes and line breaks.
+ *
+ * Note: on Windows a mapped file stays locked until the mapping is garbage
+ * collected, which is why only files above MAP_THRESHOLD are mapped.
+ */
+public class MappedCSVLoader {
+
+    // Constants
+    private static final long MAP_THRESHOLD = 8L * 1024 * 1024;  // Map files of 8 MB or more
+    private static final int MIN_CHUNK_SIZE = 1024 * 1024;  // Smallest event.csv chunk for parallel parsing
+    private static final DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    /**
+     * Load events from the four CSV files into a manager
+     *
+     * Events are added in the order event.csv lists them and the manager's next
+     * ID is set past the highest ID found. Missing files are treated as empty.
+     *
+     * @param manager The EventManager to add loaded events to
+     * @param eventFile Path of event.csv
+     * @param recurrentFile Path of recurrent.csv
+     * @param additionalFile Path of additional.csv
+     * @param reminderFile Path of reminder.csv
+     */
+    public static void load(EventManager manager, Path eventFile, Path recurrentFile, Path additionalFile,
+                            Path reminderFile) {
+        Joiner joiner = new Joiner();
+
+        // Pass over event.csv - basic event data
+        try {
+            CsvCursor cursor = open(eventFile);
+            if (cursor != null) {
+                cursor.nextRecord();  // Skip header
+                while (cursor.hasRecord()) {
+                    joiner.addEvent(readEventRow(cursor));
+                    cursor.nextRecord();
+                }
+            }
+        } catch (IOException ex) {
+            System.out.println("Error loading event.csv: " + ex.getMessage());
+        }
+
+        // Pass over recurrent.csv - turn matching events into recurring events
+        try {
+            CsvCursor cursor = open(recurrentFile);
+            if (cursor != null) {
+                cursor.nextRecord();  // Skip header
+                while (cursor.hasRecord()) {
+                    joiner.addRecurrence(readRecurrentRow(cursor));
+                    cursor.nextRecord();
+                }
+            }
+        } catch (IOException ex) {
+            System.out.println("Error loading recurrent.csv: " + ex.getMessage());
+        }
+
+        // Pass over reminder.csv - attach reminders before the events are added
+        try {
+            CsvCursor cursor = open(reminderFile);
+            if (cursor != null) {
+                cursor.nextRecord();  // Skip header
+                while (cursor.hasRecord()) {
+                    joiner.addReminder(readReminderRow(cursor));
+                    cursor.nextRecord();
+                }
+            }
+        } catch (IOException ex) {
+            System.out.println("Error loading reminders: " + ex.getMessage());
+        }
+
+        // Hand the joined events to the manager in ID order
+        joiner.finish(manager);
+
+        // Pass over additional.csv - location, category and priority
+        try {
+            CsvCursor cursor = open(additionalFile);
+            if (cursor != null) {
+                cursor.nextRecord();  // Skip header
+                while (cursor.hasRecord()) {
+                    AdditionalRow row = readAdditionalRow(cursor);
+                    if (row != null) row.applyTo(manager);
+                    cursor.nextRecord();
+                }
+            }
+        } catch (IOException ex) {
+            System.out.println("Error loading additional fields: " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Load events from the four CSV files, parsing them at the same time
+     *
+     * The four files are parsed concurrently on the common ForkJoinPool, and a
+     * large event.csv is also cut into chunks (at row boundaries) that are parsed
+     * in parallel. The parsed rows are then joined by eventId in file order, so the
+     * manager ends up exactly as it would after load().
+     *
+     * @param manager The EventManager to add loaded events to
+     * @param eventFile Path of event.csv
+     * @param recurrentFile Path of recurrent.csv
+     * @param additionalFile Path of additional.csv
+     * @param reminderFile Path of reminder.csv
+     * @return How long each stage took
+     */
+    public static LoadTimings loadParallel(EventManager manager, Path eventFile, Path recurrentFile, Path additionalFile,
+                                           Path reminderFile) {
+        long startNanos = System.nanoTime();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        LoadTimings timings = new LoadTimings();
+
+        // Start all four files at once
+        ForkJoinTask<List<MainEvent>> eventTask = pool.submit(() -> {
+            long t0 = System.nanoTime();
+            List<MainEvent> rows = parseEventFile(eventFile);
+            timings.eventNanos = System.nanoTime() - t0;
+            return rows;
+        });
+        ForkJoinTask<List<RecurrentEventData>> recurrentTask = pool.submit(() -> {
+            long t0 = System.nanoTime();
+            List<RecurrentEventData> rows = parseRows(recurrentFile, MappedCSVLoader::readRecurrentRow, "recurrent.csv");
+            timings.recurrentNanos = System.nanoTime() - t0;
+            return rows;
+        });
+        ForkJoinTask<List<AdditionalRow>> additionalTask = pool.submit(() -> {
+            long t0 = System.nanoTime();
+            List<AdditionalRow> rows = parseRows(additionalFile, MappedCSVLoader::readAdditionalRow, "additional.csv");
+            timings.additionalNanos = System.nanoTime() - t0;
+            return rows;
+        });
+        ForkJoinTask<List<ReminderRow>> reminderTask = pool.submit(() -> {
+            long t0 = System.nanoTime();
+            List<ReminderRow> rows = parseRows(reminderFile, MappedCSVLoader::readReminderRow, "reminder.csv");
+            timings.reminderNanos = System.nanoTime() - t0;
+            return rows;
+        });
+
+        List<MainEvent> events = eventTask.join();
+        List<RecurrentEventData> recurrent = recurrentTask.join();
+        List<AdditionalRow> additional = additionalTask.join();
+        List<ReminderRow> reminders = reminderTask.join();
+
+        // Join stage - same order of operations as load()
+        long joinStart = System.nanoTime();
+        Joiner joiner = new Joiner();
+        for (MainEvent event : events) joiner.addEvent(event);
+        for (RecurrentEventData rd : recurrent) joiner.addRecurrence(rd);
+        for (ReminderRow row : reminders) joiner.addReminder(row);
+        joiner.finish(manager);
+        for (AdditionalRow row : additional) row.applyTo(manager);
+        timings.joinNanos = System.nanoTime() - joinStart;
+
+        timings.totalNanos = System.nanoTime() - startNanos;
+        return timings;
+    }
+
+    /**
+     * Parse event.csv, splitting it into chunks that are parsed in parallel
+     */
+    private static List<MainEvent> parseEventFile(Path file) {
+        try {
+            if (!Files.exists(file)) return new ArrayList<>();
+            ByteBuffer buffer = readAll(file);
+            int[] bounds = chunkBoundaries(buffer, ForkJoinPool.commonPool().getParallelism() * 4);
+
+            // One task per chunk, each producing its rows in file order
+            List<ForkJoinTask<List<MainEvent>>> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                int from = bounds[i];
+                int to = bounds[i + 1];
+                tasks.add(ForkJoinTask.adapt(() -> {
+                    List<MainEvent> rows = new ArrayList<>();
+                    CsvCursor cursor = new CsvCursor(buffer.duplicate(), from, to);
+                    while (cursor.hasRecord()) {
+                        MainEvent event = readEventRow(cursor);
+                        if (event != null) rows.add(event);
+                        cursor.nextRecord();
+                    }
+                    return rows;
+                }));
+            }
+            ForkJoinTask.invokeAll(tasks);
+
+            List<MainEvent> result = new ArrayList<>();
+            for (ForkJoinTask<List<MainEvent>> task : tasks) {
+                result.addAll(task.join());
+            }
+            return result;
+        } catch (IOException ex) {
+            System.out.println("Error loading event.csv: " + ex.getMessage());
+            return new ArrayList<>();
+        }
+    }
+
+    /**
+     * Parse every row of a small file with the given row reader
+     */
+    private static <T> List<T> parseRows(Path file, Function<CsvCursor, T> reader, String name) {
+        List<T> rows = new ArrayList<>();
+        try {
+            CsvCursor cursor = open(file);
+            if (cursor != null) {
+                cursor.nextRecord();  // Skip header
+                while (cursor.hasRecord()) {
+                    T row = reader.apply(cursor);
+                    if (row != null) rows.add(row);
+                    cursor.nextRecord();
+                }
+            }
+        } catch (IOException ex) {
+            System.out.println("Error loading " + name + ": " + ex.getMessage());
+        }
+        return rows;
+    }
+
+    /**
+     * Work out where to cut a CSV buffer into chunks
+     *
+     * Cuts are only made at line breaks that are outside quoted values, so every
+     * chunk holds whole rows. The header row is left out of the first chunk.
+     *
+     * @param buffer The file contents
+     * @param targetChunks Roughly how many chunks to aim for
+     * @return Chunk start positions, followed by the end of the buffer
+     */
+    static int[] chunkBoundaries(ByteBuffer buffer, int targetChunks) {
+        int start = buffer.position();
+        int end = buffer.limit();
+        int chunkSize = Math.max(MIN_CHUNK_SIZE, (end - start) / Math.max(1, targetChunks));
+
+        List<Integer> cuts = new ArrayList<>();
+        boolean inQuotes = false;
+        boolean headerDone = false;
+        int nextCut = start;
+        for (int i = start; i < end; i++) {
+            byte b = buffer.get(i);
+            if (b == '"') {
+                inQuotes = !inQuotes;  // A doubled quote toggles twice, so parity still works
+            } else if (b == '\n' && !inQuotes) {
+                if (!headerDone) {
+                    headerDone = true;
+                    cuts.add(i + 1);  // First chunk starts after the header
+                    nextCut = i + 1 + chunkSize;
+                } else if (i + 1 >= nextCut && i + 1 < end) {
+                    cuts.add(i + 1);
+                    nextCut = i + 1 + chunkSize;
+                }
+            }
+        }
+        if (!headerDone) cuts.add(end);  // Header only (or empty file)
+        cuts.add(end);
+
+        int[] bounds = new int[cuts.size()];
+        for (int i = 0; i < bounds.length; i++) bounds[i] = cuts.get(i);
+        return bounds;
+    }
+
+    /**
+     * Read one event.csv row: eventId, title, description, startDateTime, endDateTime
+     *
+     * @return The event, or null if the row is short or malformed
+     */
+    static MainEvent readEventRow(CsvCursor cursor) {
+        try {
+            if (!cursor.hasField()) return null;
+            int id = cursor.nextInt();
+            if (!cursor.hasField()) return null;
+            String title = cursor.nextString();
+            if (!cursor.hasField()) return null;
+            String desc = cursor.nextString();
+            if (!cursor.hasField()) return null;
+            LocalDateTime start = cursor.nextDateTime();
+            if (!cursor.hasField()) return null;
+            LocalDateTime end = cursor.nextDateTime();
+            return new MainEvent(id, title, desc, start, end);
+        } catch (NumberFormatException | DateTimeException ex) {
+            return null;  // Skip malformed row
+        }
+    }
+
+    /**
+     * Read one recurrent.csv row: eventId, recurrentInterval, recurrentTimes, recurrentEndDate
+     *
+     * @return The recurrence data, or null if the row is short or malformed
+     */
+    static RecurrentEventData readRecurrentRow(CsvCursor cursor) {
+        try {
+            if (!cursor.hasField()) return null;
+            int eventId = cursor.nextInt();
+            if (!cursor.hasField()) return null;
+            String interval = cursor.nextString();
+            if (!cursor.hasField()) return null;
+            int times = cursor.nextInt();
+            if (!cursor.hasField()) return null;
+            String endDate = cursor.nextString();
+            return new RecurrentEventData(eventId, interval, times, endDate);
+        } catch (NumberFormatException ex) {
+            return null;  // Skip malformed row
+        }
+    }
+
+    /**
+     * Read one additional.csv row: eventId, location, category, priority
+     *
+     * @return The row, or null if it is short or malformed
+     */
+    static AdditionalRow readAdditionalRow(CsvCursor cursor) {
+        try {
+            if (!cursor.hasField()) return null;
+            int eventId = cursor.nextInt();
+            if (!cursor.hasField()) return null;
+            String location = cursor.nextString();
+            if (!cursor.hasField()) return null;
+            String category = cursor.nextString();
+            if (!cursor.hasField()) return null;
+            String priority = cursor.nextString();
+            return new AdditionalRow(eventId, location, category, priority);
+        } catch (NumberFormatException ex) {
+            return null;  // Skip malformed row
+        }
+    }
+
+    /**
+     * Parsed additional.csv row
+     */
+    static final class AdditionalRow {
+        final int eventId;
+        final String location;
+        final String category;
+        final String priority;
+
+        AdditionalRow(int eventId, String location, String category, String priority) {
+            this.eventId = eventId;
+            this.location = location;
+            this.category = category;
+            this.priority = priority;
+        }
+
+        /**
+         * Copy the fields onto the matching event, if the manager has one
+         */
+        void applyTo(EventManager manager) {
+            MainEvent event = manager.findEventById(eventId);
+            if (event != null) {
+                event.setLocation(location);
+                event.setCategory(category);
+                event.setPriority(priority);
+            }
+        }
+    }
+
+    /**
+     * Read one reminder.csv row: eventId, minutesBefore, overrides (optional)
+     *
+     * @return The row, or null if it is short or malformed
+     */
+    static ReminderRow readReminderRow(CsvCursor cursor) {
+        try {
+            if (!cursor.hasField()) return null;
+            int eventId = cursor.nextInt();
+            if (!cursor.hasField()) return null;
+            Reminder reminder = new Reminder(cursor.nextInt());
+            if (cursor.hasField()) {
+                ReminderCSVHandler.parseOverrides(reminder, cursor.nextString());
+            }
+            return new ReminderRow(eventId, reminder);
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            return null;  // Skip malformed row
+        }
+    }
+
+    /**
+     * Parsed reminder.csv row
+     */
+    static final class ReminderRow {
+        final int eventId;
+        final Reminder reminder;
+
+        ReminderRow(int eventId, Reminder reminder) {
+            this.eventId = eventId;
+            this.reminder = reminder;
+        }
+    }
+
+    /**
+     * Joiner Class
+     *
+     * Collects event.csv, recurrent.csv and reminder.csv rows by eventId and hands the
+     * combined events to an EventManager. Later rows for the same ID replace
+     * earlier ones.
+     */
+    private static final class Joiner {
+        private final EventIdMap eventsById = new EventIdMap();  // Loaded events by ID
+        private int[] ids = new int[64];  // Distinct IDs seen, in file order
+        private int idCount = 0;
+
+        void addEvent(MainEvent event) {
+            if (event != null && eventsById.put(event.getEventId(), event) == null) {
+                if (idCount == ids.length) ids = Arrays.copyOf(ids, idCount * 2);
+                ids[idCount++] = event.getEventId();
+            }
+        }
+
+        void addRecurrence(RecurrentEventData rd) {
+            if (rd == null) return;
+            MainEvent basic = eventsById.get(rd.getEventId());
+            if (basic == null) return;  // No matching event.csv row
+            try {
+                eventsById.put(rd.getEventId(), CSVHandlerCompliant.buildRecurringEvent(basic, rd));
+            } catch (DateTimeException ex) {
+                // Unreadable end date - keep the event as a normal event
+            }
+        }
+
+        void addReminder(ReminderRow row) {
+            if (row == null) return;
+            MainEvent event = eventsById.get(row.eventId);
+            if (event != null) {
+                event.setReminder(row.reminder);
+            }
+        }
+
+        /**
+         * Add the joined events to the manager in file order
+         */
+        void finish(EventManager manager) {
+            int maxId = 0;
+            for (int i = 0; i < idCount; i++) {
+                int id = ids[i];
+                manager.addEvent(eventsById.get(id));
+                if (id > maxId) maxId = id;
+            }
+            manager.setNextEventId(maxId + 1);
+        }
+    }
+
+    /**
+     * LoadTimings Class
+     *
+     * Wall-clock time spent on each stage of a parallel load. The four file
+     * stages overlap, so they add up to more than the total.
+     */
+    public static final class LoadTimings {
+        private volatile long eventNanos;  // Parsing event.csv
+        private volatile long recurrentNanos;  // Parsing recurrent.csv
+        private volatile long additionalNanos;  // Parsing additional.csv
+        private volatile long reminderNanos;  // Parsing reminder.csv
+        private long joinNanos;  // Merging the parsed rows by eventId
+        private long totalNanos;  // Whole load
+        private boolean fromSnapshot;  // Read from the binary snapshot instead of the CSV files
+
+        /**
+         * Timings of a load that read the binary snapshot and none of the CSV files
+         */
+        static LoadTimings fromSnapshot(long nanos) {
+            LoadTimings timings = new LoadTimings();
+            timings.totalNanos = nanos;
+            timings.fromSnapshot = true;
+            return timings;
+        }
+
+        public double getEventMillis() { return eventNanos / 1_000_000.0; }
+        public double getRecurrentMillis() { return recurrentNanos / 1_000_000.0; }
+        public double getAdditionalMillis() { return additionalNanos / 1_000_000.0; }
+        public double getReminderMillis() { return reminderNanos / 1_000_000.0; }
+        public double getJoinMillis() { return joinNanos / 1_000_000.0; }
+        public double getTotalMillis() { return totalNanos / 1_000_000.0; }
+        public boolean isFromSnapshot() { return fromSnapshot; }
+
+        @Override
+        public String toString() {
+            if (fromSnapshot) {
+                return String.format("%s %.1f ms (CSV files not read)", BinarySnapshotHandler.SNAPSHOT_FILE, getTotalMillis());
+            }
+            return String.format("event.csv %.1f ms, recurrent.csv %.1f ms, additional.csv %.1f ms, reminder.csv %.1f ms, join %.1f ms, total %.1f ms",
+                getEventMillis(), getRecurrentMillis(), getAdditionalMillis(), getReminderMillis(), getJoinMillis(), getTotalMillis());
+        }
+    }
+
+    /**
+     * Open a file for tokenizing
+     *
+     * @return A cursor over the file's bytes, or null if the file does not exist
+     */
+    static CsvCursor open(Path file) throws IOException {
+        if (!Files.exists(file)) return null;
+        return new CsvCursor(readAll(file));
+    }
+
+    /**
+     * Get a file's whole contents as a buffer, mapping it if it is large
+     */
+    static ByteBuffer readAll(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException(file + " is too large to load (" + size + " bytes)");
+            }
+            if (size >= MAP_THRESHOLD) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Keep reading until the buffer is full or the file ends
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * CsvCursor Class
+     *
+     * Walks through CSV bytes one field at a time.
+     *
+     * The cursor always sits either at the start of a field or at the end of a
+     * record. hasField() tells which; nextRecord() moves to the next row.
+     */
+    static final class CsvCursor {
+        private final ByteBuffer buf;  // File contents
+        private final int end;  // Index just past the last byte
+        private int pos;  // Current read position
+        private boolean fieldAvailable;  // true when positioned at the start of a field
+        private byte[] scratch = new byte[128];  // Holds the bytes of the current text field
+
+        CsvCursor(ByteBuffer buf) {
+            this.buf = buf;
+            this.pos = buf.position();
+            this.end = buf.limit();
+            // Skip a UTF-8 byte order mark if the file has one
+            if (end - pos >= 3 && buf.get(pos) == (byte) 0xEF && buf.get(pos + 1) == (byte) 0xBB
+                    && buf.get(pos + 2) == (byte) 0xBF) {
+                pos += 3;
+            }
+            this.fieldAvailable = pos < end;
+        }
+
+        /**
+         * Create a cursor over part of a buffer (one chunk of whole rows)
+         */
+        CsvCursor(ByteBuffer buf, int from, int to) {
+            this.buf = buf;
+            this.pos = from;
+            this.end = to;
+            this.fieldAvailable = pos < end;
+        }
+
+        /**
+         * Check whether another row starts at the current position
+         */
+        boolean hasRecord() {
+            return pos < end;
+        }
+
+        /**
+         * Check whether the current row has another field to read
+         */
+        boolean hasField() {
+            return fieldAvailable;
+        }
+
+        /**
+         * Skip whatever is left of the current row, including its line break
+         */
+        void nextRecord() {
+            while (fieldAvailable) {
+                readText();  // Skip remaining fields (they may hold quoted line breaks)
+            }
+            if (pos < end && buf.get(pos) == '\r') pos++;
+            if (pos < end && buf.get(pos) == '\n') pos++;
+            fieldAvailable = pos < end;
+        }
+
+        /**
+         * Read the next field as text
+         */
+        String nextString() {
+            int length = readText();
+            return new String(scratch, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Read the next field as an int, straight from the digits
+         *
+         * @throws NumberFormatException if the field is not a plain integer
+         */
+        int nextInt() {
+            int start = pos;
+            boolean negative = false;
+            if (pos < end && buf.get(pos) == '-') {
+                negative = true;
+                pos++;
+            }
+            long value = 0;
+            int digits = 0;
+            while (pos < end) {
+                byte b = buf.get(pos);
+                if (b < '0' || b > '9') break;
+                value = value * 10 + (b - '0');
+                if (value > Integer.MAX_VALUE + 1L) break;  // Overflow - let the slow path report it
+                digits++;
+                pos++;
+            }
+            if (digits == 0 || !atDelimiter() || value > Integer.MAX_VALUE + (negative ? 1L : 0L)) {
+                pos = start;  // Not a simple number - re-read as text for a proper error
+                return Integer.parseInt(nextString());
+            }
+            finishField();
+            return (int) (negative ? -value : value);
+        }
+
+        /**
+         * Read the next field as a date-time
+         *
+         * The common "yyyy-MM-ddTHH:mm:ss" layout is decoded directly from the
+         * bytes; other ISO forms (no seconds, fractions) go through LocalDateTime.parse.
+         *
+         * @throws DateTimeException if the field is not a valid date-time
+         */
+        LocalDateTime nextDateTime() {
+            if (end - pos >= 19 && isDelimiter(pos + 19)
+                    && buf.get(pos + 4) == '-' && buf.get(pos + 7) == '-' && buf.get(pos + 10) == 'T'
+                    && buf.get(pos + 13) == ':' && buf.get(pos + 16) == ':') {
+                int year = digits(pos, 4);
+                int month = digits(pos + 5, 2);
+                int day = digits(pos + 8, 2);
+                int hour = digits(pos + 11, 2);
+                int minute = digits(pos + 14, 2);
+                int second = digits(pos + 17, 2);
+                if (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0 && second >= 0) {
+                    pos += 19;
+                    finishField();
+                    return LocalDateTime.of(year, month, day, hour, minute, second);
+                }
+            }
+            return LocalDateTime.parse(nextString(), formatter);
+        }
+
+        /**
+         * Decode a run of ASCII digits, or return -1 if any byte is not a digit
+         */
+        private int digits(int at, int count) {
+            int value = 0;
+            for (int i = 0; i < count; i++) {
+                byte b = buf.get(at + i);
+                if (b < '0' || b > '9') return -1;
+                value = value * 10 + (b - '0');
+            }
+            return value;
+        }
+
+        /**
+         * Copy the next field's bytes into scratch, handling quotes
+         *
+         * @return Number of bytes written to scratch
+         */
+        private int readText() {
+            int length = 0;
+            boolean inQuotes = false;
+            while (pos < end) {
+                byte b = buf.get(pos);
+                if (b == '"') {
+                    if (inQuotes && pos + 1 < end && buf.get(pos + 1) == '"') {
+                        length = append(length, (byte) '"');  // Escaped quote
+                        pos += 2;
+                        continue;
+                    }
+                    inQuotes = !inQuotes;
+                    pos++;
+                    continue;
+                }
+                if (!inQuotes && (b == ',' || b == '\n' || b == '\r')) break;
+                length = append(length, b);
+                pos++;
+            }
+            finishField();
+            return length;
+        }
+
+        private int append(int length, byte b) {
+            if (length == scratch.length) scratch = Arrays.copyOf(scratch, length * 2);
+            scratch[length] = b;
+            return length + 1;
+        }
+
+        private boolean atDelimiter() {
+            return isDelimiter(pos);
+        }
+
+        private boolean isDelimiter(int at) {
+            if (at >= end) return true;
+            byte b = buf.get(at);
+            return b == ',' || b == '\n' || b == '\r';
+        }
+
+        /**
+         * Step over the comma after a field, or note that the row has ended
+         */
+        private void finishField() {
+            if (pos < end && buf.get(pos) == ',') {
+                pos++;
+                fieldAvailable = true;
+            } else {
+                fieldAvailable = false;
+            }
+        }
+    }
+}
@@ -13,7 +13,6 @@ import javafx.util.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,35 +26,30 @@ public class NotificationManager {
 
     /**
      * Get all upcoming events that should show reminders
+     * 
+     * Asks the manager's ReminderScheduler, which only looks at reminders that
+     * have fired instead of expanding every recurring series.
      */
     public static List<MainEvent> getUpcomingReminders(EventManager manager) {
-        LocalDateTime now = LocalDateTime.now();
-        List<MainEvent> upcomingEvents = new ArrayList<>();
-
-        // Only show notifications for events that have explicit reminders
-        for (MainEvent event : manager.getAllEventsExpanded()) {
-            if (event.getReminder() == null) continue; // No reminder set
-            if (!event.getStartDateTime().isAfter(now)) continue; // Already started
-
-            long minutesUntilEvent = ChronoUnit.MINUTES.between(now, event.getStartDateTime());
-            // Trigger only within the configured reminder window
-            if (minutesUntilEvent >= 0 && minutesUntilEvent <= event.getReminder().getMinutesBefore()) {
-                upcomingEvents.add(event);
-            }
-        }
-
-        return upcomingEvents;
+        return manager.getReminderScheduler().getUpcomingReminders(LocalDateTime.now());
     }
 
     /**
      * Create a notification banner for upcoming events
      */
     public static VBox createNotificationBanner(EventManager manager) {
+        return createNotificationBanner(getUpcomingReminders(manager));
+    }
+
+    /**
+     * Create a notification banner for the given events
+     * 
+     * Used by ReminderService to show reminders as soon as they fire.
+     */
+    public static VBox createNotificationBanner(List<MainEvent> upcomingEvents) {
         VBox notificationContainer = new VBox(8);
         notificationContainer.setPadding(new Insets(0, 0, 15, 0));
         
-        List<MainEvent> upcomingEvents = getUpcomingReminders(manager);
-        
         if (upcomingEvents.isEmpty()) {
             return notificationContainer; // Return empty container
         }
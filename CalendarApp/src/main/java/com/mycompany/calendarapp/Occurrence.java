@@ -0,0 +1,96 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDateTime;  // For date and time handling
+
+/**
+ * Occurrence Class
+ *
+ * One occurrence of a RecurringEvent, as produced by generateOccurrences() and
+ * occurrenceIterator(). It is a light view of the series rather than a full copy.
+ *
+ * Purpose:
+ * - Keep expanded event lists small: an occurrence only stores its series, its
+ *   position in the series and its own start and end time
+ * - Show the series' reminder, location, category and priority on every occurrence
+ *
+ * How It Works:
+ * - The title ("Title (Occurrence N)") is built when it is asked for, so no title
+ *   string is kept per occurrence
+ * - Every other field is read from the series, so editing the series shows up on
+ *   its occurrences straight away
+ * - Occurrences are read-only: the setters throw UnsupportedOperationException.
+ *   Edit the series (getParent()) and call EventManager.updateEvent instead
+ */
+public class Occurrence extends MainEvent {
+
+    // Instance variables
+    private final RecurringEvent parent;  // The series this occurrence belongs to
+    private final int index;  // Position in the series (0 = first occurrence)
+
+    /**
+     * Constructor - Creates an occurrence view
+     *
+     * @param parent The series
+     * @param index Position in the series, starting at 0
+     * @param startDateTime When this occurrence begins
+     * @param endDateTime When this occurrence ends
+     */
+    public Occurrence(RecurringEvent parent, int index, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        super(startDateTime, endDateTime);
+        this.parent = parent;
+        this.index = index;
+    }
+
+    /**
+     * Get the series this occurrence belongs to
+     *
+     * @return The recurring event
+     */
+    public RecurringEvent getParent() {
+        return parent;
+    }
+
+    /**
+     * Get the position of this occurrence in its series
+     *
+     * @return 0 for the first occurrence, 1 for the second, ...
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    // Fields read from the series
+    @Override public int getEventId() { return parent.getEventId(); }
+    @Override public String getTitle() { return parent.getTitle() + " (Occurrence " + (index + 1) + ")"; }
+    @Override public String getDescription() { return parent.getDescription(); }
+    @Override public Reminder getReminder() { return parent.getReminder(); }
+    @Override public String getLocation() { return parent.getLocation(); }
+    @Override public String getCategory() { return parent.getCategory(); }
+    @Override public String getPriority() { return parent.getPriority(); }
+
+    // Occurrences are read-only views of their series
+    @Override public void setEventId(int eventId) { throw readOnly(); }
+    @Override public void setTitle(String title) { throw readOnly(); }
+    @Override public void setDescription(String description) { throw readOnly(); }
+    @Override public void setStartDateTime(LocalDateTime startDateTime) { throw readOnly(); }
+    @Override public void setEndDateTime(LocalDateTime endDateTime) { throw readOnly(); }
+    @Override public void setReminder(Reminder reminder) { throw readOnly(); }
+    @Override public void setLocation(String location) { throw readOnly(); }
+    @Override public void setCategory(String category) { throw readOnly(); }
+    @Override public void setPriority(String priority) { throw readOnly(); }
+
+    /**
+     * Create another view of the same occurrence
+     *
+     * @return A new Occurrence of the same series, index and times
+     */
+    @Override
+    public MainEvent copy() {
+        return new Occurrence(parent, index, getStartDateTime(), getEndDateTime());
+    }
+
+    private UnsupportedOperationException readOnly() {
+        return new UnsupportedOperationException("Occurrence " + (index + 1) + " of event "
+            + parent.getEventId() + " is read-only; edit the recurring event instead");
+    }
+}
@@ -0,0 +1,168 @@
+package com.mycompany.calendarapp;
+
+import java.util.ArrayList;  // For creating array lists
+import java.util.Collection;  // For the events to expand
+import java.util.Collections;  // For read-only list views
+import java.util.IdentityHashMap;  // For keying expansions by series object
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+
+/**
+ * OccurrenceCache Class
+ *
+ * Remembers the result of EventManager.getAllEventsExpanded() so the views that
+ * ask for it again and again do not expand every recurring series each time.
+ *
+ * Purpose:
+ * - Build the expanded event list once and hand out the same read-only list
+ *   until an event changes
+ * - When one series changes, only expand that series again
+ * - Count hits and misses so the cache can be checked
+ *
+ * How It Works:
+ * - Each RecurringEvent's occurrences are kept separately, keyed by the series object
+ * - The expanded list itself is kept until the next change
+ * - EventManager calls invalidate() whenever an event is added, updated or
+ *   deleted: that series' occurrences are dropped, the expanded list is dropped
+ *   and the version number goes up
+ * - The next request rebuilds the list, reusing the occurrences of every series
+ *   that did not change
+ *
+ * The occurrence objects are shared between callers, so they must not be edited.
+ */
+public class OccurrenceCache {
+
+    // Instance variables
+    private final Map<MainEvent, List<MainEvent>> expansions = new IdentityHashMap<>();  // Occurrences per series
+    private List<MainEvent> snapshot;  // Cached expanded list, or null when out of date
+    private long version = 0;  // Goes up on every change
+    private long hits = 0;  // Requests answered from the cached list
+    private long misses = 0;  // Requests that had to rebuild the list
+    private long seriesHits = 0;  // Series reused while rebuilding
+    private long seriesMisses = 0;  // Series expanded while rebuilding
+
+    /**
+     * Get the expanded list for the given events
+     *
+     * @param events All events of the manager, in order
+     * @return Read-only list with each recurring event replaced by its occurrences
+     */
+    public List<MainEvent> getExpanded(Collection<MainEvent> events) {
+        if (snapshot != null) {
+            hits++;
+            return snapshot;
+        }
+        misses++;
+
+        List<MainEvent> expanded = new ArrayList<>();
+        for (MainEvent event : events) {
+            if (event instanceof RecurringEvent) {
+                List<MainEvent> occurrences = expansions.get(event);
+                if (occurrences == null) {
+                    seriesMisses++;
+                    occurrences = ((RecurringEvent) event).generateOccurrences();
+                    expansions.put(event, occurrences);
+                } else {
+                    seriesHits++;
+                }
+                expanded.addAll(occurrences);
+            } else {
+                expanded.add(event);
+            }
+        }
+        snapshot = Collections.unmodifiableList(expanded);
+        return snapshot;
+    }
+
+    /**
+     * Get the occurrences of one event
+     *
+     * A recurring event's occurrences are expanded once and kept like those used
+     * for the full list; a normal event is its own single occurrence.
+     *
+     * @param event An event of the manager
+     * @return Read-only list of its occurrences
+     */
+    public List<MainEvent> getOccurrences(MainEvent event) {
+        if (!(event instanceof RecurringEvent)) {
+            return Collections.singletonList(event);
+        }
+        List<MainEvent> occurrences = expansions.get(event);
+        if (occurrences == null) {
+            occurrences = ((RecurringEvent) event).generateOccurrences();
+            expansions.put(event, occurrences);
+        }
+        return Collections.unmodifiableList(occurrences);
+    }
+
+    /**
+     * Forget what was cached for one event after it was added, changed or deleted
+     *
+     * @param event The event that changed
+     */
+    public void invalidate(MainEvent event) {
+        expansions.remove(event);
+        snapshot = null;
+        version++;
+    }
+
+    /**
+     * Forget everything (after all events were removed)
+     */
+    public void clear() {
+        expansions.clear();
+        snapshot = null;
+        version++;
+    }
+
+    /**
+     * Get the version number, which changes whenever the expanded list changes
+     *
+     * @return The current version
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Get the number of requests answered without rebuilding
+     *
+     * @return Hit count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * Get the number of requests that rebuilt the expanded list
+     *
+     * @return Miss count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * Get the number of series whose occurrences were reused during rebuilds
+     *
+     * @return Series hit count
+     */
+    public long getSeriesHits() {
+        return seriesHits;
+    }
+
+    /**
+     * Get the number of series that had to be expanded during rebuilds
+     *
+     * @return Series miss count
+     */
+    public long getSeriesMisses() {
+        return seriesMisses;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("OccurrenceCache[version %d, hits %d, misses %d, series reused %d, series expanded %d]",
+            version, hits, misses, seriesHits, seriesMisses);
+    }
+}
@@ -0,0 +1,230 @@
+package com.mycompany.calendarapp;
+
+import java.util.Arrays;  // For growing and sorting arrays
+
+/**
+ * PostingList Class
+ *
+ * A sorted list of event IDs, as used by the search indexes: for each word (or
+ * piece of text) the IDs of the events that contain it.
+ *
+ * Purpose:
+ * - Store the IDs of one index entry compactly in an int[]
+ * - Provide the sorted-array operations searches are built from
+ *   (intersection, union)
+ *
+ * How It Works:
+ * - IDs are kept in ascending order; adding the largest ID so far (the usual case,
+ *   since new events get new IDs) is an append, anything else is a binary search
+ *   and a shift
+ * - An ID can be present more than once (two events loaded with the same ID);
+ *   remove() only takes away one copy, and toArray() returns each ID once
+ */
+public class PostingList {
+
+    // Instance variables
+    private int[] ids = new int[4];  // Sorted IDs (first size entries are used)
+    private int size = 0;
+
+    /**
+     * Add an ID
+     *
+     * @param id The event ID
+     */
+    public void add(int id) {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, size * 2);
+        }
+        if (size == 0 || ids[size - 1] <= id) {
+            ids[size++] = id;  // Append - the common case
+            return;
+        }
+        int at = insertionPoint(id);
+        System.arraycopy(ids, at, ids, at + 1, size - at);
+        ids[at] = id;
+        size++;
+    }
+
+    /**
+     * Remove one copy of an ID
+     *
+     * @param id The event ID
+     * @return true if the ID was present
+     */
+    public boolean remove(int id) {
+        int at = Arrays.binarySearch(ids, 0, size, id);
+        if (at < 0) return false;
+        System.arraycopy(ids, at + 1, ids, at, size - at - 1);
+        size--;
+        if (size < ids.length / 4 && ids.length > 4) {
+            ids = Arrays.copyOf(ids, Math.max(4, ids.length / 2));  // Give memory back after many removals
+        }
+        return true;
+    }
+
+    /**
+     * Remove every ID
+     */
+    public void clear() {
+        ids = new int[4];
+        size = 0;
+    }
+
+    /**
+     * Check whether an ID is present
+     *
+     * @param id The event ID
+     * @return true if present
+     */
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    /**
+     * Get the number of stored IDs (counting repeats)
+     *
+     * @return Entry count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Check whether the list is empty
+     *
+     * @return true if no IDs are stored
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Get the IDs, each once, in ascending order
+     *
+     * @return A new sorted array without repeats
+     */
+    public int[] toArray() {
+        return distinct(Arrays.copyOf(ids, size), size);
+    }
+
+    /**
+     * Get the approximate number of bytes this list uses
+     *
+     * @return Bytes for the object and its array
+     */
+    public long memoryBytes() {
+        return 16 + 16 + 4L * ids.length;  // Object header + fields, array header + slots
+    }
+
+    private int insertionPoint(int id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (ids[middle] <= id) low = middle + 1; else high = middle;
+        }
+        return low;
+    }
+
+    // ---- Sorted array helpers ----
+
+    /**
+     * Intersect two sorted arrays of distinct IDs
+     *
+     * @param a Sorted IDs
+     * @param b Sorted IDs
+     * @return IDs present in both, sorted
+     */
+    public static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] swap = a;
+            a = b;
+            b = swap;
+        }
+        int[] result = new int[a.length];
+        int count = 0;
+        if ((long) a.length * 32 < b.length) {
+            // Much smaller list: look each ID up in the larger one
+            int from = 0;
+            for (int id : a) {
+                int at = Arrays.binarySearch(b, from, b.length, id);
+                if (at >= 0) {
+                    result[count++] = id;
+                    from = at + 1;
+                } else {
+                    from = -at - 1;
+                }
+            }
+        } else {
+            int i = 0;
+            int j = 0;
+            while (i < a.length && j < b.length) {
+                if (a[i] < b[j]) i++;
+                else if (a[i] > b[j]) j++;
+                else {
+                    result[count++] = a[i];
+                    i++;
+                    j++;
+                }
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Combine several posting lists into one sorted array of distinct IDs
+     *
+     * @param lists The lists
+     * @return IDs present in any of them, sorted
+     */
+    public static int[] union(Iterable<PostingList> lists) {
+        int total = 0;
+        for (PostingList list : lists) total += list.size;
+        int[] all = new int[total];
+        int count = 0;
+        for (PostingList list : lists) {
+            System.arraycopy(list.ids, 0, all, count, list.size);
+            count += list.size;
+        }
+        Arrays.sort(all);
+        return distinct(all, count);
+    }
+
+    /**
+     * Combine two sorted arrays of distinct IDs
+     *
+     * @param a Sorted IDs
+     * @param b Sorted IDs
+     * @return IDs present in either, sorted
+     */
+    public static int[] union(int[] a, int[] b) {
+        int[] result = new int[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) result[count++] = a[i++];
+            else if (a[i] > b[j]) result[count++] = b[j++];
+            else {
+                result[count++] = a[i++];
+                j++;
+            }
+        }
+        while (i < a.length) result[count++] = a[i++];
+        while (j < b.length) result[count++] = b[j++];
+        return count == result.length ? result : Arrays.copyOf(result, count);
+    }
+
+    /**
+     * Drop repeats from the first n entries of a sorted array
+     */
+    private static int[] distinct(int[] sorted, int n) {
+        int count = 0;
+        for (int i = 0; i < n; i++) {
+            if (count == 0 || sorted[count - 1] != sorted[i]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        return count == sorted.length ? sorted : Arrays.copyOf(sorted, count);
+    }
+}
@@ -2,9 +2,14 @@ package com.mycompany.calendarapp;
 
 import java.time.LocalDateTime;  // For date and time
 import java.time.LocalDate;  // For end-date handling
+import java.time.YearMonth;  // For counting whole months
 import java.time.temporal.ChronoUnit;  // For adding days/weeks/months
 import java.util.ArrayList;  // For storing lists
+import java.util.Iterator;  // For streaming occurrences one at a time
 import java.util.List;  // List interface
+import java.util.NoSuchElementException;  // Thrown when an iterator is exhausted
+import java.util.Spliterator;  // For stream support
+import java.util.Spliterators;  // Spliterator factory methods
 
 /**
  * RecurringEvent Class
@@ -15,6 +20,7 @@ import java.util.List;  // List interface
  * Purpose:
  * - Represent events that repeat (daily, weekly, or monthly)
  * - Generate all occurrences of a recurring event
+ * - Generate only the occurrences inside a date window
  * - Calculate when the next occurrence will happen
  * 
  * Examples:
@@ -28,6 +34,9 @@ import java.util.List;  // List interface
  */
 public class RecurringEvent extends MainEvent {
 
+    // Upper limit on occurrences for end-date based series (matches generateOccurrences)
+    private static final int MAX_END_DATE_OCCURRENCES = 10001;
+
     // Recurrence-specific fields
     private String recurrenceType;  // Type of recurrence: "DAILY", "WEEKLY", or "MONTHLY"
     private int occurrences;  // How many times the event repeats
@@ -138,13 +147,14 @@ public class RecurringEvent extends MainEvent {
     /**
      * Generate all occurrences of this recurring event
      * 
-     * This method creates individual MainEvent objects for each occurrence.
+     * This method creates an Occurrence for each occurrence; occurrences are light,
+     * read-only views that read their title and other fields from this series.
      * Useful for:
      * - Displaying all occurrences in a calendar
      * - Checking for conflicts with other events
      * - Showing expanded event lists
      * 
-     * @return List of MainEvent objects, one for each occurrence
+     * @return List of Occurrence objects, one for each occurrence
      */
     public List<MainEvent> generateOccurrences() {
         List<MainEvent> occurrencesList = new ArrayList<>();  // Create empty list
@@ -159,13 +169,7 @@ public class RecurringEvent extends MainEvent {
         // If occurrences is set (>0), generate that many occurrences
         if (occurrences > 0) {
             for (int i = 0; i < occurrences; i++) {
-                MainEvent occurrence = new MainEvent(
-                    this.getEventId(),
-                    this.getTitle() + " (Occurrence " + (i + 1) + ")",
-                    this.getDescription(),
-                    currentStart,
-                    currentEnd
-                );
+                MainEvent occurrence = new Occurrence(this, i, currentStart, currentEnd);
                 occurrencesList.add(occurrence);
                 currentStart = getNextOccurrence(currentStart);
                 currentEnd = currentStart.plus(duration, ChronoUnit.MINUTES);
@@ -174,13 +178,7 @@ public class RecurringEvent extends MainEvent {
             // Generate occurrences until the start date exceeds the recurrence end date (inclusive)
             int i = 0;
             while (!currentStart.toLocalDate().isAfter(recurrenceEndDate)) {
-                MainEvent occurrence = new MainEvent(
-                    this.getEventId(),
-                    this.getTitle() + " (Occurrence " + (i + 1) + ")",
-                    this.getDescription(),
-                    currentStart,
-                    currentEnd
-                );
+                MainEvent occurrence = new Occurrence(this, i, currentStart, currentEnd);
                 occurrencesList.add(occurrence);
                 currentStart = getNextOccurrence(currentStart);
                 currentEnd = currentStart.plus(duration, ChronoUnit.MINUTES);
@@ -193,6 +191,216 @@ public class RecurringEvent extends MainEvent {
         return occurrencesList;  // Return the complete list
     }
 
+    /**
+     * Get the occurrences of this series that start within a date window
+     * 
+     * Unlike generateOccurrences(), this jumps straight to the first occurrence
+     * on or after the window start instead of walking the whole series, and
+     * only creates event objects for occurrences inside the window. Titles and
+     * times are the same as those produced by generateOccurrences().
+     * 
+     * @param from First date of the window (inclusive)
+     * @param to Last date of the window (inclusive)
+     * @return Occurrences starting between from and to, in order
+     */
+    public List<MainEvent> occurrencesBetween(LocalDate from, LocalDate to) {
+        List<MainEvent> result = new ArrayList<>();
+        Iterator<MainEvent> it = occurrenceIterator(from, to);
+        while (it.hasNext()) {
+            result.add(it.next());
+        }
+        return result;
+    }
+
+    /**
+     * Stream the occurrences that start within a date window, one at a time
+     * 
+     * Each occurrence is only created when next() is called, so callers that
+     * stop early never pay for the rest of the window.
+     * 
+     * @param from First date of the window (inclusive)
+     * @param to Last date of the window (inclusive)
+     * @return Iterator over the occurrences in the window, in order
+     */
+    public Iterator<MainEvent> occurrenceIterator(LocalDate from, LocalDate to) {
+        return new OccurrenceIterator(from, to);
+    }
+
+    /**
+     * Spliterator over the occurrences that start within a date window
+     * 
+     * Suitable for StreamSupport.stream(...). The size is known up front.
+     * 
+     * @param from First date of the window (inclusive)
+     * @param to Last date of the window (inclusive)
+     * @return Sized, ordered spliterator over the occurrences in the window
+     */
+    public Spliterator<MainEvent> occurrenceSpliterator(LocalDate from, LocalDate to) {
+        long limit = occurrenceLimit();
+        long first = firstIndexOnOrAfter(from, limit);
+        long last = firstIndexOnOrAfter(to.plusDays(1), limit);  // Exclusive
+        long size = Math.max(0, last - first);
+        return Spliterators.spliterator(occurrenceIterator(from, to), size,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+    }
+
+    /**
+     * Get the end time of the last occurrence in this series
+     *
+     * @return When the final occurrence ends, or null if the series has no occurrences
+     */
+    public LocalDateTime getLastOccurrenceEnd() {
+        long limit = occurrenceLimit();
+        if (limit == 0) return null;
+        if (limit == 1) return getEndDateTime();
+        long duration = ChronoUnit.MINUTES.between(getStartDateTime(), getEndDateTime());
+        return occurrenceStart(limit - 1).plus(duration, ChronoUnit.MINUTES);
+    }
+
+    /**
+     * Check whether occurrence N can be computed directly instead of stepping
+     * 
+     * Daily and weekly steps always add up exactly. Monthly steps only do when
+     * the start day is 28 or lower; later days get clipped at short months
+     * (Jan 31 -> Feb 28 -> Mar 28), so those series are stepped one by one.
+     */
+    private boolean hasArithmeticSteps() {
+        if (interval < 1) return false;
+        switch (recurrenceType) {
+            case "DAILY":
+            case "WEEKLY":
+                return true;
+            case "MONTHLY":
+                return getStartDateTime().getDayOfMonth() <= 28;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Get the start time of occurrence number index (0 = first occurrence)
+     */
+    private LocalDateTime occurrenceStart(long index) {
+        LocalDateTime start = getStartDateTime();
+        if (hasArithmeticSteps()) {
+            switch (recurrenceType) {
+                case "DAILY": return start.plusDays(index * interval);
+                case "WEEKLY": return start.plusWeeks(index * interval);
+                default: return start.plusMonths(index * interval);
+            }
+        }
+        // Fallback: walk the series step by step
+        for (long i = 0; i < index; i++) {
+            start = getNextOccurrence(start);
+        }
+        return start;
+    }
+
+    /**
+     * Find the index of the first occurrence starting on or after a date
+     * 
+     * @param date The date to search from
+     * @param cap Value returned if no occurrence below cap qualifies
+     * @return The occurrence index, at most cap
+     */
+    private long firstIndexOnOrAfter(LocalDate date, long cap) {
+        LocalDate startDate = getStartDateTime().toLocalDate();
+        if (!date.isAfter(startDate)) return 0;
+
+        if (hasArithmeticSteps()) {
+            long estimate;
+            if (recurrenceType.equals("MONTHLY")) {
+                long months = ChronoUnit.MONTHS.between(YearMonth.from(startDate), YearMonth.from(date));
+                estimate = (months + interval - 1) / interval;
+                // Same month as the target but an earlier day - move to the next one
+                if (estimate < cap && occurrenceStart(estimate).toLocalDate().isBefore(date)) {
+                    estimate++;
+                }
+            } else {
+                long stepDays = recurrenceType.equals("WEEKLY") ? 7L * interval : interval;
+                long days = ChronoUnit.DAYS.between(startDate, date);
+                estimate = (days + stepDays - 1) / stepDays;
+            }
+            return Math.min(estimate, cap);
+        }
+
+        // Fallback: walk the series step by step
+        long index = 0;
+        LocalDateTime current = getStartDateTime();
+        while (index < cap && current.toLocalDate().isBefore(date)) {
+            current = getNextOccurrence(current);
+            index++;
+        }
+        return index;
+    }
+
+    /**
+     * Get the total number of occurrences in this series
+     */
+    private long occurrenceLimit() {
+        if (occurrences > 0) return occurrences;
+        if (recurrenceEndDate != null) {
+            // Every occurrence starting on or before the end date, up to the safety limit
+            return firstIndexOnOrAfter(recurrenceEndDate.plusDays(1), MAX_END_DATE_OCCURRENCES);
+        }
+        return 0;
+    }
+
+    /**
+     * Iterator that creates occurrences lazily, starting at the window start
+     */
+    private class OccurrenceIterator implements Iterator<MainEvent> {
+        private final LocalDate to;  // Last date of the window
+        private final long limit;  // Total occurrences in the series
+        private final long duration;  // Length of each occurrence in minutes
+        private long index;  // Index of the next occurrence to return
+        private LocalDateTime currentStart;  // Start time of the next occurrence
+
+        OccurrenceIterator(LocalDate from, LocalDate to) {
+            this.to = to;
+            this.limit = occurrenceLimit();
+            this.duration = ChronoUnit.MINUTES.between(getStartDateTime(), getEndDateTime());
+            this.index = firstIndexOnOrAfter(from, limit);
+            this.currentStart = index < limit ? occurrenceStart(index) : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < limit && !currentStart.toLocalDate().isAfter(to);
+        }
+
+        @Override
+        public MainEvent next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            MainEvent occurrence = new Occurrence(
+                RecurringEvent.this,
+                (int) index,  // limit never exceeds the int occurrence count
+                currentStart,
+                index == 0 ? getEndDateTime() : currentStart.plus(duration, ChronoUnit.MINUTES)  // First one keeps its exact end
+            );
+            index++;
+            if (index < limit) {
+                currentStart = getNextOccurrence(currentStart);
+            }
+            return occurrence;
+        }
+    }
+
+    /**
+     * Create an independent copy of this recurring event
+     * 
+     * @return A new RecurringEvent with the same details and recurrence settings
+     */
+    @Override
+    public RecurringEvent copy() {
+        RecurringEvent copy = new RecurringEvent(getEventId(), getTitle(), getDescription(),
+                getStartDateTime(), getEndDateTime(), recurrenceType, occurrences);
+        copy.interval = interval;
+        copy.recurrenceEndDate = recurrenceEndDate;
+        copyDetailsTo(copy);
+        return copy;
+    }
+
     /**
      * toString method - String representation including recurrence info
      * 
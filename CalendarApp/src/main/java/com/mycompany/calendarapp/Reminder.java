@@ -1,5 +1,10 @@
 package com.mycompany.calendarapp;
 
+import java.time.LocalDate;  // For per-occurrence overrides
+import java.util.Collections;  // For read-only views
+import java.util.Map;  // Map interface
+import java.util.TreeMap;  // For overrides sorted by date
+
 /**
  * Reminder Class
  * 
@@ -15,10 +20,18 @@ package com.mycompany.calendarapp;
  * - new Reminder(15) = Remind 15 minutes before the event
  * - new Reminder(60) = Remind 1 hour before the event
  * - new Reminder(1440) = Remind 1 day before the event
+ * 
+ * Per-Occurrence Overrides:
+ * - A recurring event can use a different time for the occurrence on a given
+ *   date, or NO_REMINDER to skip that occurrence
  */
 public class Reminder {
-    // Instance variable
+    // Constants
+    public static final int NO_REMINDER = -1;  // Override value: no reminder for that occurrence
+
+    // Instance variables
     private int minutesBefore;  // How many minutes before the event to send the reminder
+    private final TreeMap<LocalDate, Integer> overrides = new TreeMap<>();  // Occurrence date -> minutes before
 
     /**
      * Constructor - Creates a new Reminder object
@@ -47,6 +60,56 @@ public class Reminder {
         this.minutesBefore = minutesBefore;
     }
 
+    /**
+     * Get the reminder time for the occurrence on a given date
+     * 
+     * @param occurrenceDate The date the occurrence starts
+     * @return Minutes before that occurrence, or NO_REMINDER if it is skipped
+     */
+    public int getMinutesBefore(LocalDate occurrenceDate) {
+        Integer override = overrides.get(occurrenceDate);
+        return override != null ? override : minutesBefore;
+    }
+
+    /**
+     * Use a different reminder time for the occurrence on a given date
+     * 
+     * @param occurrenceDate The date the occurrence starts
+     * @param minutesBefore Minutes before that occurrence, or NO_REMINDER to skip it
+     */
+    public void setOverride(LocalDate occurrenceDate, int minutesBefore) {
+        overrides.put(occurrenceDate, minutesBefore);
+    }
+
+    /**
+     * Go back to the normal reminder time for the occurrence on a given date
+     * 
+     * @param occurrenceDate The date the occurrence starts
+     */
+    public void removeOverride(LocalDate occurrenceDate) {
+        overrides.remove(occurrenceDate);
+    }
+
+    /**
+     * Get all per-occurrence overrides
+     * 
+     * @return Read-only map of occurrence date to minutes before, sorted by date
+     */
+    public Map<LocalDate, Integer> getOverrides() {
+        return Collections.unmodifiableMap(overrides);
+    }
+
+    /**
+     * Create an independent copy of this reminder, including its overrides
+     * 
+     * @return A new Reminder with the same settings
+     */
+    public Reminder copy() {
+        Reminder copy = new Reminder(minutesBefore);
+        copy.overrides.putAll(overrides);
+        return copy;
+    }
+
     /**
      * Get a human-readable display text for the reminder
      * 
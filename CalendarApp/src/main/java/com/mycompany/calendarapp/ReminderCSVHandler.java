@@ -0,0 +1,95 @@
+package com.mycompany.calendarapp;
+
+// Import statements for file I/O operations
+import java.io.*;  // Provides basic input/output classes for file handling
+import java.nio.charset.StandardCharsets;  // For UTF-8 character encoding
+import java.time.LocalDate;  // For override dates
+import java.time.format.DateTimeParseException;  // Thrown for invalid override dates
+import java.util.List;  // For working with lists of objects
+import java.util.Map;  // For reading overrides
+
+/**
+ * ReminderCSVHandler Class
+ *
+ * This class defines how event reminders are stored. They are kept in their own
+ * file (reminder.csv) next to the other CSV files.
+ *
+ * Purpose:
+ * - Keep reminders across restarts
+ * - Only store events that actually have a reminder
+ * - Store per-occurrence overrides for recurring events
+ *
+ * File Format: eventId,minutesBefore,overrides
+ * - overrides is empty, or a list of occurrenceDate=minutesBefore pairs separated by
+ *   semicolons, e.g. 2025-03-04=30;2025-03-11=-1 (-1 = no reminder for that occurrence)
+ *
+ * The file is written (writeReminders) by AtomicCSVSaver together with the other
+ * CSV files, and read by MappedCSVLoader in the same pass as them, using
+ * parseOverrides for the overrides column.
+ */
+public class ReminderCSVHandler {
+
+    // Constants
+    static final String REMINDER_CSV = "reminder.csv";  // The CSV file name for storing reminders
+
+    /**
+     * Write the reminders of all events to a given file
+     *
+     * Used by AtomicCSVSaver to write a temporary copy that is later moved over
+     * reminder.csv.
+     *
+     * @param events The events whose reminders are saved
+     * @param target The file to write (created or overwritten)
+     * @throws IOException if the file cannot be written
+     */
+    static void writeReminders(List<MainEvent> events, File target) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(
+                new OutputStreamWriter(new FileOutputStream(target), StandardCharsets.UTF_8))) {
+
+            // Write the CSV header row (column names)
+            writer.write("eventId,minutesBefore,overrides");
+            writer.newLine();
+
+            // Only events with a reminder get a row
+            for (MainEvent event : events) {
+                Reminder reminder = event.getReminder();
+                if (reminder == null) continue;
+                writer.write(event.getEventId() + "," + reminder.getMinutesBefore() + "," + formatOverrides(reminder));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * Turn a reminder's per-occurrence overrides into the text stored in the file
+     *
+     * @param reminder The reminder
+     * @return e.g. "2025-03-04=30;2025-03-11=-1", or "" if there are none
+     */
+    static String formatOverrides(Reminder reminder) {
+        StringBuilder text = new StringBuilder();
+        for (Map.Entry<LocalDate, Integer> override : reminder.getOverrides().entrySet()) {
+            if (text.length() > 0) text.append(';');
+            text.append(override.getKey()).append('=').append(override.getValue());
+        }
+        return text.toString();
+    }
+
+    /**
+     * Read overrides written by formatOverrides onto a reminder
+     *
+     * @param reminder The reminder to add the overrides to
+     * @param text The stored overrides (may be empty)
+     * @throws NumberFormatException if a minutes value is not a number
+     * @throws DateTimeParseException if a date is invalid
+     */
+    static void parseOverrides(Reminder reminder, String text) {
+        if (text == null || text.trim().isEmpty()) return;
+        for (String pair : text.split(";")) {
+            int equals = pair.indexOf('=');
+            if (equals < 0) throw new NumberFormatException("missing '=' in override " + pair);
+            reminder.setOverride(LocalDate.parse(pair.substring(0, equals).trim()),
+                                 Integer.parseInt(pair.substring(equals + 1).trim()));
+        }
+    }
+}
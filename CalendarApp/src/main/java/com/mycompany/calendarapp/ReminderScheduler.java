@@ -0,0 +1,308 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDate;  // For occurrence search windows
+import java.time.LocalDateTime;  // For event and reminder times
+import java.time.ZoneOffset;  // For turning times into comparable numbers
+import java.util.ArrayList;  // For creating array lists
+import java.util.Comparator;  // For sorting results by start time
+import java.util.HashMap;  // For finding an event's heap entry
+import java.util.Iterator;  // For stepping through occurrences
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+
+/**
+ * ReminderScheduler Class
+ *
+ * Keeps the next pending reminder of every event in a priority queue, so checking
+ * reminders no longer expands every recurring series.
+ *
+ * Purpose:
+ * - Find the reminders that are due right now without scanning all occurrences
+ * - Stay up to date as events and their reminders change
+ *
+ * How It Works:
+ * - A binary min-heap holds one entry per event that has a reminder, keyed by
+ *   the time the reminder fires (occurrence start minus minutesBefore)
+ * - For a recurring series the entry is for its next occurrence that has not
+ *   started yet; once that occurrence starts, the entry is moved on to the
+ *   following occurrence (lazily, the next time the heap is checked)
+ * - Each entry remembers its position in the heap, so an edited or deleted
+ *   event is updated or removed in O(log n)
+ * - It listens to EventManager; changing a reminder must be followed by
+ *   EventManager.updateEvent so the scheduler hears about it
+ *
+ * Times are local date-times, compared as seconds (UTC is only used as a fixed
+ * offset for the conversion, not as a time zone).
+ */
+public class ReminderScheduler implements EventChangeListener {
+
+    // Instance variables
+    private final List<Entry> heap = new ArrayList<>();  // Min-heap ordered by fire time
+    private final Map<Integer, Entry> entriesById = new HashMap<>();  // Heap entry of each event ID
+
+    /**
+     * Constructor - Creates a scheduler for all reminders in a manager
+     *
+     * The scheduler registers itself as a change listener of the manager.
+     *
+     * @param manager The EventManager whose reminders are scheduled
+     */
+    public ReminderScheduler(EventManager manager) {
+        LocalDateTime now = LocalDateTime.now();
+        for (MainEvent event : manager.getAllEvents()) {
+            Entry entry = firstEntry(event, now);
+            if (entry != null) {
+                entry.heapIndex = heap.size();
+                heap.add(entry);
+                entriesById.put(event.getEventId(), entry);
+            }
+        }
+        // Build the heap bottom-up in O(n)
+        for (int i = heap.size() / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+        manager.addChangeListener(this);
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        reschedule(event);
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        reschedule(event);  // Times or reminder may have changed
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        Entry entry = entriesById.remove(event.getEventId());
+        if (entry != null) {
+            removeAt(entry.heapIndex);
+        }
+    }
+
+    @Override
+    public void eventsCleared() {
+        heap.clear();
+        entriesById.clear();
+    }
+
+    // ---- Queries ----
+
+    /**
+     * Get the occurrences whose reminder window is open right now
+     *
+     * An occurrence is included when its reminder time has passed but it has not
+     * started yet. Only the next occurrence of each series is considered.
+     *
+     * @param now The current time
+     * @return Matching events (occurrences for recurring series), earliest start first
+     */
+    public List<MainEvent> getUpcomingReminders(LocalDateTime now) {
+        long nowKey = toKey(now);
+        List<Entry> open = new ArrayList<>();
+
+        // Take every entry whose reminder has fired off the heap
+        while (!heap.isEmpty() && heap.get(0).fireKey <= nowKey) {
+            Entry entry = heap.get(0);
+            if (entry.startKey > nowKey) {
+                open.add(entry);
+                removeAt(0);
+            } else {
+                advance(entry, now);  // Already started - move on to the next occurrence
+            }
+        }
+
+        // Put the open ones back; they stay until their occurrence starts
+        List<MainEvent> result = new ArrayList<>(open.size());
+        for (Entry entry : open) {
+            insert(entry);
+            result.add(entry.occurrence);
+        }
+        result.sort(Comparator.comparing(MainEvent::getStartDateTime));
+        return result;
+    }
+
+    /**
+     * Get when the next reminder fires
+     *
+     * @return Fire time of the earliest pending reminder, or null if there is none
+     */
+    public LocalDateTime getNextFireTime() {
+        if (heap.isEmpty()) return null;
+        return LocalDateTime.ofEpochSecond(heap.get(0).fireKey, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Get the number of events with a pending reminder
+     *
+     * @return Number of scheduled reminders
+     */
+    public int size() {
+        return heap.size();
+    }
+
+    // ---- Scheduling ----
+
+    /**
+     * Replace an event's entry after it was added or changed
+     */
+    private void reschedule(MainEvent event) {
+        Entry old = entriesById.remove(event.getEventId());
+        if (old != null) {
+            removeAt(old.heapIndex);
+        }
+        Entry entry = firstEntry(event, LocalDateTime.now());
+        if (entry != null) {
+            entriesById.put(event.getEventId(), entry);
+            insert(entry);
+        }
+    }
+
+    /**
+     * Move a series entry (at the top of the heap) to its next occurrence, or drop it
+     */
+    private void advance(Entry entry, LocalDateTime now) {
+        Entry next = firstEntry(entry.source, now);
+        if (next == null) {
+            entriesById.remove(entry.source.getEventId());
+            removeAt(entry.heapIndex);
+            return;
+        }
+        entry.occurrence = next.occurrence;
+        entry.startKey = next.startKey;
+        entry.fireKey = next.fireKey;
+        siftDown(entry.heapIndex);  // Later fire time - it can only move down
+    }
+
+    /**
+     * Create the entry for the first occurrence of an event starting after a time
+     *
+     * @return The entry, or null if the event has no reminder or nothing left to remind about
+     */
+    private static Entry firstEntry(MainEvent event, LocalDateTime after) {
+        MainEvent occurrence = nextOccurrence(event, after);
+        if (occurrence == null) return null;
+
+        long startKey = toKey(occurrence.getStartDateTime());
+        return new Entry(event, occurrence, startKey, startKey - minutesBefore(occurrence) * 60L);
+    }
+
+    /**
+     * Find the first occurrence of an event with a reminder that starts after a time
+     *
+     * For a recurring series the occurrence is an Occurrence, which shares the series' reminder.
+     *
+     * @param event The event or series
+     * @param after Only occurrences starting later than this count
+     * @return The occurrence, or null if the event has no reminder or nothing left to remind about
+     */
+    static MainEvent nextOccurrence(MainEvent event, LocalDateTime after) {
+        Reminder reminder = event.getReminder();
+        if (reminder == null) return null;
+
+        MainEvent occurrence = null;
+        if (event instanceof RecurringEvent) {
+            // Jump straight to the occurrences from today on instead of walking the series
+            Iterator<MainEvent> it = ((RecurringEvent) event).occurrenceIterator(after.toLocalDate(), LocalDate.MAX);
+            while (it.hasNext()) {
+                MainEvent candidate = it.next();
+                if (candidate.getStartDateTime().isAfter(after)
+                        && reminder.getMinutesBefore(candidate.getStartDateTime().toLocalDate()) != Reminder.NO_REMINDER) {
+                    occurrence = candidate;  // Occurrences share the series' reminder
+                    break;
+                }
+            }
+        } else if (event.getStartDateTime().isAfter(after) && minutesBefore(event) != Reminder.NO_REMINDER) {
+            occurrence = event;
+        }
+        return occurrence;
+    }
+
+    /**
+     * Get the reminder time of an occurrence, taking per-occurrence overrides into account
+     *
+     * @param occurrence An occurrence returned by nextOccurrence
+     * @return Minutes before the occurrence starts
+     */
+    static int minutesBefore(MainEvent occurrence) {
+        return occurrence.getReminder().getMinutesBefore(occurrence.getStartDateTime().toLocalDate());
+    }
+
+    private static long toKey(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    // ---- Binary heap ----
+
+    private void insert(Entry entry) {
+        entry.heapIndex = heap.size();
+        heap.add(entry);
+        siftUp(entry.heapIndex);
+    }
+
+    private void removeAt(int index) {
+        int last = heap.size() - 1;
+        if (index != last) {
+            swap(index, last);
+        }
+        heap.remove(last);
+        if (index < heap.size()) {
+            siftDown(index);
+            siftUp(index);
+        }
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (heap.get(parent).fireKey <= heap.get(index).fireKey) break;
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int size = heap.size();
+        while (true) {
+            int smallest = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && heap.get(left).fireKey < heap.get(smallest).fireKey) smallest = left;
+            if (right < size && heap.get(right).fireKey < heap.get(smallest).fireKey) smallest = right;
+            if (smallest == index) return;
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        Entry a = heap.get(i);
+        Entry b = heap.get(j);
+        heap.set(i, b);
+        heap.set(j, a);
+        a.heapIndex = j;
+        b.heapIndex = i;
+    }
+
+    /**
+     * The next pending reminder of one event or series
+     */
+    private static class Entry {
+        private final MainEvent source;  // The event or series that owns the reminder
+        private MainEvent occurrence;  // The occurrence being reminded about
+        private long startKey;  // Occurrence start, in seconds
+        private long fireKey;  // Reminder time, in seconds
+        private int heapIndex;  // Current position in the heap
+
+        Entry(MainEvent source, MainEvent occurrence, long startKey, long fireKey) {
+            this.source = source;
+            this.occurrence = occurrence;
+            this.startKey = startKey;
+            this.fireKey = fireKey;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDateTime;  // For event and reminder times
+import java.time.ZoneId;  // For turning local times into clock time
+import java.util.ArrayList;  // For creating array lists
+import java.util.HashMap;  // For finding an event's timer
+import java.util.IdentityHashMap;  // For the generation of each edited event
+import java.util.List;  // List interface
+import java.util.Map;  // Map interface
+import java.util.concurrent.Executor;  // Runs work on the thread that owns the events
+import java.util.concurrent.Executors;  // For creating the timer thread
+import java.util.concurrent.ScheduledExecutorService;  // Background thread that ticks the wheel
+import java.util.concurrent.TimeUnit;  // For tick intervals
+import java.util.function.Consumer;  // Receives reminders that have fired
+
+/**
+ * ReminderService Class
+ *
+ * Fires reminders on time while the application is running, instead of only
+ * when the user opens the reminders menu.
+ *
+ * Purpose:
+ * - Schedule the next reminder of every event
+ * - Hand reminders to the user interface when they fire
+ * - Scale to hundreds of thousands of pending reminders
+ *
+ * How It Works:
+ * 1. The next occurrence of every event with a reminder is worked out on the
+ *    owner thread (the JavaFX thread in the GUI) and its fire time is put in a
+ *    TimingWheel as a timer
+ * 2. A ScheduledExecutorService thread advances the wheel once per tick
+ *    (TICK_MILLIS); each tick only touches the timers due on that tick
+ * 3. Fired reminders are passed to the owner thread, which checks they are still
+ *    current, schedules the series' next occurrence, and calls the callback
+ *    (the GUI shows them with NotificationManager.createNotificationBanner).
+ *    Every reminder carries the generation it was worked out in, and every add or
+ *    edit of an event starts a new one, so a reminder of an event edited in place
+ *    while it was on its way is recognised as stale
+ * 4. It listens to EventManager, so added, edited and deleted events reschedule
+ *    their timer; after setting a reminder call EventManager.updateEvent
+ *
+ * The wheel and the timer map are only touched on the timer thread, so no locks
+ * are needed; the owner thread sends it work with execute().
+ */
+public class ReminderService implements EventChangeListener {
+
+    // Constants
+    public static final long TICK_MILLIS = 1000;  // Wheel resolution
+
+    // Instance variables
+    private final EventManager manager;  // The events whose reminders fire
+    private final Executor ownerThread;  // Runs tasks on the thread that edits the events
+    private final Consumer<List<MainEvent>> onFire;  // Shows fired reminders (owner thread)
+    private final ScheduledExecutorService worker;  // Ticks the wheel
+    private final TimingWheel<Pending> wheel;  // Pending reminders (timer thread only)
+    private final Map<Integer, TimingWheel.Timer<Pending>> timersById = new HashMap<>();  // Timer of each event (timer thread only)
+    private volatile int pendingCount = 0;
+    private long generation = 0;  // Bumped on every add or edit (owner thread only)
+    private final Map<MainEvent, Long> changedIn = new IdentityHashMap<>();  // Generation of each event's last add or edit (owner thread only)
+
+    /**
+     * Constructor - Creates the service and starts listening for changes
+     *
+     * Call start() to schedule the existing reminders and begin ticking.
+     *
+     * @param manager The EventManager whose reminders fire
+     * @param ownerThread Runs tasks on the thread that edits the events
+     *                    (Platform::runLater for the GUI)
+     * @param onFire Called on the owner thread with the occurrences whose reminder fired
+     */
+    public ReminderService(EventManager manager, Executor ownerThread, Consumer<List<MainEvent>> onFire) {
+        this.manager = manager;
+        this.ownerThread = ownerThread;
+        this.onFire = onFire;
+        this.wheel = new TimingWheel<>(toTick(System.currentTimeMillis()));
+        this.worker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "reminders");
+            thread.setDaemon(true);  // Do not keep the application alive
+            return thread;
+        });
+        manager.addChangeListener(this);
+    }
+
+    /**
+     * Schedule every existing reminder and start the clock (owner thread)
+     */
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Pending> initial = new ArrayList<>();
+        for (MainEvent event : manager.getAllEvents()) {
+            Pending pending = nextPending(event, now, generation);
+            if (pending != null) initial.add(pending);
+        }
+        worker.execute(() -> {
+            for (Pending pending : initial) {
+                schedule(pending);
+            }
+        });
+        worker.scheduleAtFixedRate(this::tick, TICK_MILLIS, TICK_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stop listening for changes and stop the timer thread
+     */
+    public void shutdown() {
+        manager.removeChangeListener(this);
+        worker.shutdownNow();
+    }
+
+    /**
+     * Get the number of reminders waiting to fire
+     *
+     * @return Pending reminder count
+     */
+    public int getPendingCount() {
+        return pendingCount;
+    }
+
+    // ---- EventChangeListener (owner thread) ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        reschedule(event);
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        reschedule(event);  // Times or reminder may have changed
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        changedIn.remove(event);
+        int id = event.getEventId();
+        submit(() -> wheel.cancel(timersById.remove(id)));
+    }
+
+    @Override
+    public void eventsCleared() {
+        changedIn.clear();
+        submit(() -> {
+            wheel.clear();
+            timersById.clear();
+        });
+    }
+
+    // ---- Owner thread ----
+
+    private void reschedule(MainEvent event) {
+        changedIn.put(event, ++generation);  // Reminders worked out before this are stale
+        Pending pending = nextPending(event, LocalDateTime.now(), generation);
+        int id = event.getEventId();
+        submit(() -> {
+            wheel.cancel(timersById.remove(id));
+            if (pending != null) schedule(pending);
+        });
+    }
+
+    /**
+     * Work out the next reminder of an event
+     *
+     * @param generation The current generation, stamped on the reminder
+     * @return The reminder, or null if the event has none left
+     */
+    private static Pending nextPending(MainEvent event, LocalDateTime after, long generation) {
+        MainEvent occurrence = ReminderScheduler.nextOccurrence(event, after);
+        if (occurrence == null) return null;
+        LocalDateTime fireAt = occurrence.getStartDateTime().minusMinutes(ReminderScheduler.minutesBefore(occurrence));
+        long fireMillis = fireAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return new Pending(event, occurrence, fireMillis, generation);
+    }
+
+    /**
+     * Hand fired reminders to the callback and schedule the next ones
+     */
+    private void deliver(List<Pending> fired) {
+        List<MainEvent> due = new ArrayList<>(fired.size());
+        for (Pending pending : fired) {
+            MainEvent source = pending.source;
+            // Skip reminders that were changed or deleted while they were on their way
+            if (manager.findEventById(source.getEventId()) != source || source.getReminder() == null
+                    || changedIn.getOrDefault(source, 0L) > pending.generation) continue;
+            due.add(pending.occurrence);
+
+            // A series moves on to its next occurrence
+            Pending next = nextPending(source, pending.occurrence.getStartDateTime(), generation);
+            if (next != null) {
+                submit(() -> {
+                    if (!timersById.containsKey(source.getEventId())) schedule(next);
+                });
+            }
+        }
+        if (!due.isEmpty()) {
+            onFire.accept(due);
+        }
+    }
+
+    private void submit(Runnable task) {
+        if (!worker.isShutdown()) {
+            worker.execute(task);
+        }
+    }
+
+    // ---- Timer thread ----
+
+    private void schedule(Pending pending) {
+        int id = pending.source.getEventId();
+        wheel.cancel(timersById.remove(id));
+        timersById.put(id, wheel.schedule(toTick(pending.fireMillis), pending));
+        pendingCount = wheel.size();
+    }
+
+    /**
+     * Advance the wheel to the current time and pass on whatever fired
+     */
+    private void tick() {
+        List<Pending> fired = new ArrayList<>();
+        wheel.advanceTo(toTick(System.currentTimeMillis()), pending -> {
+            timersById.remove(pending.source.getEventId());
+            fired.add(pending);
+        });
+        pendingCount = wheel.size();
+        if (!fired.isEmpty()) {
+            ownerThread.execute(() -> deliver(fired));
+        }
+    }
+
+    private static long toTick(long millis) {
+        return Math.floorDiv(millis, TICK_MILLIS);
+    }
+
+    /**
+     * The next reminder of one event or series
+     */
+    private static class Pending {
+        private final MainEvent source;  // The event or series that owns the reminder
+        private final MainEvent occurrence;  // The occurrence being reminded about
+        private final long fireMillis;  // When the reminder fires (clock time)
+        private final long generation;  // ReminderService.generation when it was worked out
+
+        Pending(MainEvent source, MainEvent occurrence, long fireMillis, long generation) {
+            this.source = source;
+            this.occurrence = occurrence;
+            this.fireMillis = fireMillis;
+            this.generation = generation;
+        }
+    }
+}
@@ -0,0 +1,437 @@
+package com.mycompany.calendarapp;
+
+import java.util.Arrays;  // For growing arrays
+
+/**
+ * RoaringBitmap Class
+ *
+ * A compressed set of int values (event IDs), organised the way "Roaring" bitmaps
+ * are: the values are split by their upper 16 bits into chunks of 65536, and each
+ * chunk is stored in whichever form is smaller.
+ *
+ * Purpose:
+ * - Keep one set of event IDs per category, priority, etc. without an int (or a
+ *   boxed Integer) per event
+ * - Combine such sets quickly: AND and OR work chunk by chunk, and two full chunks
+ *   are combined 64 values at a time
+ *
+ * How It Works:
+ * - Chunks are kept in a sorted array of 16-bit keys with a Container for each
+ * - A container with up to 4096 values is a sorted char[] of the lower 16 bits
+ *   (2 bytes per value); a fuller one is a 65536-bit long[1024] (8 KB), which is
+ *   smaller from that point on
+ * - A container turns into bits when it passes 4096 values and back into an array
+ *   when it falls to half that, so adding and removing around the limit does not
+ *   convert back and forth every time
+ * - The sign bit is flipped before splitting, so negative values sort first and
+ *   toArray() is in normal int order (as PostingList expects)
+ */
+public class RoaringBitmap {
+
+    // Constants
+    private static final int ARRAY_LIMIT = 4096;  // Most values an array container holds
+    private static final int WORDS = 1024;  // Longs in a bitmap container (65536 bits)
+
+    // Instance variables
+    private char[] keys = new char[4];  // Upper 16 bits of each chunk, sorted
+    private Container[] containers = new Container[4];  // Lower 16 bits, one container per key
+    private int size = 0;  // Number of chunks in use
+
+    /**
+     * Add a value
+     *
+     * @param value The value
+     * @return true if it was not already present
+     */
+    public boolean add(int value) {
+        int flipped = value ^ Integer.MIN_VALUE;
+        char key = (char) (flipped >>> 16);
+        int at = findKey(key);
+        if (at < 0) {
+            at = -at - 1;
+            insertChunk(at, key, new Container());
+        }
+        return containers[at].add((char) flipped);
+    }
+
+    /**
+     * Remove a value
+     *
+     * @param value The value
+     * @return true if it was present
+     */
+    public boolean remove(int value) {
+        int flipped = value ^ Integer.MIN_VALUE;
+        int at = findKey((char) (flipped >>> 16));
+        if (at < 0) return false;
+        boolean removed = containers[at].remove((char) flipped);
+        if (containers[at].cardinality == 0) removeChunk(at);
+        return removed;
+    }
+
+    /**
+     * Check whether a value is present
+     *
+     * @param value The value
+     * @return true if present
+     */
+    public boolean contains(int value) {
+        int flipped = value ^ Integer.MIN_VALUE;
+        int at = findKey((char) (flipped >>> 16));
+        return at >= 0 && containers[at].contains((char) flipped);
+    }
+
+    /**
+     * Get the number of values
+     *
+     * @return Cardinality
+     */
+    public int cardinality() {
+        int count = 0;
+        for (int i = 0; i < size; i++) count += containers[i].cardinality;
+        return count;
+    }
+
+    /**
+     * Check whether the set is empty
+     *
+     * @return true if no values are present
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove every value
+     */
+    public void clear() {
+        keys = new char[4];
+        containers = new Container[4];
+        size = 0;
+    }
+
+    /**
+     * Get the values in ascending order
+     *
+     * @return A new sorted array
+     */
+    public int[] toArray() {
+        int[] values = new int[cardinality()];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            count = containers[i].fill(values, count, (keys[i] << 16) ^ Integer.MIN_VALUE);
+        }
+        return values;
+    }
+
+    /**
+     * Make an independent copy
+     *
+     * @return A new set with the same values
+     */
+    public RoaringBitmap copy() {
+        RoaringBitmap copy = new RoaringBitmap();
+        for (int i = 0; i < size; i++) copy.insertChunk(i, keys[i], containers[i].copy());
+        return copy;
+    }
+
+    /**
+     * Get the approximate number of bytes this set uses
+     *
+     * @return Bytes for the object, key array and containers
+     */
+    public long memoryBytes() {
+        long bytes = 16 + 16 + 2L * keys.length + 16 + 4L * containers.length;
+        for (int i = 0; i < size; i++) bytes += containers[i].memoryBytes();
+        return bytes;
+    }
+
+    /**
+     * Count the chunks stored in bitmap form (the others are arrays)
+     *
+     * @return Number of bitmap containers
+     */
+    int bitmapContainers() {
+        int bitmaps = 0;
+        for (int i = 0; i < size; i++) if (containers[i].bitmap != null) bitmaps++;
+        return bitmaps;
+    }
+
+    @Override
+    public String toString() {
+        int bitmaps = bitmapContainers();
+        return String.format("RoaringBitmap[%d values, %d array + %d bitmap containers, ~%d bytes]",
+            cardinality(), size - bitmaps, bitmaps, memoryBytes());
+    }
+
+    // ---- Set operations ----
+
+    /**
+     * Intersect two sets
+     *
+     * @param a A set
+     * @param b A set
+     * @return A new set with the values present in both
+     */
+    public static RoaringBitmap and(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) i++;
+            else if (a.keys[i] > b.keys[j]) j++;
+            else {
+                Container both = Container.and(a.containers[i], b.containers[j]);
+                if (both.cardinality > 0) result.insertChunk(result.size, a.keys[i], both);
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Combine two sets
+     *
+     * @param a A set
+     * @param b A set
+     * @return A new set with the values present in either
+     */
+    public static RoaringBitmap or(RoaringBitmap a, RoaringBitmap b) {
+        RoaringBitmap result = new RoaringBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j == b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.insertChunk(result.size, a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i == a.size || a.keys[i] > b.keys[j]) {
+                result.insertChunk(result.size, b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.insertChunk(result.size, a.keys[i], Container.or(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    // ---- Chunk array helpers ----
+
+    private int findKey(char key) {
+        return Arrays.binarySearch(keys, 0, size, key);
+    }
+
+    private void insertChunk(int at, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, at, keys, at + 1, size - at);
+        System.arraycopy(containers, at, containers, at + 1, size - at);
+        keys[at] = key;
+        containers[at] = container;
+        size++;
+    }
+
+    private void removeChunk(int at) {
+        System.arraycopy(keys, at + 1, keys, at, size - at - 1);
+        System.arraycopy(containers, at + 1, containers, at, size - at - 1);
+        containers[--size] = null;
+    }
+
+    /**
+     * The lower 16 bits of the values in one chunk: a sorted array while small,
+     * a 65536-bit bitmap when full
+     */
+    private static final class Container {
+        private char[] array = new char[4];  // Sorted values (array form), null in bitmap form
+        private long[] bitmap;  // One bit per value (bitmap form), null in array form
+        private int cardinality = 0;
+
+        boolean add(char low) {
+            if (bitmap != null) {
+                long word = bitmap[low >>> 6];
+                long bit = 1L << low;
+                if ((word & bit) != 0) return false;
+                bitmap[low >>> 6] = word | bit;
+                cardinality++;
+                return true;
+            }
+            int at = Arrays.binarySearch(array, 0, cardinality, low);
+            if (at >= 0) return false;
+            at = -at - 1;
+            if (cardinality == ARRAY_LIMIT) {
+                toBitmap();
+                return add(low);
+            }
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(ARRAY_LIMIT, cardinality * 2));
+            }
+            System.arraycopy(array, at, array, at + 1, cardinality - at);
+            array[at] = low;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char low) {
+            if (bitmap != null) {
+                long word = bitmap[low >>> 6];
+                long bit = 1L << low;
+                if ((word & bit) == 0) return false;
+                bitmap[low >>> 6] = word & ~bit;
+                cardinality--;
+                if (cardinality <= ARRAY_LIMIT / 2) toArrayForm();
+                return true;
+            }
+            int at = Arrays.binarySearch(array, 0, cardinality, low);
+            if (at < 0) return false;
+            System.arraycopy(array, at + 1, array, at, cardinality - at - 1);
+            cardinality--;
+            return true;
+        }
+
+        boolean contains(char low) {
+            if (bitmap != null) return (bitmap[low >>> 6] & (1L << low)) != 0;
+            return Arrays.binarySearch(array, 0, cardinality, low) >= 0;
+        }
+
+        /**
+         * Write the values (with the chunk's upper bits) into out, from position pos
+         *
+         * @return The position after the last value written
+         */
+        int fill(int[] out, int pos, int high) {
+            if (bitmap == null) {
+                for (int i = 0; i < cardinality; i++) out[pos++] = high | array[i];
+                return pos;
+            }
+            for (int w = 0; w < WORDS; w++) {
+                long word = bitmap[w];
+                while (word != 0) {
+                    out[pos++] = high | ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;  // Clear the lowest set bit
+                }
+            }
+            return pos;
+        }
+
+        long memoryBytes() {
+            return 16 + 16 + (bitmap != null ? 16 + 8L * WORDS : 16 + 2L * array.length);
+        }
+
+        Container copy() {
+            Container copy = new Container();
+            copy.cardinality = cardinality;
+            if (bitmap != null) {
+                copy.array = null;
+                copy.bitmap = bitmap.clone();
+            } else {
+                copy.array = Arrays.copyOf(array, Math.max(4, cardinality));
+            }
+            return copy;
+        }
+
+        private void toBitmap() {
+            long[] bits = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) bits[array[i] >>> 6] |= 1L << array[i];
+            bitmap = bits;
+            array = null;
+        }
+
+        private void toArrayForm() {
+            char[] values = new char[Math.max(4, cardinality)];
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) {
+                long word = bitmap[w];
+                while (word != 0) {
+                    values[count++] = (char) ((w << 6) + Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            array = values;
+            bitmap = null;
+        }
+
+        static Container and(Container a, Container b) {
+            Container result = new Container();
+            if (a.bitmap != null && b.bitmap != null) {
+                long[] bits = new long[WORDS];
+                int count = 0;
+                for (int w = 0; w < WORDS; w++) {
+                    bits[w] = a.bitmap[w] & b.bitmap[w];
+                    count += Long.bitCount(bits[w]);
+                }
+                result.array = null;
+                result.bitmap = bits;
+                result.cardinality = count;
+                if (count <= ARRAY_LIMIT) result.toArrayForm();
+                return result;
+            }
+            if (a.bitmap != null) {  // Make a the array one
+                Container swap = a;
+                a = b;
+                b = swap;
+            }
+            char[] values = new char[Math.max(4, Math.min(a.cardinality, b.cardinality))];
+            int count = 0;
+            if (b.bitmap != null) {
+                for (int i = 0; i < a.cardinality; i++) {
+                    if (b.contains(a.array[i])) values[count++] = a.array[i];
+                }
+            } else {
+                int i = 0;
+                int j = 0;
+                while (i < a.cardinality && j < b.cardinality) {
+                    if (a.array[i] < b.array[j]) i++;
+                    else if (a.array[i] > b.array[j]) j++;
+                    else {
+                        values[count++] = a.array[i];
+                        i++;
+                        j++;
+                    }
+                }
+            }
+            result.array = values;
+            result.cardinality = count;
+            return result;
+        }
+
+        static Container or(Container a, Container b) {
+            if (a.bitmap == null && b.bitmap == null && a.cardinality + b.cardinality <= ARRAY_LIMIT) {
+                Container result = new Container();
+                char[] values = new char[Math.max(4, a.cardinality + b.cardinality)];
+                int i = 0;
+                int j = 0;
+                int count = 0;
+                while (i < a.cardinality && j < b.cardinality) {
+                    if (a.array[i] < b.array[j]) values[count++] = a.array[i++];
+                    else if (a.array[i] > b.array[j]) values[count++] = b.array[j++];
+                    else {
+                        values[count++] = a.array[i++];
+                        j++;
+                    }
+                }
+                while (i < a.cardinality) values[count++] = a.array[i++];
+                while (j < b.cardinality) values[count++] = b.array[j++];
+                result.array = values;
+                result.cardinality = count;
+                return result;
+            }
+            // Work in bitmap form; turn back into an array if the result is small
+            Container result = a.copy();
+            if (result.bitmap == null) result.toBitmap();
+            if (b.bitmap != null) {
+                for (int w = 0; w < WORDS; w++) result.bitmap[w] |= b.bitmap[w];
+            } else {
+                for (int i = 0; i < b.cardinality; i++) result.bitmap[b.array[i] >>> 6] |= 1L << b.array[i];
+            }
+            int count = 0;
+            for (int w = 0; w < WORDS; w++) count += Long.bitCount(result.bitmap[w]);
+            result.cardinality = count;
+            if (count <= ARRAY_LIMIT / 2) result.toArrayForm();
+            return result;
+        }
+    }
+}
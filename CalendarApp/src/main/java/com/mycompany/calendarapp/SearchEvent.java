@@ -2,7 +2,10 @@ package com.mycompany.calendarapp;
 
 import java.time.LocalDate;  // For date handling
 import java.time.format.DateTimeFormatter;  // For formatting dates/times
+import java.util.ArrayList;  // For collecting results
+import java.util.Comparator;  // For ordering results
 import java.util.List;  // For working with lists
+import java.util.Locale;  // For case folding that does not depend on the user's language
 
 /**
  * SearchEvent Class
@@ -20,14 +23,25 @@ import java.util.List;  // For working with lists
  * 1. By Date: Find all events on a specific day
  * 2. By Date Range: Find all events between two dates
  * 3. By Name: Find events matching a specific title
+ * 4. By Title: Find events whose title contains the typed text
+ * 5. By Title Words: Find events whose title words start with the typed words
  * 
  * Note: This class is primarily used by the console-based menu system.
+ * 
+ * Dates are turned into epoch-second bounds once per search, and each event is
+ * checked by comparing its stored start number against them.
+ * Title searches given an EventManager look the text up in its indexes instead of
+ * reading every event.
  */
 public class SearchEvent {
     // Formatters for displaying dates and times in consistent format
     DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");  // Full date + time
     DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern("HH:mm");  // Just time (hours:minutes)
 
+    // Order of every GUI search result: by start time, then by event ID
+    static final Comparator<MainEvent> BY_START =
+        Comparator.comparingLong(MainEvent::getStartEpochSecond).thenComparingInt(MainEvent::getEventId);
+
     /**
      * Search for events on a specific date
      * 
@@ -40,11 +54,14 @@ public class SearchEvent {
     public void searchByDate(List<MainEvent> events, LocalDate date) {
         System.out.println("\n--- Event of " + date + " ---");  // Print header
         boolean found = false;  // Track if we found any events
+        long dayStart = dayStart(date);  // First second of the day
+        long dayEnd = dayStart(date.plusDays(1));  // First second of the next day
         
         // Loop through all events
         for (MainEvent event : events) {
-            // Check if the event's start date matches our search date
-            if (event.getStartDateTime().toLocalDate().equals(date)) {
+            // Check if the event starts on our search date
+            long start = event.getStartEpochSecond();
+            if (start >= dayStart && start < dayEnd) {
                 // Print the event (time + title)
                 System.out.println(event.getStartDateTime().format(timeFormatter) + " " + event.getTitle());
                 found = true;  // We found at least one event
@@ -69,14 +86,16 @@ public class SearchEvent {
     public void searchByDateRange(List<MainEvent> events, LocalDate startDate, LocalDate endDate){
         System.out.println("\n--- Event from " + startDate + " to " + endDate + " ---");  // Print header
         boolean hasEvent = false;  // Track if any events found
+        long rangeStart = dayStart(startDate);  // First second of startDate
+        long rangeEnd = dayStart(endDate.plusDays(1));  // First second after endDate
         
         // Loop through all events
         for (MainEvent event : events) {
-            LocalDate eventDate = event.getStartDateTime().toLocalDate();
+            long start = event.getStartEpochSecond();
             
             // Check if event date is within range:
             // Not before startDate AND not after endDate
-            if (!eventDate.isBefore(startDate) && !eventDate.isAfter(endDate)) {
+            if (start >= rangeStart && start < rangeEnd) {
                 // Print full date-time + title
                 System.out.println(event.getStartDateTime().format(dateTimeFormatter) + " " + event.getTitle());
                 hasEvent = true;  // Found at least one
@@ -118,4 +137,143 @@ public class SearchEvent {
             System.out.println("No events");
     }
 
+    /**
+     * Search for events by name/title using the manager's word index
+     * 
+     * Same result as searchByEventName over manager.getAllEvents(), but only the
+     * events containing all words of the title are compared.
+     * 
+     * @param manager The EventManager to search
+     * @param title The exact event title to search for
+     */
+    public void searchByEventName(EventManager manager, String title) {
+        int[] candidates = manager.getTextIndex().searchWords(TextIndex.Field.TITLE, title);
+        if (candidates == null) {
+            searchByEventName(manager.getAllEvents(), title);  // No words to look up (e.g. blank title)
+            return;
+        }
+        List<MainEvent> events = new ArrayList<>();
+        for (int id : candidates) {
+            MainEvent event = manager.findEventById(id);
+            if (event != null) events.add(event);
+        }
+        searchByEventName(events, title);
+    }
+
+    /**
+     * Find event occurrences whose title contains some text (any case)
+     * 
+     * This is the GUI title search: "eting" finds "Meeting" and "Occurrence 2" finds
+     * the second occurrence of every series. The trigram index (or the word index,
+     * for queries too short for trigrams) only rules out events that cannot contain
+     * the text; the title of every remaining occurrence is still checked. An empty
+     * query finds every occurrence.
+     * 
+     * @param manager The EventManager to search
+     * @param query Text the title must contain
+     * @return Matching occurrences, sorted by start time
+     */
+    public static List<MainEvent> findByTitle(EventManager manager, String query) {
+        String text = query.toLowerCase(Locale.ROOT);
+        List<MainEvent> results = new ArrayList<>();
+        for (MainEvent event : occurrencesOf(manager, titleCandidateIds(manager, query))) {
+            if (event.getTitle().toLowerCase(Locale.ROOT).contains(text)) {
+                results.add(event);
+            }
+        }
+        results.sort(BY_START);
+        return results;
+    }
+
+    /**
+     * Find event occurrences whose title has a word starting with each query word
+     * 
+     * A separate, stricter mode than findByTitle, used when the user asks to match
+     * word beginnings only. Case-insensitive; "team mee" finds
+     * "Team Meeting (Occurrence 2)" and "Meet the team", but "eting" finds nothing.
+     * An empty query finds every occurrence.
+     * 
+     * @param manager The EventManager to search
+     * @param query Words typed by the user
+     * @return Matching occurrences, sorted by start time
+     */
+    public static List<MainEvent> findByTitleWords(EventManager manager, String query) {
+        int[] ids = manager.getTextIndex().searchPrefixes(TextIndex.Field.TITLE, query);
+        List<String> words = TextIndex.tokenize(query);
+        List<MainEvent> results = new ArrayList<>();
+        for (MainEvent event : occurrencesOf(manager, ids)) {
+            if (titleWordsStartWith(event, words)) {  // Events sharing a matching ID are among the candidates
+                results.add(event);
+            }
+        }
+        results.sort(BY_START);
+        return results;
+    }
+
+    /**
+     * Check whether every query word starts a word of an event's title
+     * 
+     * Occurrences are checked by their series title, as the text index has them.
+     * 
+     * @param event An event or occurrence
+     * @param words Lower-case query words (TextIndex.tokenize); none matches every event
+     * @return true if each word starts one of the title's words
+     */
+    static boolean titleWordsStartWith(MainEvent event, List<String> words) {
+        if (words.isEmpty()) return true;
+        String title = event instanceof Occurrence ? ((Occurrence) event).getParent().getTitle() : event.getTitle();
+        List<String> titleWords = TextIndex.tokenize(title);
+        for (String word : words) {
+            if (!startsAny(titleWords, word)) return false;
+        }
+        return true;
+    }
+
+    static boolean startsAny(List<String> candidates, String prefix) {
+        for (String candidate : candidates) {
+            if (candidate.startsWith(prefix)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * Get the IDs of the events whose title may contain some text
+     * 
+     * Only the indexes are read: the trigram index first, and the word index for
+     * queries too short for trigrams.
+     * 
+     * @param manager The EventManager to search
+     * @param query Text the title must contain
+     * @return Sorted event IDs (a new array), or null if no index can narrow the search
+     */
+    static int[] titleCandidateIds(EventManager manager, String query) {
+        int[] ids = manager.getTrigramIndex().containsCandidates(TextIndex.Field.TITLE, query);
+        if (ids == null) {
+            ids = manager.getTextIndex().containsCandidates(TextIndex.Field.TITLE, query);
+        }
+        return ids;
+    }
+
+    /**
+     * Get the occurrences of some events
+     * 
+     * Only the candidates are looked up (by ID) and expanded.
+     * 
+     * @param manager The EventManager
+     * @param ids Sorted candidate event IDs, or null for every event
+     * @return A new list of the candidates' occurrences, in no particular order
+     */
+    static List<MainEvent> occurrencesOf(EventManager manager, int[] ids) {
+        return ids == null ? new ArrayList<>(manager.getAllEventsExpanded()) : manager.getOccurrencesOf(ids);
+    }
+
+    /**
+     * Get the first second of a day, in the form MainEvent stores times
+     * 
+     * @param date The day
+     * @return Epoch second of the day's midnight
+     */
+    static long dayStart(LocalDate date) {
+        return MainEvent.toEpochSecond(date.atStartOfDay());
+    }
 }
@@ -0,0 +1,342 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDate;  // For the date range
+import java.time.LocalDateTime;  // For date index lookups
+import java.util.ArrayList;  // For creating array lists
+import java.util.Arrays;  // For ID lookups in sorted candidate sets
+import java.util.Comparator;  // For sorting access paths
+import java.util.List;  // List interface
+import java.util.Locale;  // For case folding that does not depend on the user's language
+import java.util.function.Predicate;  // For the checks left after the index lookups
+
+/**
+ * SearchPlanner Class
+ *
+ * Decides how to answer an advanced search (a SearchQuery) using the indexes
+ * EventManager keeps, instead of testing every filter on every occurrence.
+ *
+ * Purpose:
+ * - Use the most selective index first and read as few events as possible
+ * - Check each remaining event with only the filters no index has settled,
+ *   cheapest first, stopping at the first one that fails
+ * - Describe the chosen plan (explain()) so searches can be tuned
+ *
+ * How It Works:
+ * 1. Every filter an index can answer becomes an access path with its size:
+ *    - text filters: the trigram index (or the word index for short queries)
+ *      gives the IDs of the events that may contain the text
+ *    - category, priority and "reminders only": the bitmap index ANDs their
+ *      bitmaps into the exact IDs that match all of them
+ *    - the date range: the interval index tells how many events touch it
+ * 2. The ID sets are intersected, smallest first
+ * 3. The plan reads either the occurrences of those IDs or, if the date range is
+ *    more selective, the occurrences in the date range (keeping only those IDs)
+ * 4. The filters that are left are checked on each occurrence read; category,
+ *    priority and reminders are settled by the bitmaps and not checked again
+ *    (unless two events share an ID, as the bitmaps cannot tell them apart)
+ *
+ * Results are sorted by start time, whichever plan produced them.
+ */
+public class SearchPlanner {
+
+    // Constants
+    private static final LocalDate EARLIEST_DATE = LocalDate.of(1, 1, 1);  // Stands in for "no start date"
+    private static final LocalDate LATEST_DATE = LocalDate.of(9999, 12, 31);  // Stands in for "no end date"
+
+    // Instance variables
+    private final EventManager manager;  // Events and indexes to search
+
+    /**
+     * Constructor - Creates a planner for the events of a manager
+     *
+     * @param manager The EventManager to search
+     */
+    public SearchPlanner(EventManager manager) {
+        this.manager = manager;
+    }
+
+    /**
+     * Work out how to answer a query
+     *
+     * The index lookups needed to choose are done here; the plan can then be run
+     * with execute(). Plan and run it straight away - it does not follow later
+     * changes to the events.
+     *
+     * @param query The search filters
+     * @return The chosen plan
+     */
+    public Plan plan(SearchQuery query) {
+        return plan(query, true);
+    }
+
+    /**
+     * Work out a plan that only narrows the search by event ID
+     *
+     * The interval index is not consulted, so the date range is left to the
+     * residual checks. This keeps planning to the ID indexes, which is what
+     * LiveSearch can afford on every keystroke.
+     *
+     * @param query The search filters
+     * @return The plan; getIds() and passes() give its candidates and checks
+     */
+    public Plan planByIds(SearchQuery query) {
+        return plan(query, false);
+    }
+
+    private Plan plan(SearchQuery query, boolean mayUseDateIndex) {
+        Plan plan = new Plan(manager, query);
+
+        // Access paths for the filters the indexes can answer
+        List<AccessPath> paths = new ArrayList<>();
+        for (TextIndex.Field field : TextIndex.Field.values()) {
+            if (!query.hasText(field)) continue;
+            String text = query.getText(field);
+            int[] ids = manager.getTrigramIndex().containsCandidates(field, text);
+            String index = "trigram index";
+            if (ids == null) {
+                ids = manager.getTextIndex().containsCandidates(field, text);
+                index = "word index";
+            }
+            if (ids == null) {
+                plan.notes.add(fieldName(field) + " '" + text + "': too short for the indexes");
+            } else {
+                paths.add(new AccessPath(fieldName(field) + " " + index + " '" + text + "'", ids));
+            }
+        }
+        RoaringBitmap attributes = manager.getBitmapIndex().matching(
+            query.getCategory(), query.getPriority(), query.isRemindersOnly());
+        if (attributes != null) {
+            paths.add(new AccessPath("bitmap index (" + describeAttributes(query) + ")", attributes.toArray()));
+            plan.attributesSettled = !manager.getBitmapIndex().hasSharedIds();
+        }
+        paths.sort(Comparator.comparingInt(path -> path.ids.length));
+
+        // Intersect the ID sets, most selective first
+        for (AccessPath path : paths) {
+            if (plan.ids != null && plan.ids.length == 0) {
+                plan.notes.add(path.description + " -> " + path.ids.length + " events (skipped, nothing left)");
+                continue;
+            }
+            plan.ids = plan.ids == null ? path.ids : PostingList.intersect(plan.ids, path.ids);
+            plan.notes.add(path.description + " -> " + path.ids.length + " events, " + plan.ids.length + " left");
+        }
+
+        // The date range: drive the search from the interval index if it is more selective
+        if (query.hasDateRange()) {
+            LocalDate first = query.getStartDate() != null ? query.getStartDate() : EARLIEST_DATE;
+            LocalDate last = query.getEndDate() != null ? query.getEndDate() : LATEST_DATE;
+            plan.from = first.atStartOfDay();
+            plan.to = last.plusDays(1).atStartOfDay();
+        }
+        if (query.hasDateRange() && mayUseDateIndex) {
+            LocalDate first = plan.from.toLocalDate();
+            LocalDate last = plan.to.toLocalDate().minusDays(1);
+            int estimate = manager.countEventsTouching(plan.from, plan.to);
+            plan.useDateIndex = plan.ids == null || estimate < plan.ids.length;
+            plan.notes.add("date interval index " + first + " .. " + last + " -> " + estimate + " events"
+                + (plan.useDateIndex ? "" : " (not used, less selective)"));
+        }
+
+        addResidualChecks(plan);
+        return plan;
+    }
+
+    /**
+     * Add the checks the indexes have not settled, cheapest first
+     */
+    private static void addResidualChecks(Plan plan) {
+        SearchQuery query = plan.query;
+
+        if (query.isRemindersOnly() && !plan.attributesSettled) {
+            plan.check("reminder", event -> event.getReminder() != null);
+        }
+        String category = query.getCategory();
+        if (category != null && !plan.attributesSettled) {
+            plan.check("category", event -> category.equals(event.getCategory()));
+        }
+        String priority = query.getPriority();
+        if (priority != null && !plan.attributesSettled) {
+            plan.check("priority", event -> priority.equals(event.getPriority()));
+        }
+        if (query.hasTimeRange()) {
+            int fromSecond = query.getStartTime() != null ? query.getStartTime().toSecondOfDay() : 0;
+            int toSecond = query.getEndTime() != null ? query.getEndTime().toSecondOfDay() : 86399;
+            plan.check("time of day", event -> {
+                int secondOfDay = (int) Math.floorMod(event.getStartEpochSecond(), 86400L);
+                return secondOfDay >= fromSecond && secondOfDay <= toSecond;
+            });
+        }
+        if (query.hasDateRange() && !plan.useDateIndex) {
+            long fromKey = query.getStartDate() != null ? SearchEvent.dayStart(query.getStartDate()) : Long.MIN_VALUE;
+            long toKey = query.getEndDate() != null ? SearchEvent.dayStart(query.getEndDate().plusDays(1)) : Long.MAX_VALUE;
+            plan.check("date", event -> {
+                long start = event.getStartEpochSecond();
+                return start >= fromKey && start < toKey;
+            });
+        }
+        // Index candidates may not contain the text, so it is always checked - last, as it costs the most
+        for (TextIndex.Field field : TextIndex.Field.values()) {
+            if (!query.hasText(field)) continue;
+            String text = query.getText(field).toLowerCase(Locale.ROOT);
+            plan.check(fieldName(field), event -> {
+                String value = fieldValue(event, field);
+                return value != null && value.toLowerCase(Locale.ROOT).contains(text);
+            });
+        }
+    }
+
+    private static String describeAttributes(SearchQuery query) {
+        List<String> parts = new ArrayList<>();
+        if (query.getCategory() != null) parts.add("category = " + query.getCategory());
+        if (query.getPriority() != null) parts.add("priority = " + query.getPriority());
+        if (query.isRemindersOnly()) parts.add("with reminder");
+        return String.join(" AND ", parts);
+    }
+
+    private static String fieldName(TextIndex.Field field) {
+        switch (field) {
+            case TITLE: return "title";
+            case DESCRIPTION: return "desc";
+            default: return "location";
+        }
+    }
+
+    private static String fieldValue(MainEvent event, TextIndex.Field field) {
+        switch (field) {
+            case TITLE: return event.getTitle();
+            case DESCRIPTION: return event.getDescription();
+            default: return event.getLocation();
+        }
+    }
+
+    /**
+     * A plan for one query: where to read events from and what to check on them
+     */
+    public static class Plan {
+        private final EventManager manager;  // Events to read
+        private final SearchQuery query;
+        private final List<String> notes = new ArrayList<>();  // Index decisions, in order, for explain()
+        private int[] ids;  // Sorted candidate event IDs, null if no ID index narrowed the search
+        private boolean useDateIndex;  // Read occurrences from the date range
+        private boolean attributesSettled;  // The bitmaps gave exact category/priority/reminder matches
+        private LocalDateTime from;  // Date range start (inclusive)
+        private LocalDateTime to;  // Date range end (exclusive)
+        private final List<String> checkNames = new ArrayList<>();
+        private final List<Predicate<MainEvent>> checks = new ArrayList<>();  // Checked in this order
+
+        private Plan(EventManager manager, SearchQuery query) {
+            this.manager = manager;
+            this.query = query;
+        }
+
+        private void check(String name, Predicate<MainEvent> predicate) {
+            checkNames.add(name);
+            checks.add(predicate);
+        }
+
+        /**
+         * Run the plan
+         *
+         * @return The matching occurrences, sorted by start time
+         */
+        public List<MainEvent> execute() {
+            List<MainEvent> results = new ArrayList<>();
+            for (MainEvent event : candidates()) {
+                if (passes(event)) results.add(event);
+            }
+            results.sort(SearchEvent.BY_START);
+            return results;
+        }
+
+        /**
+         * @return Sorted IDs of the events that may match, or null if no ID index
+         *         narrowed the search
+         */
+        int[] getIds() {
+            return ids;
+        }
+
+        /**
+         * Read the occurrences the plan would check, without checking them
+         *
+         * @return Occurrences from the chosen index (or every occurrence for a full
+         *         scan); every occurrence that matches the query is among them
+         */
+        private List<MainEvent> candidates() {
+            if (ids != null && ids.length == 0) return new ArrayList<>();
+            if (!useDateIndex) {
+                return ids != null ? manager.getOccurrencesOf(ids) : manager.getAllEventsExpanded();
+            }
+            List<MainEvent> inRange = manager.eventsBetween(from, to);
+            if (ids == null) return inRange;
+            List<MainEvent> kept = new ArrayList<>();
+            for (MainEvent event : inRange) {
+                if (Arrays.binarySearch(ids, event.getEventId()) >= 0) kept.add(event);
+            }
+            return kept;
+        }
+
+        /**
+         * Make the checks the indexes have not settled, stopping at the first failure
+         *
+         * @param event An occurrence read as the plan says
+         * @return true if it matches the query
+         */
+        boolean passes(MainEvent event) {
+            for (Predicate<MainEvent> check : checks) {
+                if (!check.test(event)) return false;  // Stop at the first failed filter
+            }
+            return true;
+        }
+
+        /**
+         * Describe the plan
+         *
+         * @return Several lines: the query, each index consulted and what it gave,
+         *         where events are read from and the checks made on each
+         */
+        public String explain() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("Query: ").append(query).append("\n");
+            if (notes.isEmpty()) {
+                sb.append("Indexes: none apply\n");
+            } else {
+                sb.append("Indexes (most selective first):\n");
+                for (int i = 0; i < notes.size(); i++) {
+                    sb.append("  ").append(i + 1).append(". ").append(notes.get(i)).append("\n");
+                }
+            }
+            sb.append("Read: ");
+            if (ids != null && ids.length == 0) {
+                sb.append("nothing (no event can match)");
+            } else if (useDateIndex) {
+                sb.append("occurrences in the date range");
+                if (ids != null) sb.append(", keeping the ").append(ids.length).append(" candidate events");
+            } else if (ids != null) {
+                sb.append("occurrences of ").append(ids.length).append(" candidate events");
+            } else {
+                sb.append("all occurrences (full scan)");
+            }
+            sb.append("\nCheck: ").append(checkNames.isEmpty() ? "nothing" : String.join(", ", checkNames));
+            return sb.toString();
+        }
+
+        @Override
+        public String toString() {
+            return explain();
+        }
+    }
+
+    /**
+     * One index lookup: what was asked and the event IDs it gave
+     */
+    private static class AccessPath {
+        private final String description;
+        private final int[] ids;  // Sorted event IDs
+
+        AccessPath(String description, int[] ids) {
+            this.description = description;
+            this.ids = ids;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDate;  // For the date range
+import java.time.LocalTime;  // For the time-of-day range
+import java.util.Locale;  // For case folding that does not depend on the user's language
+
+/**
+ * SearchQuery Class
+ *
+ * The filters of an advanced search, collected in one object so that
+ * SearchPlanner can decide how to answer them.
+ *
+ * Purpose:
+ * - Hold every advanced search filter (text, dates, times, reminders, category,
+ *   priority) in one place
+ * - Tell which filters are actually set
+ *
+ * Filters left at null (or an empty string for text) do not restrict anything.
+ * Text filters are case-insensitive "contains" checks; category and priority must
+ * match exactly.
+ *
+ * A query can also be looked up in the ID indexes (lookup), leaving the checks of
+ * its plan to be made elsewhere, and tell whether it only narrows an earlier query
+ * (narrows), which is what LiveSearch needs to search without reading every
+ * occurrence.
+ */
+public class SearchQuery implements LiveSearch.Filter {
+
+    // Instance variables
+    private String titleContains;  // Text the title must contain
+    private String descriptionContains;  // Text the description must contain
+    private String locationContains;  // Text the location must contain
+    private LocalDate startDate;  // First day (inclusive)
+    private LocalDate endDate;  // Last day (inclusive)
+    private LocalTime startTime;  // Earliest start time of day (inclusive)
+    private LocalTime endTime;  // Latest start time of day (inclusive)
+    private boolean remindersOnly;  // Only events with a reminder
+    private String category;  // Exact category
+    private String priority;  // Exact priority
+
+    // Getters
+    public String getTitleContains() { return titleContains; }
+    public String getDescriptionContains() { return descriptionContains; }
+    public String getLocationContains() { return locationContains; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public LocalTime getStartTime() { return startTime; }
+    public LocalTime getEndTime() { return endTime; }
+    public boolean isRemindersOnly() { return remindersOnly; }
+    public String getCategory() { return category; }
+    public String getPriority() { return priority; }
+
+    // Setters
+    public void setTitleContains(String titleContains) { this.titleContains = titleContains; }
+    public void setDescriptionContains(String descriptionContains) { this.descriptionContains = descriptionContains; }
+    public void setLocationContains(String locationContains) { this.locationContains = locationContains; }
+    public void setStartDate(LocalDate startDate) { this.startDate = startDate; }
+    public void setEndDate(LocalDate endDate) { this.endDate = endDate; }
+    public void setStartTime(LocalTime startTime) { this.startTime = startTime; }
+    public void setEndTime(LocalTime endTime) { this.endTime = endTime; }
+    public void setRemindersOnly(boolean remindersOnly) { this.remindersOnly = remindersOnly; }
+    public void setCategory(String category) { this.category = category; }
+    public void setPriority(String priority) { this.priority = priority; }
+
+    /**
+     * Check whether a text filter is set
+     *
+     * @param field The text field
+     * @return true if that field has a non-empty filter
+     */
+    public boolean hasText(TextIndex.Field field) {
+        String text = getText(field);
+        return text != null && !text.isEmpty();
+    }
+
+    /**
+     * Get the text filter of a field
+     *
+     * @param field The text field
+     * @return The text it must contain, or null
+     */
+    public String getText(TextIndex.Field field) {
+        switch (field) {
+            case TITLE: return titleContains;
+            case DESCRIPTION: return descriptionContains;
+            default: return locationContains;
+        }
+    }
+
+    /**
+     * Check whether the query limits the dates
+     *
+     * @return true if a start or end date is set
+     */
+    public boolean hasDateRange() {
+        return startDate != null || endDate != null;
+    }
+
+    /**
+     * Check whether the query limits the time of day
+     *
+     * @return true if a start or end time is set
+     */
+    public boolean hasTimeRange() {
+        return startTime != null || endTime != null;
+    }
+
+    /**
+     * Look the query up in the ID indexes
+     *
+     * Plans the query without the interval index (SearchPlanner.planByIds), so the
+     * date range is one of the plan's checks.
+     *
+     * @param manager The EventManager to search
+     * @return The plan's candidate IDs and its residual checks
+     */
+    @Override
+    public LiveSearch.Lookup lookup(EventManager manager) {
+        SearchPlanner.Plan plan = new SearchPlanner(manager).planByIds(this);
+        return new LiveSearch.Lookup(plan.getIds(), plan::passes);
+    }
+
+    /**
+     * Check whether this query only narrows an earlier one
+     *
+     * True when every filter of the earlier query is still set here and at least as
+     * strict: text that contains the earlier text, a date and time range inside the
+     * earlier one, and the same category, priority and reminder filters.
+     *
+     * @param previous The earlier query
+     * @return true if everything this query matches, the earlier one matched too
+     */
+    @Override
+    public boolean narrows(LiveSearch.Filter previous) {
+        if (!(previous instanceof SearchQuery)) return false;
+        SearchQuery earlier = (SearchQuery) previous;
+        for (TextIndex.Field field : TextIndex.Field.values()) {
+            if (!earlier.hasText(field)) continue;
+            if (!hasText(field)) return false;
+            String text = getText(field).toLowerCase(Locale.ROOT);
+            if (!text.contains(earlier.getText(field).toLowerCase(Locale.ROOT))) return false;
+        }
+        if (earlier.startDate != null && (startDate == null || startDate.isBefore(earlier.startDate))) return false;
+        if (earlier.endDate != null && (endDate == null || endDate.isAfter(earlier.endDate))) return false;
+        if (earlier.startTime != null && (startTime == null || startTime.isBefore(earlier.startTime))) return false;
+        if (earlier.endTime != null && (endTime == null || endTime.isAfter(earlier.endTime))) return false;
+        if (earlier.remindersOnly && !remindersOnly) return false;
+        if (earlier.category != null && !earlier.category.equals(category)) return false;
+        return earlier.priority == null || earlier.priority.equals(priority);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (hasText(TextIndex.Field.TITLE)) sb.append("title contains '").append(titleContains).append("'; ");
+        if (hasText(TextIndex.Field.DESCRIPTION)) sb.append("desc contains '").append(descriptionContains).append("'; ");
+        if (hasText(TextIndex.Field.LOCATION)) sb.append("location contains '").append(locationContains).append("'; ");
+        if (startDate != null) sb.append("from ").append(startDate).append("; ");
+        if (endDate != null) sb.append("to ").append(endDate).append("; ");
+        if (startTime != null) sb.append("time >= ").append(startTime).append("; ");
+        if (endTime != null) sb.append("time <= ").append(endTime).append("; ");
+        if (remindersOnly) sb.append("with reminders; ");
+        if (category != null) sb.append("category = ").append(category).append("; ");
+        if (priority != null) sb.append("priority = ").append(priority).append("; ");
+        return sb.length() == 0 ? "(no filters)" : sb.substring(0, sb.length() - 2);
+    }
+}
@@ -0,0 +1,174 @@
+package com.mycompany.calendarapp;
+
+import java.time.LocalDateTime;  // For the upcoming/past split
+import java.util.BitSet;  // For counting flagged rows
+import java.util.LinkedHashMap;  // For month counts in the order they appear
+import java.util.Map;  // Map interface
+
+/**
+ * StatisticsAccumulator Class
+ *
+ * Collects every number EventStatistics reports while looking at each event
+ * only once.
+ *
+ * Purpose:
+ * - Replace the separate scans of the statistics report with a single pass
+ * - Allow the work to be split: accumulators for neighbouring row ranges can be
+ *   merged into one, giving the same result as a single accumulator over all rows
+ *
+ * How It Works:
+ * - accumulate() adds a range of rows from an EventColumns snapshot to the running
+ *   counts, histograms (day of week, hour, month), duration sum, earliest/latest
+ *   day and longest event
+ * - merge() adds another accumulator's totals; the other one must cover rows that
+ *   come after this one's, so "first seen" month order and ties for the longest
+ *   event stay the same as in a single pass
+ * - toSnapshot() turns the totals into a StatisticsSnapshot
+ */
+public class StatisticsAccumulator {
+
+    // Instance variables
+    private final LocalDateTime now;  // Time that splits upcoming from past
+    private final long upcomingAfter;  // Rows starting after this are upcoming
+    private final long pastBefore;  // Rows ending before this are past
+    private int total = 0;
+    private int upcoming = 0;
+    private int past = 0;
+    private int recurring = 0;
+    private int withReminders = 0;
+    private final int[] dayCounts = new int[7];  // Index 0 = Monday
+    private final int[] hourCounts = new int[24];
+    private final Map<Integer, int[]> monthCounts = new LinkedHashMap<>();  // Month key -> count, first seen first
+    private long earliestDay = Long.MAX_VALUE;  // Epoch day of the earliest start
+    private long latestDay = Long.MIN_VALUE;  // Epoch day of the latest start
+    private long totalMinutes = 0;  // Sum of all durations
+    private long longestMinutes = Long.MIN_VALUE;
+    private int longestRow = -1;  // Row of the longest event, -1 if none
+
+    /**
+     * Constructor - Creates an empty accumulator
+     *
+     * @param now The time that splits upcoming from past events
+     */
+    public StatisticsAccumulator(LocalDateTime now) {
+        this.now = now;
+        this.upcomingAfter = MainEvent.toEpochSecond(now);
+        this.pastBefore = upcomingAfter + (now.getNano() > 0 ? 1 : 0);  // Same second still counts as past
+    }
+
+    /**
+     * Add a range of rows
+     *
+     * @param columns The snapshot
+     * @param from First row (inclusive)
+     * @param to Last row (exclusive)
+     */
+    public void accumulate(EventColumns columns, int from, int to) {
+        long[] starts = columns.starts;
+        long[] ends = columns.ends;
+        int lastMonth = Integer.MIN_VALUE;
+        int[] lastMonthCount = null;
+
+        for (int row = from; row < to; row++) {
+            long start = starts[row];
+            long end = ends[row];
+
+            if (start > upcomingAfter) upcoming++;
+            if (end < pastBefore) past++;
+
+            dayCounts[EventStatistics.dayOfWeekIndexOf(start)]++;
+            hourCounts[EventStatistics.hourOf(start)]++;
+
+            int month = EventStatistics.monthKeyOf(start);
+            if (month != lastMonth) {  // Rows are often grouped by month - skip the lookup then
+                lastMonth = month;
+                lastMonthCount = monthCounts.computeIfAbsent(month, key -> new int[1]);
+            }
+            lastMonthCount[0]++;
+
+            long day = EventStatistics.epochDayOf(start);
+            if (day < earliestDay) earliestDay = day;
+            if (day > latestDay) latestDay = day;
+
+            long minutes = EventStatistics.durationMinutes(columns, row);
+            totalMinutes += minutes;
+            if (minutes > longestMinutes) {  // Strictly longer, so the first of equals is kept
+                longestMinutes = minutes;
+                longestRow = row;
+            }
+        }
+
+        total += to - from;
+        recurring += countBits(columns.recurring, from, to);
+        withReminders += countBits(columns.hasReminder, from, to);
+    }
+
+    /**
+     * Add the totals of an accumulator that covered the rows after this one's
+     *
+     * @param later The other accumulator (same "now")
+     * @return This accumulator
+     */
+    public StatisticsAccumulator merge(StatisticsAccumulator later) {
+        total += later.total;
+        upcoming += later.upcoming;
+        past += later.past;
+        recurring += later.recurring;
+        withReminders += later.withReminders;
+        for (int i = 0; i < dayCounts.length; i++) dayCounts[i] += later.dayCounts[i];
+        for (int i = 0; i < hourCounts.length; i++) hourCounts[i] += later.hourCounts[i];
+        for (Map.Entry<Integer, int[]> entry : later.monthCounts.entrySet()) {
+            monthCounts.computeIfAbsent(entry.getKey(), key -> new int[1])[0] += entry.getValue()[0];
+        }
+        earliestDay = Math.min(earliestDay, later.earliestDay);
+        latestDay = Math.max(latestDay, later.latestDay);
+        totalMinutes += later.totalMinutes;
+        if (later.longestRow >= 0 && later.longestMinutes > longestMinutes) {
+            longestMinutes = later.longestMinutes;
+            longestRow = later.longestRow;
+        }
+        return this;
+    }
+
+    /**
+     * Turn the totals into a snapshot
+     *
+     * @param columns The snapshot the rows came from (to look up the longest event)
+     * @return The finished statistics
+     */
+    public StatisticsSnapshot toSnapshot(EventColumns columns) {
+        Map<String, Integer> byMonth = new LinkedHashMap<>();
+        for (Map.Entry<Integer, int[]> entry : monthCounts.entrySet()) {
+            byMonth.put(EventStatistics.monthName(entry.getKey()), entry.getValue()[0]);
+        }
+
+        double averagePerWeek = 0.0;
+        double averageDuration = 0.0;
+        if (total > 0) {
+            averagePerWeek = averagePerWeek(total, earliestDay, latestDay);
+            averageDuration = totalMinutes / (double) total;
+        }
+
+        MainEvent longest = longestRow >= 0 ? columns.getEvent(longestRow) : null;
+        return new StatisticsSnapshot(now, total, upcoming, past, recurring, withReminders,
+            dayCounts, hourCounts, byMonth, averagePerWeek, averageDuration,
+            longest, longest != null ? longestMinutes : 0);
+    }
+
+    /**
+     * Average events per week between the earliest and latest start day
+     * (a span of less than a week counts as one week)
+     */
+    static double averagePerWeek(int total, long earliestDay, long latestDay) {
+        long totalDays = latestDay - earliestDay;
+        if (totalDays == 0) totalDays = 1;
+        double weeks = totalDays / 7.0;
+        if (weeks < 1) weeks = 1;
+        return total / weeks;
+    }
+
+    private static int countBits(BitSet bits, int from, int to) {
+        if (from == 0 && to >= bits.length()) return bits.cardinality();
+        return bits.get(from, to).cardinality();
+    }
+}
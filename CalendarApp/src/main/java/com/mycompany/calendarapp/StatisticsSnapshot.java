@@ -0,0 +1,141 @@
+package com.mycompany.calendarapp;
+
+import java.time.DayOfWeek;  // For day-of-week results
+import java.time.LocalDateTime;  // For the time the statistics were taken
+import java.util.AbstractMap;  // For returning single key/value results
+import java.util.Arrays;  // For copying histograms
+import java.util.Collections;  // For read-only maps
+import java.util.LinkedHashMap;  // For ordered result maps
+import java.util.Map;  // Map interface
+
+/**
+ * StatisticsSnapshot Class
+ *
+ * The finished statistics of a set of events, as worked out by
+ * EventStatistics.computeStatistics. EventStatistics.formatReport turns it into
+ * the text shown in the statistics dialog.
+ *
+ * Purpose:
+ * - Hold every statistic as a typed value instead of a formatted string
+ * - Answer the report's questions (busiest day, averages, ...) without scanning
+ *   the events again
+ *
+ * A snapshot never changes after it is created.
+ */
+public class StatisticsSnapshot {
+
+    // Instance variables
+    private final LocalDateTime computedAt;  // Time used for the upcoming/past split
+    private final int totalEvents;
+    private final int upcomingEvents;  // Start after computedAt
+    private final int pastEvents;  // End before computedAt
+    private final int recurringEvents;
+    private final int eventsWithReminders;
+    private final int[] dayCounts;  // Events per day of week, index 0 = Monday
+    private final int[] hourCounts;  // Events per starting hour
+    private final Map<String, Integer> eventsByMonth;  // "Mar 2025" -> count, in the order months appear
+    private final double averageEventsPerWeek;
+    private final double averageEventDuration;  // Minutes
+    private final MainEvent longestEvent;  // null if there are no events
+    private final long longestEventMinutes;
+
+    /**
+     * Constructor - Creates a snapshot (normally done by StatisticsAccumulator)
+     */
+    public StatisticsSnapshot(LocalDateTime computedAt, int totalEvents, int upcomingEvents, int pastEvents,
+                              int recurringEvents, int eventsWithReminders, int[] dayCounts, int[] hourCounts,
+                              Map<String, Integer> eventsByMonth, double averageEventsPerWeek,
+                              double averageEventDuration, MainEvent longestEvent, long longestEventMinutes) {
+        this.computedAt = computedAt;
+        this.totalEvents = totalEvents;
+        this.upcomingEvents = upcomingEvents;
+        this.pastEvents = pastEvents;
+        this.recurringEvents = recurringEvents;
+        this.eventsWithReminders = eventsWithReminders;
+        this.dayCounts = Arrays.copyOf(dayCounts, 7);
+        this.hourCounts = Arrays.copyOf(hourCounts, 24);
+        this.eventsByMonth = Collections.unmodifiableMap(new LinkedHashMap<>(eventsByMonth));
+        this.averageEventsPerWeek = averageEventsPerWeek;
+        this.averageEventDuration = averageEventDuration;
+        this.longestEvent = longestEvent;
+        this.longestEventMinutes = longestEventMinutes;
+    }
+
+    // Getter methods
+    public LocalDateTime getComputedAt() { return computedAt; }
+    public int getTotalEvents() { return totalEvents; }
+    public int getUpcomingEvents() { return upcomingEvents; }
+    public int getPastEvents() { return pastEvents; }
+    public int getRecurringEvents() { return recurringEvents; }
+    public int getEventsWithReminders() { return eventsWithReminders; }
+    public Map<String, Integer> getEventsByMonth() { return eventsByMonth; }
+    public double getAverageEventsPerWeek() { return averageEventsPerWeek; }
+    public double getAverageEventDuration() { return averageEventDuration; }
+    public MainEvent getLongestEvent() { return longestEvent; }
+    public long getLongestEventMinutes() { return longestEventMinutes; }
+
+    /**
+     * Get the number of events starting on a day of the week
+     *
+     * @param day The day
+     * @return Event count
+     */
+    public int getEventCount(DayOfWeek day) {
+        return dayCounts[day.ordinal()];
+    }
+
+    /**
+     * Get the number of events starting in an hour of the day
+     *
+     * @param hour 0-23
+     * @return Event count
+     */
+    public int getEventCount(int hour) {
+        return hourCounts[hour];
+    }
+
+    /**
+     * Get events per day of week, Monday first
+     *
+     * @return Day -> event count
+     */
+    public Map<DayOfWeek, Integer> getEventsByDayOfWeek() {
+        Map<DayOfWeek, Integer> result = new LinkedHashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            result.put(day, dayCounts[day.ordinal()]);
+        }
+        return result;
+    }
+
+    /**
+     * Get the busiest day of the week (earliest day in the week wins ties)
+     *
+     * @return Day and its event count
+     */
+    public Map.Entry<DayOfWeek, Integer> getBusiestDayOfWeek() {
+        int best = 0;
+        for (int day = 1; day < dayCounts.length; day++) {
+            if (dayCounts[day] > dayCounts[best]) best = day;
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(DayOfWeek.of(best + 1), dayCounts[best]);
+    }
+
+    /**
+     * Get the busiest hour of the day (earliest hour wins ties)
+     *
+     * @return Hour (0-23) and its event count
+     */
+    public Map.Entry<Integer, Integer> getBusiestHour() {
+        int best = 0;
+        for (int hour = 1; hour < hourCounts.length; hour++) {
+            if (hourCounts[hour] > hourCounts[best]) best = hour;
+        }
+        return new AbstractMap.SimpleImmutableEntry<>(best, hourCounts[best]);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("StatisticsSnapshot[%d events, %d upcoming, %d past, at %s]",
+            totalEvents, upcomingEvents, pastEvents, computedAt);
+    }
+}
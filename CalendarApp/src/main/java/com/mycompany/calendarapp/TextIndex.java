@@ -0,0 +1,323 @@
+package com.mycompany.calendarapp;
+
+import java.util.ArrayList;  // For creating array lists
+import java.util.EnumMap;  // For one dictionary per field
+import java.util.IdentityHashMap;  // For remembering what each event was indexed under
+import java.util.LinkedHashSet;  // For the distinct words of a text
+import java.util.List;  // List interface
+import java.util.Locale;  // For case folding independent of the user's language
+import java.util.Map;  // Map interface
+import java.util.Set;  // Set interface
+import java.util.SortedMap;  // For prefix ranges
+import java.util.TreeMap;  // For the sorted word dictionaries
+
+/**
+ * TextIndex Class
+ *
+ * An inverted word index over the title, description and location of every event,
+ * so text searches look up words instead of reading every event.
+ *
+ * Purpose:
+ * - Answer "which events have words starting with ..." without a full scan
+ * - Combine several words with AND
+ * - Narrow down "contains" searches before they are checked event by event
+ *
+ * How It Works:
+ * - Text is split into words (runs of letters and digits) and lower-cased
+ * - Each field has a sorted dictionary: word -> PostingList of event IDs
+ * - A prefix is answered by walking the dictionary range of words starting with it
+ *   and combining their posting lists; several words are intersected, smallest first
+ * - It listens to EventManager; the words each event was indexed under are
+ *   remembered, so an edited event can be taken out before it is indexed again
+ *
+ * Recurring events are indexed once under their own ID. Their occurrences share
+ * that ID, description and location; the " (Occurrence N)" part of an occurrence's
+ * title is not indexed.
+ */
+public class TextIndex implements EventChangeListener {
+
+    /**
+     * The event fields that are indexed
+     */
+    public enum Field { TITLE, DESCRIPTION, LOCATION }
+
+    // Instance variables
+    private final EventManager manager;  // The events being indexed
+    private final Map<Field, TreeMap<String, PostingList>> dictionaries = new EnumMap<>(Field.class);  // Word -> event IDs
+    private final Map<MainEvent, Indexed> indexed = new IdentityHashMap<>();  // What each event was indexed under
+    private final PostingList seriesIds = new PostingList();  // IDs of the recurring events
+
+    /**
+     * Constructor - Indexes every event in a manager and starts listening for changes
+     *
+     * @param manager The EventManager to index
+     */
+    public TextIndex(EventManager manager) {
+        this.manager = manager;
+        for (Field field : Field.values()) {
+            dictionaries.put(field, new TreeMap<>());
+        }
+        for (MainEvent event : manager.getAllEvents()) {
+            add(event);
+        }
+        manager.addChangeListener(this);
+    }
+
+    /**
+     * Stop following the manager
+     */
+    public void close() {
+        manager.removeChangeListener(this);
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        add(event);
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        remove(event);
+        add(event);
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        remove(event);
+    }
+
+    @Override
+    public void eventsCleared() {
+        for (TreeMap<String, PostingList> dictionary : dictionaries.values()) {
+            dictionary.clear();
+        }
+        indexed.clear();
+        seriesIds.clear();
+    }
+
+    // ---- Queries ----
+
+    /**
+     * Find the events where every query word starts a word of the field
+     *
+     * Example: "team mee" finds "Team Meeting" and "Meet the team", not "Steam room".
+     *
+     * @param field The field to search
+     * @param query Words to look for (any case)
+     * @return Sorted IDs of the matching events, or null if the query has no words
+     *         (which does not restrict anything)
+     */
+    public int[] searchPrefixes(Field field, String query) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) return null;
+        return matchAll(field, new ArrayList<>(), words);
+    }
+
+    /**
+     * Find the events whose field contains every query word as a whole word
+     *
+     * @param field The field to search
+     * @param query Words to look for (any case)
+     * @return Sorted IDs of the matching events, or null if the query has no words
+     */
+    public int[] searchWords(Field field, String query) {
+        List<String> words = tokenize(query);
+        if (words.isEmpty()) return null;
+        return matchAll(field, words, new ArrayList<>());
+    }
+
+    /**
+     * Narrow down a case-insensitive "contains" search as far as whole words allow
+     *
+     * A query word with separators on both sides must be a whole word of the field,
+     * and one that only has a separator in front must start a word. The first word
+     * of the query may be the end of a longer word, so it is only used when the
+     * query starts with a separator. Callers must still check each candidate.
+     *
+     * For titles, query words that could come from an occurrence's " (Occurrence N)"
+     * ending ("occurrence" or a number) are also allowed to match there, so the
+     * candidates include every occurrence whose title can contain the query.
+     *
+     * @param field The field to search
+     * @param query The text the field has to contain
+     * @return Sorted IDs of the possible matches, or null if the words of the query
+     *         cannot narrow the search (e.g. a single word)
+     */
+    public int[] containsCandidates(Field field, String query) {
+        String text = query.toLowerCase(Locale.ROOT);
+        List<String> exact = new ArrayList<>();
+        List<String> prefixes = new ArrayList<>();
+        int i = 0;
+        while (i < text.length()) {
+            if (!Character.isLetterOrDigit(text.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < text.length() && Character.isLetterOrDigit(text.charAt(i))) i++;
+            if (start == 0) continue;  // May be the tail of a longer word
+            if (i < text.length()) {
+                exact.add(text.substring(start, i));
+            } else {
+                prefixes.add(text.substring(start, i));
+            }
+        }
+        if (exact.isEmpty() && prefixes.isEmpty()) return null;
+        int[] result = matchAll(field, exact, prefixes);
+
+        if (field == Field.TITLE && !seriesIds.isEmpty()) {
+            // Occurrences: words that may be in the generated ending need not be in the series title
+            List<String> titleExact = new ArrayList<>();
+            List<String> titlePrefixes = new ArrayList<>();
+            for (String word : exact) {
+                if (!isOccurrenceWord(word, false)) titleExact.add(word);
+            }
+            for (String word : prefixes) {
+                if (!isOccurrenceWord(word, true)) titlePrefixes.add(word);
+            }
+            if (titleExact.size() + titlePrefixes.size() < exact.size() + prefixes.size()) {
+                int[] series = seriesIds.toArray();
+                if (!titleExact.isEmpty() || !titlePrefixes.isEmpty()) {
+                    series = PostingList.intersect(series, matchAll(field, titleExact, titlePrefixes));
+                }
+                result = PostingList.union(result, series);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of different words in a field
+     *
+     * @param field The field
+     * @return Dictionary size
+     */
+    public int getWordCount(Field field) {
+        return dictionaries.get(field).size();
+    }
+
+    /**
+     * Get the number of indexed events
+     *
+     * @return Event count
+     */
+    public int size() {
+        return indexed.size();
+    }
+
+    /**
+     * Split text into lower-case words (runs of letters and digits)
+     *
+     * @param text The text (may be null)
+     * @return The words, in order, repeats kept
+     */
+    public static List<String> tokenize(String text) {
+        List<String> words = new ArrayList<>();
+        if (text == null) return words;
+        String lower = text.toLowerCase(Locale.ROOT);
+        int i = 0;
+        while (i < lower.length()) {
+            if (!Character.isLetterOrDigit(lower.charAt(i))) {
+                i++;
+                continue;
+            }
+            int start = i;
+            while (i < lower.length() && Character.isLetterOrDigit(lower.charAt(i))) i++;
+            words.add(lower.substring(start, i));
+        }
+        return words;
+    }
+
+    // ---- Helpers ----
+
+    /**
+     * Could a query word come from the " (Occurrence N)" ending of an occurrence title?
+     */
+    private static boolean isOccurrenceWord(String word, boolean prefix) {
+        if (word.chars().allMatch(Character::isDigit)) return true;
+        return prefix ? "occurrence".startsWith(word) : word.equals("occurrence");
+    }
+
+    /**
+     * Intersect the events of some whole words and some word prefixes
+     */
+    private int[] matchAll(Field field, List<String> exact, List<String> prefixes) {
+        TreeMap<String, PostingList> dictionary = dictionaries.get(field);
+        List<int[]> sets = new ArrayList<>();
+        for (String word : exact) {
+            PostingList postings = dictionary.get(word);
+            if (postings == null) return new int[0];
+            sets.add(postings.toArray());
+        }
+        for (String prefix : prefixes) {
+            SortedMap<String, PostingList> range = dictionary.subMap(prefix, prefix + Character.MAX_VALUE);
+            if (range.isEmpty()) return new int[0];
+            sets.add(range.size() == 1 ? range.values().iterator().next().toArray() : PostingList.union(range.values()));
+        }
+
+        if (sets.isEmpty()) return null;
+        sets.sort((a, b) -> Integer.compare(a.length, b.length));  // Smallest first keeps the work small
+        int[] result = sets.get(0);
+        for (int i = 1; i < sets.size() && result.length > 0; i++) {
+            result = PostingList.intersect(result, sets.get(i));
+        }
+        return result;
+    }
+
+    private void add(MainEvent event) {
+        String[][] words = new String[Field.values().length][];
+        words[Field.TITLE.ordinal()] = distinctWords(event.getTitle());
+        words[Field.DESCRIPTION.ordinal()] = distinctWords(event.getDescription());
+        words[Field.LOCATION.ordinal()] = distinctWords(event.getLocation());
+
+        int id = event.getEventId();
+        for (Field field : Field.values()) {
+            TreeMap<String, PostingList> dictionary = dictionaries.get(field);
+            for (String word : words[field.ordinal()]) {
+                dictionary.computeIfAbsent(word, key -> new PostingList()).add(id);
+            }
+        }
+        boolean series = event instanceof RecurringEvent;
+        if (series) seriesIds.add(id);
+        indexed.put(event, new Indexed(id, words, series));
+    }
+
+    private void remove(MainEvent event) {
+        Indexed old = indexed.remove(event);
+        if (old == null) return;
+        if (old.series) seriesIds.remove(old.id);
+
+        // Use the ID and words it was indexed under - the event may have changed since
+        for (Field field : Field.values()) {
+            TreeMap<String, PostingList> dictionary = dictionaries.get(field);
+            for (String word : old.words[field.ordinal()]) {
+                PostingList postings = dictionary.get(word);
+                if (postings != null && postings.remove(old.id) && postings.isEmpty()) {
+                    dictionary.remove(word);
+                }
+            }
+        }
+    }
+
+    private static String[] distinctWords(String text) {
+        Set<String> words = new LinkedHashSet<>(tokenize(text));
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * The ID and words an event was indexed under
+     */
+    private static class Indexed {
+        private final int id;
+        private final String[][] words;  // Distinct words per field (Field ordinal)
+        private final boolean series;  // Was a recurring event
+
+        Indexed(int id, String[][] words, boolean series) {
+            this.id = id;
+            this.words = words;
+            this.series = series;
+        }
+    }
+}
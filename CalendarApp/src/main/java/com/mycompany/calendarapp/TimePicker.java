@@ -111,5 +111,17 @@ public class TimePicker extends HBox {
             minuteSpinner.getValueFactory().setValue(time.getMinute());  // Set minute
         }
     }
+
+    /**
+     * Run an action whenever the selected time changes
+     * 
+     * Used by dialogs that update their results while the user is still choosing.
+     * 
+     * @param action Called after the hour or minute changes
+     */
+    public void addChangeListener(Runnable action) {
+        hourSpinner.valueProperty().addListener((obs, oldValue, newValue) -> action.run());  // Hour changed
+        minuteSpinner.valueProperty().addListener((obs, oldValue, newValue) -> action.run());  // Minute changed
+    }
 }
 
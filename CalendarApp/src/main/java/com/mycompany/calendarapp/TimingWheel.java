@@ -0,0 +1,262 @@
+package com.mycompany.calendarapp;
+
+import java.util.function.Consumer;  // Receives expired timers
+
+/**
+ * TimingWheel Class
+ *
+ * A hierarchical timing wheel: a set of timers that expire at whole "ticks", where
+ * moving the clock forward by one tick costs the same no matter how many timers
+ * are waiting.
+ *
+ * Purpose:
+ * - Hold hundreds of thousands of pending reminders cheaply
+ * - Add and cancel a timer in constant time
+ * - Find the timers that expire on each tick without looking at the others
+ *
+ * How It Works:
+ * - There are LEVELS wheels of 64 slots. Level 0 has one slot per tick, level 1
+ *   one slot per 64 ticks, level 2 one per 4096 ticks, and so on
+ * - A timer goes in the lowest level whose current rotation contains its
+ *   deadline, in the slot for its deadline at that level
+ * - On each tick the level 0 slot for that tick expires. Whenever a lower level
+ *   completes a rotation, the next slot of the level above is emptied and its
+ *   timers are put back in lower levels (cascading)
+ * - Each slot is a doubly linked list, so cancelling only unlinks one node
+ * - Deadlines beyond the top level wait in an overflow list that is re-sorted
+ *   each time the top level completes a rotation
+ *
+ * Not thread-safe: use it from one thread (ReminderService uses its timer thread).
+ *
+ * @param <T> The value carried by each timer
+ */
+public class TimingWheel<T> {
+
+    // Constants
+    private static final int SLOT_BITS = 6;  // 64 slots per level
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 6;  // Covers 64^6 ticks before the overflow list is needed
+
+    // Instance variables
+    private final Timer<T>[][] slots;  // slots[level][slot] = first timer in that slot
+    private Timer<T> overflow;  // Timers beyond the top level
+    private long currentTick;  // Last tick that has been processed
+    private int size = 0;  // Number of pending timers
+
+    /**
+     * Constructor - Creates an empty wheel
+     *
+     * @param startTick The current tick; timers due at or before it expire on the next tick
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(long startTick) {
+        this.slots = (Timer<T>[][]) new Timer<?>[LEVELS][SLOTS];
+        this.currentTick = startTick;
+    }
+
+    /**
+     * Add a timer
+     *
+     * @param deadline The tick at which the timer should expire
+     * @param value The value handed back when it expires
+     * @return A handle that can be passed to cancel()
+     */
+    public Timer<T> schedule(long deadline, T value) {
+        Timer<T> timer = new Timer<>(Math.max(deadline, currentTick + 1), value);
+        place(timer);
+        size++;
+        return timer;
+    }
+
+    /**
+     * Remove a timer that has not expired yet
+     *
+     * @param timer The handle returned by schedule()
+     * @return true if the timer was pending and is now removed
+     */
+    public boolean cancel(Timer<T> timer) {
+        if (timer == null || !timer.pending) return false;
+        unlink(timer);
+        size--;
+        return true;
+    }
+
+    /**
+     * Move the clock forward, expiring every timer that falls due on the way
+     *
+     * @param tick The tick to advance to
+     * @param expired Called with the value of every expired timer, in deadline order
+     */
+    public void advanceTo(long tick, Consumer<T> expired) {
+        while (currentTick < tick) {
+            currentTick++;
+            cascade();
+
+            // Every timer in this level 0 slot has exactly this deadline
+            int slot = (int) (currentTick & (SLOTS - 1));
+            Timer<T> timer = slots[0][slot];
+            slots[0][slot] = null;
+            while (timer != null) {
+                Timer<T> next = timer.next;
+                timer.pending = false;
+                timer.prev = null;
+                timer.next = null;
+                size--;
+                expired.accept(timer.value);
+                timer = next;
+            }
+        }
+    }
+
+    /**
+     * Remove every timer
+     */
+    public void clear() {
+        for (Timer<T>[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                for (Timer<T> t = level[i]; t != null; t = t.next) t.pending = false;
+                level[i] = null;
+            }
+        }
+        for (Timer<T> t = overflow; t != null; t = t.next) t.pending = false;
+        overflow = null;
+        size = 0;
+    }
+
+    /**
+     * Get the number of pending timers
+     *
+     * @return Timer count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Get the last tick that has been processed
+     *
+     * @return The current tick
+     */
+    public long getCurrentTick() {
+        return currentTick;
+    }
+
+    // ---- Helpers ----
+
+    /**
+     * Empty the higher-level slots whose turn has come, top level first
+     */
+    private void cascade() {
+        int completed = 0;  // Number of levels that just finished a rotation
+        while (completed < LEVELS && (currentTick & ((1L << (SLOT_BITS * (completed + 1))) - 1)) == 0) {
+            completed++;
+        }
+        if (completed == LEVELS) {
+            Timer<T> timer = overflow;
+            overflow = null;
+            replace(timer);
+        }
+        for (int level = Math.min(completed, LEVELS - 1); level >= 1; level--) {
+            int slot = (int) ((currentTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+            Timer<T> timer = slots[level][slot];
+            slots[level][slot] = null;
+            replace(timer);
+        }
+    }
+
+    /**
+     * Put a detached chain of timers back in the wheel
+     */
+    private void replace(Timer<T> timer) {
+        while (timer != null) {
+            Timer<T> next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            place(timer);
+            timer = next;
+        }
+    }
+
+    /**
+     * Link a timer into the slot for its deadline
+     */
+    private void place(Timer<T> timer) {
+        long deadline = timer.deadline;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            // Same rotation of this level as the current tick?
+            if ((deadline >>> shift) == (currentTick >>> shift)) {
+                int slot = (int) ((deadline >>> (SLOT_BITS * level)) & (SLOTS - 1));
+                link(timer, level, slot);
+                return;
+            }
+        }
+        link(timer, -1, 0);  // Beyond the top level
+    }
+
+    private void link(Timer<T> timer, int level, int slot) {
+        timer.level = level;
+        timer.slot = slot;
+        timer.pending = true;
+        Timer<T> head = level < 0 ? overflow : slots[level][slot];
+        timer.next = head;
+        if (head != null) head.prev = timer;
+        if (level < 0) {
+            overflow = timer;
+        } else {
+            slots[level][slot] = timer;
+        }
+    }
+
+    private void unlink(Timer<T> timer) {
+        if (timer.prev != null) {
+            timer.prev.next = timer.next;
+        } else if (timer.level < 0) {
+            overflow = timer.next;
+        } else {
+            slots[timer.level][timer.slot] = timer.next;
+        }
+        if (timer.next != null) timer.next.prev = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        timer.pending = false;
+    }
+
+    /**
+     * A pending timer; returned by schedule() so it can be cancelled
+     *
+     * @param <T> The value carried by the timer
+     */
+    public static final class Timer<T> {
+        private final long deadline;  // Tick at which it expires
+        private final T value;  // Handed back on expiry
+        private Timer<T> prev;  // Neighbours in the slot list
+        private Timer<T> next;
+        private int level;  // Where it is linked (-1 = overflow list)
+        private int slot;
+        private boolean pending;  // Still waiting to expire
+
+        private Timer(long deadline, T value) {
+            this.deadline = deadline;
+            this.value = value;
+        }
+
+        /**
+         * Get the tick at which this timer expires
+         *
+         * @return The deadline tick
+         */
+        public long getDeadline() {
+            return deadline;
+        }
+
+        /**
+         * Get the value carried by this timer
+         *
+         * @return The value
+         */
+        public T getValue() {
+            return value;
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.mycompany.calendarapp;
+
+import java.util.ArrayList;  // For creating array lists
+import java.util.Arrays;  // For sorting trigram keys
+import java.util.EnumMap;  // For one table per field
+import java.util.HashMap;  // For trigram -> event IDs
+import java.util.IdentityHashMap;  // For remembering what each event was indexed under
+import java.util.List;  // List interface
+import java.util.Locale;  // For case folding independent of the user's language
+import java.util.Map;  // Map interface
+
+/**
+ * TrigramIndex Class
+ *
+ * A substring index over the title, description and location of every event:
+ * for every three-character piece of text (trigram), the events containing it.
+ *
+ * Purpose:
+ * - Answer case-insensitive "contains" searches for any piece of text, including
+ *   the middle of a word, without reading every event
+ * - Report how much memory the index uses
+ *
+ * How It Works:
+ * - Text is lower-cased and every run of three characters is packed into a long
+ *   ("mee" -> three 16-bit chars) and mapped to a PostingList of event IDs
+ * - A query of three or more characters can only be contained in text that has all
+ *   of its trigrams, so the posting lists of the query's trigrams are intersected
+ *   (smallest first); callers then check the few candidates that are left
+ * - It listens to EventManager. The text each event was indexed with is
+ *   remembered, so an edited event can be taken out before it is indexed again
+ *
+ * Recurring events are indexed once under their own ID. Queries that may reach into
+ * the " (Occurrence N)" ending of an occurrence's title also return the series whose
+ * title can supply the rest of the query.
+ */
+public class TrigramIndex implements EventChangeListener {
+
+    // Constants
+    private static final String OCCURRENCE_ENDING = " (occurrence ";  // Start of a generated occurrence title ending
+    private static final long MAP_ENTRY_BYTES = 32 + 24;  // HashMap node + boxed Long key
+    private static final long EVENT_ENTRY_BYTES = 32 + 40;  // IdentityHashMap slots + Indexed object
+
+    // Instance variables
+    private final EventManager manager;  // The events being indexed
+    private final Map<TextIndex.Field, Map<Long, PostingList>> tables = new EnumMap<>(TextIndex.Field.class);  // Trigram -> event IDs
+    private final Map<MainEvent, Indexed> indexed = new IdentityHashMap<>();  // What each event was indexed under
+    private final PostingList seriesIds = new PostingList();  // IDs of the recurring events
+
+    /**
+     * Constructor - Indexes every event in a manager and starts listening for changes
+     *
+     * @param manager The EventManager to index
+     */
+    public TrigramIndex(EventManager manager) {
+        this.manager = manager;
+        for (TextIndex.Field field : TextIndex.Field.values()) {
+            tables.put(field, new HashMap<>());
+        }
+        for (MainEvent event : manager.getAllEvents()) {
+            add(event);
+        }
+        manager.addChangeListener(this);
+    }
+
+    /**
+     * Stop following the manager
+     */
+    public void close() {
+        manager.removeChangeListener(this);
+    }
+
+    // ---- EventChangeListener ----
+
+    @Override
+    public void eventAdded(MainEvent event) {
+        add(event);
+    }
+
+    @Override
+    public void eventUpdated(MainEvent event) {
+        remove(event);
+        add(event);
+    }
+
+    @Override
+    public void eventDeleted(MainEvent event) {
+        remove(event);
+    }
+
+    @Override
+    public void eventsCleared() {
+        for (Map<Long, PostingList> table : tables.values()) {
+            table.clear();
+        }
+        indexed.clear();
+        seriesIds.clear();
+    }
+
+    // ---- Queries ----
+
+    /**
+     * Find the events whose field may contain a piece of text (any case)
+     *
+     * Every event that does contain it is returned; a few returned events may not,
+     * so callers must still check each one.
+     *
+     * @param field The field to search
+     * @param query The text the field has to contain
+     * @return Sorted IDs of the possible matches, or null if the query is shorter
+     *         than three characters and cannot narrow the search
+     */
+    public int[] containsCandidates(TextIndex.Field field, String query) {
+        String text = query.toLowerCase(Locale.ROOT);
+        if (text.length() < 3) return null;
+        int[] result = lookup(field, text);
+
+        if (field == TextIndex.Field.TITLE && !seriesIds.isEmpty()) {
+            // The query may run into an occurrence's " (Occurrence N)" ending
+            int[] series = null;
+            if (fitsInOccurrenceEnding(text)) {
+                series = seriesIds.toArray();
+            } else {
+                int split = firstEndingSplit(text);
+                if (split >= 0) {
+                    String titlePart = text.substring(0, split);  // Must be the end of the series title
+                    series = titlePart.length() < 3
+                        ? seriesIds.toArray()
+                        : PostingList.intersect(seriesIds.toArray(), lookup(field, titlePart));
+                }
+            }
+            if (series != null) result = PostingList.union(result, series);
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of different trigrams in a field
+     *
+     * @param field The field
+     * @return Trigram count
+     */
+    public int getTrigramCount(TextIndex.Field field) {
+        return tables.get(field).size();
+    }
+
+    /**
+     * Get the number of (trigram, event) entries in all posting lists
+     *
+     * @return Posting count
+     */
+    public long getPostingCount() {
+        long count = 0;
+        for (Map<Long, PostingList> table : tables.values()) {
+            for (PostingList postings : table.values()) count += postings.size();
+        }
+        return count;
+    }
+
+    /**
+     * Estimate the memory used by the index
+     *
+     * Counts the hash table entries, the posting lists and the per-event records
+     * (the indexed strings themselves are shared with the events and not counted).
+     *
+     * @return Approximate size in bytes
+     */
+    public long memoryBytes() {
+        long bytes = 0;
+        for (Map<Long, PostingList> table : tables.values()) {
+            bytes += 16L + 4L * Integer.highestOneBit(Math.max(1, table.size()) * 2);  // Bucket array
+            bytes += table.size() * MAP_ENTRY_BYTES;
+            for (PostingList postings : table.values()) bytes += postings.memoryBytes();
+        }
+        bytes += indexed.size() * EVENT_ENTRY_BYTES + seriesIds.memoryBytes();
+        return bytes;
+    }
+
+    /**
+     * Get the number of indexed events
+     *
+     * @return Event count
+     */
+    public int size() {
+        return indexed.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TrigramIndex[%d events, %d trigrams, %d postings, ~%d KB]",
+            indexed.size(),
+            tables.values().stream().mapToInt(Map::size).sum(),
+            getPostingCount(),
+            memoryBytes() / 1024);
+    }
+
+    // ---- Helpers ----
+
+    /**
+     * Intersect the posting lists of every trigram of a lower-case text
+     */
+    private int[] lookup(TextIndex.Field field, String text) {
+        Map<Long, PostingList> table = tables.get(field);
+        List<PostingList> lists = new ArrayList<>();
+        for (long key : trigrams(text)) {
+            PostingList postings = table.get(key);
+            if (postings == null) return new int[0];  // A trigram nobody has
+            lists.add(postings);
+        }
+        lists.sort((a, b) -> Integer.compare(a.size(), b.size()));  // Smallest first keeps the work small
+        int[] result = lists.get(0).toArray();
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = PostingList.intersect(result, lists.get(i).toArray());
+        }
+        return result;
+    }
+
+    /**
+     * Could the whole query be a piece of an " (Occurrence N)" ending?
+     */
+    private static boolean fitsInOccurrenceEnding(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (!Character.isDigit(c) && c != ')' && OCCURRENCE_ENDING.indexOf(c) < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Find the earliest point where the rest of the query could be the start of an
+     * " (Occurrence N)" ending
+     *
+     * @return The split position (the part before it must end the series title), or -1
+     */
+    private static int firstEndingSplit(String text) {
+        for (int split = 1; split < text.length(); split++) {
+            if (startsOccurrenceEnding(text.substring(split))) return split;
+        }
+        return -1;
+    }
+
+    /**
+     * Is the text the beginning of " (occurrence <digits>)"?
+     */
+    private static boolean startsOccurrenceEnding(String tail) {
+        if (tail.length() <= OCCURRENCE_ENDING.length()) {
+            return OCCURRENCE_ENDING.startsWith(tail);
+        }
+        if (!tail.startsWith(OCCURRENCE_ENDING)) return false;
+        String rest = tail.substring(OCCURRENCE_ENDING.length());
+        int digits = 0;
+        while (digits < rest.length() && Character.isDigit(rest.charAt(digits))) digits++;
+        if (digits == rest.length()) return true;
+        return digits > 0 && digits == rest.length() - 1 && rest.charAt(digits) == ')';
+    }
+
+    /**
+     * Get the distinct trigram keys of a lower-case text, sorted
+     */
+    private static long[] trigrams(String text) {
+        if (text == null || text.length() < 3) return new long[0];
+        long[] keys = new long[text.length() - 2];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = ((long) text.charAt(i) << 32) | ((long) text.charAt(i + 1) << 16) | text.charAt(i + 2);
+        }
+        Arrays.sort(keys);
+        int count = 0;
+        for (int i = 0; i < keys.length; i++) {
+            if (count == 0 || keys[count - 1] != keys[i]) keys[count++] = keys[i];
+        }
+        return Arrays.copyOf(keys, count);
+    }
+
+    private static String lower(String text) {
+        return text == null ? null : text.toLowerCase(Locale.ROOT);
+    }
+
+    private void add(MainEvent event) {
+        Indexed entry = new Indexed(event.getEventId(), event instanceof RecurringEvent,
+            event.getTitle(), event.getDescription(), event.getLocation());
+        for (TextIndex.Field field : TextIndex.Field.values()) {
+            Map<Long, PostingList> table = tables.get(field);
+            for (long key : trigrams(lower(entry.text(field)))) {
+                table.computeIfAbsent(key, k -> new PostingList()).add(entry.id);
+            }
+        }
+        if (entry.series) seriesIds.add(entry.id);
+        indexed.put(event, entry);
+    }
+
+    private void remove(MainEvent event) {
+        Indexed old = indexed.remove(event);
+        if (old == null) return;
+
+        // Use the ID and text it was indexed with - the event may have changed since
+        for (TextIndex.Field field : TextIndex.Field.values()) {
+            Map<Long, PostingList> table = tables.get(field);
+            for (long key : trigrams(lower(old.text(field)))) {
+                PostingList postings = table.get(key);
+                if (postings != null && postings.remove(old.id) && postings.isEmpty()) {
+                    table.remove(key);
+                }
+            }
+        }
+        if (old.series) seriesIds.remove(old.id);
+    }
+
+    /**
+     * The ID and text an event was indexed with
+     */
+    private static class Indexed {
+        private final int id;
+        private final boolean series;  // Was a recurring event
+        private final String title;
+        private final String description;
+        private final String location;
+
+        Indexed(int id, boolean series, String title, String description, String location) {
+            this.id = id;
+            this.series = series;
+            this.title = title;
+            this.description = description;
+            this.location = location;
+        }
+
+        String text(TextIndex.Field field) {
+            switch (field) {
+                case TITLE: return title;
+                case DESCRIPTION: return description;
+                default: return location;
+            }
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for AtomicCSVSaver.recover(): a save that crashed after some of its
+ * renames is finished from the temporary files, so every CSV file ends up at the
+ * new generation together.
+ */
+class AtomicCSVSaverTest {
+
+    private static final String[] NAMES = {"event.csv", "recurrent.csv", "additional.csv", "reminder.csv"};
+    private static final LocalDateTime START = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void recoverFinishesATornGeneration() throws IOException {
+        Path[] files = paths(dir);
+        Path manifest = dir.resolve("save.manifest");
+        assertTrue(save(events("Old"), files, manifest));  // Generation 1, committed
+
+        // Generation 2 as its save would have written it, done in another directory
+        Path next = Files.createDirectory(dir.resolve("next"));
+        Path[] nextFiles = paths(next);
+        assertTrue(save(events("New"), nextFiles, next.resolve("save.manifest")));
+        Properties pending = readProperties(next.resolve("save.manifest"));
+        pending.setProperty("generation", "2");
+        pending.setProperty("state", "PENDING");
+
+        // Crash after the first two renames: those files are new, the other two still wait as .tmp
+        writeProperties(manifest, pending);
+        for (int i = 0; i < files.length; i++) {
+            Path to = i < 2 ? files[i] : dir.resolve(NAMES[i] + ".tmp");
+            Files.copy(nextFiles[i], to, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        AtomicCSVSaver.recover(files[0], files[1], files[2], files[3], manifest);
+
+        for (int i = 0; i < files.length; i++) {
+            assertArrayEquals(Files.readAllBytes(nextFiles[i]), Files.readAllBytes(files[i]), NAMES[i]);
+            assertFalse(Files.exists(dir.resolve(NAMES[i] + ".tmp")), NAMES[i] + ".tmp");
+        }
+        assertEquals("COMMITTED", readProperties(manifest).getProperty("state"));
+        assertEquals(2, AtomicCSVSaver.readGeneration(manifest));
+
+        EventManager loaded = new EventManager();
+        MappedCSVLoader.load(loaded, files[0], files[1], files[2], files[3]);
+        assertEquals(3, loaded.getAllEvents().size());
+        assertEquals("New 2", loaded.findEventById(2).getTitle());
+        assertEquals(20, loaded.findEventById(3).getReminder().getMinutesBefore());
+    }
+
+    @Test
+    void recoverDropsLeftoversOfAnUnrecordedSave() throws IOException {
+        Path[] files = paths(dir);
+        Path manifest = dir.resolve("save.manifest");
+        assertTrue(save(events("Old"), files, manifest));
+        byte[] saved = Files.readAllBytes(files[0]);
+        Path leftover = dir.resolve("event.csv.tmp");
+        Files.write(leftover, "half a file".getBytes());  // Crashed before the manifest said PENDING
+
+        AtomicCSVSaver.recover(files[0], files[1], files[2], files[3], manifest);
+
+        assertFalse(Files.exists(leftover));
+        assertArrayEquals(saved, Files.readAllBytes(files[0]));
+        assertEquals(1, AtomicCSVSaver.readGeneration(manifest));
+    }
+
+    /**
+     * Two normal events and a weekly series with a reminder, titled "<prefix> <id>"
+     */
+    private static List<MainEvent> events(String prefix) {
+        List<MainEvent> events = new ArrayList<>();
+        events.add(new MainEvent(1, prefix + " 1", "", START, START.plusHours(1)));
+        MainEvent second = new MainEvent(2, prefix + " 2", "with, a comma", START.plusDays(1), START.plusDays(1).plusHours(2));
+        second.setCategory("Work");
+        events.add(second);
+        RecurringEvent weekly = new RecurringEvent(3, prefix + " 3", "", START, START.plusMinutes(30), "WEEKLY", 1, 4);
+        weekly.setReminder(new Reminder(prefix.equals("New") ? 20 : 10));
+        events.add(weekly);
+        return events;
+    }
+
+    private static boolean save(List<MainEvent> events, Path[] files, Path manifest) {
+        return AtomicCSVSaver.save(events, files[0], files[1], files[2], files[3], manifest);
+    }
+
+    private static Path[] paths(Path directory) {
+        Path[] files = new Path[NAMES.length];
+        for (int i = 0; i < NAMES.length; i++) {
+            files[i] = directory.resolve(NAMES[i]);
+        }
+        return files;
+    }
+
+    private static Properties readProperties(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        return properties;
+    }
+
+    private static void writeProperties(Path file, Properties properties) throws IOException {
+        try (OutputStream out = Files.newOutputStream(file)) {
+            properties.store(out, null);
+        }
+    }
+}
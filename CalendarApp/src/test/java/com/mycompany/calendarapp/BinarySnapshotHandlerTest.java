@@ -0,0 +1,93 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for BinarySnapshotHandler: a saved snapshot loads back into the same
+ * events, in the same order, and a damaged one is rejected without adding any.
+ */
+class BinarySnapshotHandlerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 6, 1, 8, 30, 15);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void roundTripKeepsEveryField() {
+        EventManager manager = new EventManager();
+        MainEvent plain = new MainEvent(3, "Plain, \"quoted\"", "Zürich\nsecond line", START, START.plusHours(2));
+        plain.setLocation("Room 1");
+        plain.setCategory("Work");
+        plain.setPriority("HIGH");
+        manager.addEvent(plain);
+        RecurringEvent weekly = new RecurringEvent(1, "Weekly", null, START.plusDays(1), START.plusDays(1).plusHours(1),
+                                                   "WEEKLY", 2, 6);
+        weekly.setReminder(new Reminder(30));
+        weekly.setCategory("Work");
+        manager.addEvent(weekly);
+        RecurringEvent untilDate = new RecurringEvent(7, "Until", "", START, START.plusMinutes(45), "DAILY", 1,
+                                                      LocalDate.of(2025, 6, 20));
+        manager.addEvent(untilDate);
+        manager.setNextEventId(12);
+
+        Path file = dir.resolve("events.bin");
+        assertTrue(BinarySnapshotHandler.save(manager, file));
+        EventManager loaded = new EventManager();
+        assertTrue(BinarySnapshotHandler.load(loaded, file));
+
+        List<MainEvent> events = loaded.getAllEvents();
+        assertEquals(3, events.size());
+        assertEquals(12, loaded.getNextEventId());
+        assertEquals(List.of(3, 1, 7), List.of(events.get(0).getEventId(), events.get(1).getEventId(),
+                                               events.get(2).getEventId()));
+
+        MainEvent first = events.get(0);
+        assertEquals(plain.getTitle(), first.getTitle());
+        assertEquals(plain.getDescription(), first.getDescription());
+        assertEquals(START, first.getStartDateTime());
+        assertEquals("Room 1", first.getLocation());
+        assertEquals("HIGH", first.getPriority());
+        assertNull(first.getReminder());
+
+        RecurringEvent second = (RecurringEvent) events.get(1);
+        assertNull(second.getDescription());
+        assertEquals("WEEKLY", second.getRecurrenceType());
+        assertEquals(2, second.getInterval());
+        assertEquals(6, second.getOccurrences());
+        assertEquals(30, second.getReminder().getMinutesBefore());
+
+        RecurringEvent third = (RecurringEvent) events.get(2);
+        assertEquals(LocalDate.of(2025, 6, 20), third.getRecurrenceEndDate());
+        assertEquals(untilDate.generateOccurrences().size(), third.generateOccurrences().size());
+    }
+
+    @Test
+    void truncatedSnapshotAddsNothing() throws IOException {
+        EventManager manager = new EventManager();
+        for (int id = 1; id <= 20; id++) {
+            manager.addEvent(new MainEvent(id, "Event " + id, "", START.plusHours(id), START.plusHours(id + 1)));
+        }
+        Path file = dir.resolve("events.bin");
+        assertTrue(BinarySnapshotHandler.save(manager, file));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        EventManager loaded = new EventManager();
+        assertFalse(BinarySnapshotHandler.load(loaded, file));
+        assertEquals(0, loaded.getAllEvents().size());
+    }
+}
@@ -0,0 +1,138 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for EventBitmapIndex: its answers must match a scan of the events while
+ * they are added, edited and deleted.
+ */
+class EventBitmapIndexTest {
+
+    private static final String[] CATEGORIES = {"Work", "Personal", "Study", null};
+    private static final String[] PRIORITIES = {"HIGH", "MEDIUM", "LOW", null};
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    void matchingFollowsAddsEditsAndDeletes() {
+        Random random = new Random(11);
+        EventManager manager = new EventManager();
+        EventBitmapIndex index = manager.getBitmapIndex();
+
+        for (int step = 0; step < 3000; step++) {
+            List<MainEvent> events = manager.getAllEvents();
+            int action = random.nextInt(10);
+            if (action < 6 || events.isEmpty()) {
+                MainEvent event = newEvent(manager.generateEventId(), random);
+                manager.addEvent(event);
+            } else if (action < 9) {
+                MainEvent event = events.get(random.nextInt(events.size()));
+                randomize(event, random);
+                manager.updateEvent(event);
+            } else {
+                manager.deleteEvent(events.get(random.nextInt(events.size())).getEventId());
+            }
+
+            if (step % 100 == 0) {
+                assertMatchesScan(manager, index);
+            }
+        }
+        assertMatchesScan(manager, index);
+    }
+
+    @Test
+    void noFilterGivesNull() {
+        EventManager manager = new EventManager();
+        assertNull(manager.getBitmapIndex().matching(null, null, false));
+    }
+
+    @Test
+    void sharedIdKeepsTheOtherEventsBits() {
+        EventManager manager = new EventManager();
+        MainEvent work = new MainEvent(7, "A", "", START, START.plusHours(1));
+        work.setCategory("Work");
+        MainEvent study = new MainEvent(7, "B", "", START, START.plusHours(1));
+        study.setCategory("Study");
+        manager.addEvent(work);
+        manager.addEvent(study);
+        EventBitmapIndex index = manager.getBitmapIndex();
+        assertTrue(index.hasSharedIds());
+
+        manager.deleteEvent(7);  // Removes the first event with that ID
+        assertFalse(index.hasSharedIds());
+        assertArrayEquals(new int[0], index.matching("Work", null, false).toArray());
+        assertArrayEquals(new int[] {7}, index.matching("Study", null, false).toArray());
+    }
+
+    @Test
+    void emptyResultIsNotALiveBitmap() {
+        EventManager manager = new EventManager();
+        MainEvent work = new MainEvent(1, "A", "", START, START.plusHours(1));
+        work.setCategory("Work");
+        manager.addEvent(work);
+        EventBitmapIndex index = manager.getBitmapIndex();
+
+        RoaringBitmap none = index.matching("Work", null, true);  // No reminders yet, so that bitmap is smallest
+        assertTrue(none.isEmpty());
+        work.setReminder(new Reminder(10));
+        manager.updateEvent(work);
+        assertTrue(none.isEmpty());  // The earlier answer does not follow the index
+        assertArrayEquals(new int[] {1}, index.matching("Work", null, true).toArray());
+    }
+
+    @Test
+    void clearEmptiesEveryBitmap() {
+        EventManager manager = new EventManager();
+        Random random = new Random(3);
+        for (int i = 0; i < 100; i++) manager.addEvent(newEvent(manager.generateEventId(), random));
+        EventBitmapIndex index = manager.getBitmapIndex();
+
+        manager.clear();
+        assertEquals(0, index.size());
+        assertEquals(0, index.countWithReminder());
+        for (String category : CATEGORIES) {
+            if (category != null) assertEquals(0, index.countCategory(category));
+        }
+    }
+
+    private static void assertMatchesScan(EventManager manager, EventBitmapIndex index) {
+        for (String category : CATEGORIES) {
+            for (String priority : PRIORITIES) {
+                for (boolean remindersOnly : new boolean[] {false, true}) {
+                    if (category == null && priority == null && !remindersOnly) continue;
+                    TreeSet<Integer> expected = new TreeSet<>();
+                    for (MainEvent event : manager.getAllEvents()) {
+                        if (category != null && !category.equals(event.getCategory())) continue;
+                        if (priority != null && !priority.equals(event.getPriority())) continue;
+                        if (remindersOnly && event.getReminder() == null) continue;
+                        expected.add(event.getEventId());
+                    }
+                    int[] actual = index.matching(category, priority, remindersOnly).toArray();
+                    assertArrayEquals(expected.stream().mapToInt(Integer::intValue).toArray(), actual,
+                        category + "/" + priority + "/" + remindersOnly);
+                }
+            }
+        }
+    }
+
+    private static MainEvent newEvent(int id, Random random) {
+        MainEvent event = new MainEvent(id, "Event " + id, "", START.plusHours(id), START.plusHours(id + 1));
+        randomize(event, random);
+        return event;
+    }
+
+    private static void randomize(MainEvent event, Random random) {
+        event.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        event.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+        event.setReminder(random.nextBoolean() ? new Reminder(15) : null);
+    }
+}
@@ -0,0 +1,96 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for EventIdMap: puts, removes and lookups must agree with a HashMap,
+ * including removals inside collision runs that wrap around the table end and
+ * lookups after the table grows.
+ */
+class EventIdMapTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    void randomOperationsMatchAHashMap() {
+        Random random = new Random(13);
+        EventIdMap map = new EventIdMap();
+        Map<Integer, MainEvent> expected = new HashMap<>();
+        for (int i = 0; i < 200_000; i++) {
+            int id = random.nextInt(5000) - 1000;  // Negative IDs too
+            int action = random.nextInt(3);
+            if (action == 0) {
+                MainEvent event = event(id);
+                assertSame(expected.put(id, event), map.put(id, event));
+            } else if (action == 1) {
+                assertSame(expected.remove(id), map.remove(id));
+            } else {
+                assertSame(expected.get(id), map.get(id));
+            }
+        }
+        assertEquals(expected.size(), map.size());
+        for (int id = -1000; id < 4000; id++) {
+            assertSame(expected.get(id), map.get(id));
+        }
+    }
+
+    @Test
+    void removalsInASmallTableKeepEveryOtherKeyReachable() {
+        // Under eight entries the table stays at 16 slots, so collision runs are
+        // common and often wrap from the last slot to the first
+        Random random = new Random(29);
+        EventIdMap map = new EventIdMap();
+        Map<Integer, MainEvent> expected = new HashMap<>();
+        for (int i = 0; i < 50_000; i++) {
+            int id = random.nextInt(64);
+            if (expected.size() < 7 && random.nextBoolean()) {
+                MainEvent event = event(id);
+                assertSame(expected.put(id, event), map.put(id, event));
+            } else {
+                assertSame(expected.remove(id), map.remove(id));
+            }
+            for (Map.Entry<Integer, MainEvent> entry : expected.entrySet()) {
+                assertSame(entry.getValue(), map.get(entry.getKey()));
+            }
+            assertEquals(expected.size(), map.size());
+        }
+    }
+
+    @Test
+    void growKeepsEveryEntry() {
+        EventIdMap map = new EventIdMap();
+        for (int id = 0; id < 10_000; id++) {
+            map.put(id * 16, event(id * 16));  // IDs that share low bits
+        }
+        assertEquals(10_000, map.size());
+        for (int id = 0; id < 10_000; id++) {
+            assertEquals(id * 16, map.get(id * 16).getEventId());
+            assertNull(map.get(id * 16 + 1));
+        }
+    }
+
+    @Test
+    void clearEmptiesTheMap() {
+        EventIdMap map = new EventIdMap();
+        for (int id = 1; id <= 100; id++) map.put(id, event(id));
+
+        map.clear();
+        assertEquals(0, map.size());
+        assertNull(map.get(50));
+        map.put(50, event(50));
+        assertEquals(1, map.size());
+        assertEquals(50, map.get(50).getEventId());
+    }
+
+    private static MainEvent event(int id) {
+        return new MainEvent(id, "Event " + id, "", START, START.plusHours(1));
+    }
+}
@@ -0,0 +1,128 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for EventIntervalIndex: overlap queries on the treap must return exactly
+ * the events a scan of every span finds, ordered by span start, while events are
+ * added, moved and removed.
+ */
+class EventIntervalIndexTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Test
+    void overlapQueriesMatchABruteForceScan() {
+        Random random = new Random(21);
+        EventIntervalIndex index = new EventIntervalIndex();
+        List<MainEvent> events = new ArrayList<>();
+        int nextId = 1;
+
+        for (int step = 0; step < 4000; step++) {
+            int action = random.nextInt(10);
+            if (action < 5 || events.isEmpty()) {
+                MainEvent event = newEvent(nextId++, random);
+                events.add(event);
+                index.add(event);
+            } else if (action < 8) {
+                MainEvent event = events.get(random.nextInt(events.size()));
+                LocalDateTime start = START.plusHours(random.nextInt(24 * 365));
+                event.setStartDateTime(start);
+                event.setEndDateTime(start.plusMinutes(random.nextInt(600) - 60));  // Some end before they start
+                index.update(event);
+            } else {
+                MainEvent event = events.remove(random.nextInt(events.size()));
+                assertTrue(index.remove(event));
+                assertFalse(index.remove(event));
+            }
+
+            if (step % 50 == 0) {
+                assertEquals(events.size(), index.size());
+                for (int query = 0; query < 20; query++) {
+                    LocalDateTime from = START.plusHours(random.nextInt(24 * 400) - 24 * 10);
+                    LocalDateTime to = from.plusHours(random.nextInt(24 * 14));
+                    assertSameEvents(scan(events, from, to), index.candidates(from, to));
+                }
+            }
+        }
+    }
+
+    @Test
+    void recurringEventCoversItsWholeSpan() {
+        EventIntervalIndex index = new EventIntervalIndex();
+        RecurringEvent weekly = new RecurringEvent(1, "Weekly", "", START, START.plusHours(1), "WEEKLY", 1, 4);
+        index.add(weekly);
+
+        // Between occurrences, but inside the span: still a candidate
+        assertEquals(List.of(weekly), index.candidates(START.plusDays(10), START.plusDays(11)));
+        // After the last occurrence ends: not a candidate
+        assertTrue(index.candidates(START.plusDays(21).plusHours(2), START.plusDays(30)).isEmpty());
+    }
+
+    @Test
+    void windowEndsAreInclusive() {
+        EventIntervalIndex index = new EventIntervalIndex();
+        MainEvent event = new MainEvent(1, "A", "", START.plusHours(5), START.plusHours(6));
+        index.add(event);
+
+        assertEquals(List.of(event), index.candidates(START, START.plusHours(5)));
+        assertEquals(List.of(event), index.candidates(START.plusHours(6), START.plusHours(7)));
+        assertTrue(index.candidates(START.plusHours(6).plusSeconds(1), START.plusHours(7)).isEmpty());
+    }
+
+    private static MainEvent newEvent(int id, Random random) {
+        LocalDateTime start = START.plusHours(random.nextInt(24 * 365));
+        LocalDateTime end = start.plusMinutes(random.nextInt(600));
+        if (random.nextInt(5) == 0) {
+            return new RecurringEvent(id, "R" + id, "", start, end, "DAILY", 1 + random.nextInt(3), 1 + random.nextInt(10));
+        }
+        return new MainEvent(id, "E" + id, "", start, end);
+    }
+
+    /**
+     * Every event whose span [start, end of last occurrence] touches [from, to],
+     * ordered by span start (ties in the order they were added)
+     */
+    private static List<MainEvent> scan(List<MainEvent> events, LocalDateTime from, LocalDateTime to) {
+        long fromKey = MainEvent.toEpochSecond(from);
+        long toKey = MainEvent.toEpochSecond(to);
+        List<MainEvent> result = new ArrayList<>();
+        for (MainEvent event : events) {
+            long low = event.getStartEpochSecond();
+            long high = low;
+            for (MainEvent occurrence : occurrencesOf(event)) {
+                high = Math.max(high, occurrence.getEndEpochSecond());
+            }
+            if (low <= toKey && high >= fromKey) result.add(event);
+        }
+        return result;
+    }
+
+    private static List<MainEvent> occurrencesOf(MainEvent event) {
+        if (event instanceof RecurringEvent) return ((RecurringEvent) event).generateOccurrences();
+        return Collections.singletonList(event);
+    }
+
+    private static void assertSameEvents(List<MainEvent> expected, List<MainEvent> actual) {
+        assertEquals(expected.size(), actual.size());
+        Map<MainEvent, Boolean> seen = new IdentityHashMap<>();
+        for (MainEvent event : expected) seen.put(event, Boolean.TRUE);
+        long previousStart = Long.MIN_VALUE;
+        for (MainEvent event : actual) {
+            assertTrue(seen.containsKey(event), "unexpected event " + event.getEventId());
+            assertTrue(event.getStartEpochSecond() >= previousStart, "not ordered by start");
+            previousStart = event.getStartEpochSecond();
+        }
+    }
+}
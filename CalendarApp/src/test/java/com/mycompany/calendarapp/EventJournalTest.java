@@ -0,0 +1,145 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for EventJournal: a journal replays every intact record into a fresh
+ * manager, a record torn at the end of the file is skipped without losing the
+ * ones before it, and records queued for the writer thread are on disk after
+ * flush() and survive discarding an earlier checkpoint.
+ */
+class EventJournalTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 1, 9, 0);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void replayRestoresEveryChange() {
+        Path file = dir.resolve("journal.log");
+        writeChanges(file);
+
+        EventManager manager = new EventManager();
+        EventJournal journal = EventJournal.open(manager, file);
+        journal.close();
+
+        assertEquals(5, journal.getRecordCount());  // Nothing was torn, so nothing was compacted
+        assertReplayed(manager);
+        assertEquals("Moved", manager.findEventById(2).getTitle());
+        assertEquals(5, manager.getNextEventId());
+    }
+
+    @Test
+    void replaySkipsATruncatedLastRecord() throws IOException {
+        Path file = dir.resolve("journal.log");
+        writeChanges(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 6);  // Cut the last UPDATE short, as a crash would
+        }
+
+        EventManager manager = new EventManager();
+        EventJournal journal = EventJournal.open(manager, file);
+
+        assertReplayed(manager);
+        assertEquals("Second", manager.findEventById(2).getTitle());  // The torn UPDATE is ignored
+        assertEquals("with, a comma", manager.findEventById(2).getDescription());
+        assertEquals(0, journal.getRecordCount());  // Compacted to drop the torn tail
+        assertEquals(0, Files.size(file));
+
+        // New records start on a clean file and replay on their own
+        manager.addEvent(new MainEvent(9, "After", "", START, START.plusHours(1)));
+        journal.close();
+        EventManager reopened = new EventManager();
+        EventJournal.open(reopened, file).close();
+        assertEquals(1, reopened.getAllEvents().size());
+        assertEquals("After", reopened.findEventById(9).getTitle());
+    }
+
+    @Test
+    void flushWaitsUntilQueuedRecordsAreOnDisk() throws IOException {
+        Path file = dir.resolve("journal.log");
+        EventManager manager = new EventManager();
+        EventJournal journal = EventJournal.open(manager, file);
+        journal.setAutoCompact(false);
+        for (int id = 1; id <= 200; id++) {
+            manager.addEvent(new MainEvent(id, "Event " + id, "", START.plusHours(id), START.plusHours(id + 1)));
+        }
+        assertTrue(journal.flush());
+
+        // Replay a copy while the journal is still open
+        Path copy = Files.copy(file, dir.resolve("copy.log"));
+        EventManager replayed = new EventManager();
+        EventJournal.open(replayed, copy).close();
+        assertEquals(200, replayed.getAllEvents().size());
+        journal.close();
+    }
+
+    @Test
+    void discardKeepsRecordsAfterTheCheckpoint() {
+        Path file = dir.resolve("journal.log");
+        EventManager manager = new EventManager();
+        EventJournal journal = EventJournal.open(manager, file);
+        journal.setAutoCompact(false);
+        for (int id = 1; id <= 50; id++) {
+            manager.addEvent(new MainEvent(id, "Event " + id, "", START.plusHours(id), START.plusHours(id + 1)));
+        }
+        long mark = journal.checkpoint();  // Taken while records may still be queued
+        for (int id = 51; id <= 60; id++) {
+            manager.addEvent(new MainEvent(id, "Event " + id, "", START.plusHours(id), START.plusHours(id + 1)));
+        }
+        journal.discardUpTo(mark);
+        journal.close();
+
+        EventManager reopened = new EventManager();
+        EventJournal.open(reopened, file).close();
+        assertEquals(10, reopened.getAllEvents().size());
+        assertNull(reopened.findEventById(50));
+        assertNotNull(reopened.findEventById(51));
+        assertNotNull(reopened.findEventById(60));
+    }
+
+    /**
+     * Journal an ADD of events 1, 2 and 4 (4 is weekly with a reminder), a DELETE of
+     * event 1 and an UPDATE of event 2 as the last record
+     */
+    private static void writeChanges(Path file) {
+        EventManager manager = new EventManager();
+        EventJournal journal = EventJournal.open(manager, file);
+        journal.setAutoCompact(false);
+
+        manager.addEvent(new MainEvent(1, "First", "", START, START.plusHours(1)));
+        MainEvent second = new MainEvent(2, "Second", "with, a comma", START.plusDays(1), START.plusDays(1).plusHours(2));
+        manager.addEvent(second);
+        RecurringEvent weekly = new RecurringEvent(4, "Weekly", "", START, START.plusMinutes(30), "WEEKLY", 1, 5);
+        weekly.setReminder(new Reminder(15));
+        manager.addEvent(weekly);
+        manager.deleteEvent(1);
+        second.setTitle("Moved");
+        second.setStartDateTime(START.plusDays(2));
+        second.setEndDateTime(START.plusDays(2).plusHours(2));
+        manager.updateEvent(second);
+        journal.close();
+    }
+
+    private static void assertReplayed(EventManager manager) {
+        assertEquals(2, manager.getAllEvents().size());
+        assertNull(manager.findEventById(1));
+        MainEvent weekly = manager.findEventById(4);
+        assertNotNull(weekly);
+        assertEquals(5, ((RecurringEvent) weekly).generateOccurrences().size());
+        assertEquals(15, weekly.getReminder().getMinutesBefore());
+    }
+}
@@ -0,0 +1,71 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for EventManager's lookups by ID: finding and deleting must behave like
+ * a scan of the event list from the front, including when events share an ID.
+ */
+class EventManagerTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    @Test
+    void findAndDeleteMatchAListScan() {
+        Random random = new Random(17);
+        EventManager manager = new EventManager();
+        List<MainEvent> expected = new ArrayList<>();
+        for (int step = 0; step < 20_000; step++) {
+            int id = random.nextInt(200);  // Small range, so many IDs are shared
+            if (random.nextInt(3) != 0) {
+                MainEvent event = new MainEvent(id, "Event " + step, "", START.plusHours(step), START.plusHours(step + 1));
+                expected.add(event);
+                manager.addEvent(event);
+            } else {
+                MainEvent first = firstWithId(expected, id);
+                if (first != null) expected.remove(first);
+                assertEquals(first != null, manager.deleteEvent(id));
+            }
+            int probe = random.nextInt(200);
+            assertSame(firstWithId(expected, probe), manager.findEventById(probe));
+        }
+        assertEquals(expected, manager.getAllEvents());
+    }
+
+    @Test
+    void sharedIdIsDeletedOneEventAtATime() {
+        EventManager manager = new EventManager();
+        MainEvent a = new MainEvent(5, "A", "", START, START.plusHours(1));
+        MainEvent b = new MainEvent(5, "B", "", START, START.plusHours(1));
+        MainEvent c = new MainEvent(5, "C", "", START, START.plusHours(1));
+        manager.addEvent(a);
+        manager.addEvent(b);
+        manager.addEvent(c);
+
+        assertSame(a, manager.findEventById(5));
+        manager.deleteEvent(5);
+        assertSame(b, manager.findEventById(5));
+        manager.deleteEvent(5);
+        assertSame(c, manager.findEventById(5));
+        manager.deleteEvent(5);
+        assertNull(manager.findEventById(5));
+        assertFalse(manager.deleteEvent(5));
+        assertEquals(0, manager.getAllEvents().size());
+    }
+
+    private static MainEvent firstWithId(List<MainEvent> events, int id) {
+        for (MainEvent event : events) {
+            if (event.getEventId() == id) return event;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,112 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the statistics: the fork/join pass must give exactly the sequential
+ * result (including month order and the first of equally long events), and
+ * LiveStatistics must match a full recount while events are added, edited and
+ * deleted.
+ */
+class EventStatisticsTest {
+
+    private static final LocalDateTime START = LocalDateTime.of(2024, 11, 1, 0, 0);
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 3, 15, 12, 30);
+
+    @Test
+    void parallelMatchesSequential() {
+        Random random = new Random(19);
+        EventManager manager = new EventManager();
+        for (int i = 0; i < 2000; i++) {
+            manager.addEvent(newEvent(manager.generateEventId(), random));
+        }
+        EventColumns columns = EventColumns.of(manager);
+
+        StatisticsSnapshot sequential = EventStatistics.computeStatisticsSequential(columns, NOW);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunk : new int[] {1, 7, 64, 1000}) {  // Far below PARALLEL_CHUNK, so many merges
+                StatisticsSnapshot parallel = EventStatistics.computeStatisticsParallel(columns, NOW, pool, chunk);
+                assertSameFigures(sequential, parallel);
+                assertEquals(new ArrayList<>(sequential.getEventsByMonth().keySet()),
+                             new ArrayList<>(parallel.getEventsByMonth().keySet()));  // First-seen order
+                assertSame(sequential.getLongestEvent(), parallel.getLongestEvent());  // First of the ties
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void liveStatisticsMatchRecount() {
+        Random random = new Random(20);
+        EventManager manager = new EventManager();
+        LiveStatistics live = EventStatistics.subscribe(manager);
+
+        for (int step = 0; step < 1500; step++) {
+            List<MainEvent> events = manager.getAllEvents();
+            int action = random.nextInt(10);
+            if (action < 6 || events.isEmpty()) {
+                manager.addEvent(newEvent(manager.generateEventId(), random));
+            } else if (action < 8) {
+                MainEvent event = events.get(random.nextInt(events.size()));
+                LocalDateTime start = START.plusHours(random.nextInt(24 * 240));
+                event.setStartDateTime(start);
+                event.setEndDateTime(start.plusMinutes(30 * (1 + random.nextInt(6))));
+                event.setReminder(random.nextBoolean() ? new Reminder(15) : null);
+                manager.updateEvent(event);
+            } else {
+                manager.deleteEvent(events.get(random.nextInt(events.size())).getEventId());
+            }
+
+            if (step % 50 == 0) {
+                LocalDateTime now = NOW.plusHours(random.nextInt(24 * 60) - 24 * 30);  // Boundary moves both ways
+                StatisticsSnapshot expected = EventStatistics.computeStatisticsSequential(EventColumns.of(manager), now);
+                StatisticsSnapshot actual = live.getSnapshot(now);
+                assertSameFigures(expected, actual);  // Month order and longest-event ties differ by design
+            }
+        }
+        live.close();
+    }
+
+    private static void assertSameFigures(StatisticsSnapshot expected, StatisticsSnapshot actual) {
+        assertEquals(expected.getTotalEvents(), actual.getTotalEvents());
+        assertEquals(expected.getUpcomingEvents(), actual.getUpcomingEvents());
+        assertEquals(expected.getPastEvents(), actual.getPastEvents());
+        assertEquals(expected.getRecurringEvents(), actual.getRecurringEvents());
+        assertEquals(expected.getEventsWithReminders(), actual.getEventsWithReminders());
+        for (DayOfWeek day : DayOfWeek.values()) {
+            assertEquals(expected.getEventCount(day), actual.getEventCount(day));
+        }
+        for (int hour = 0; hour < 24; hour++) {
+            assertEquals(expected.getEventCount(hour), actual.getEventCount(hour));
+        }
+        assertEquals(expected.getEventsByMonth(), actual.getEventsByMonth());  // Same counts, in any order
+        assertEquals(expected.getAverageEventsPerWeek(), actual.getAverageEventsPerWeek(), 1e-9);
+        assertEquals(expected.getAverageEventDuration(), actual.getAverageEventDuration(), 1e-9);
+        assertEquals(expected.getLongestEventMinutes(), actual.getLongestEventMinutes());
+    }
+
+    /**
+     * A normal or weekly event at a random time; durations are whole half hours,
+     * so many events are equally long
+     */
+    private static MainEvent newEvent(int id, Random random) {
+        LocalDateTime start = START.plusHours(random.nextInt(24 * 240));
+        LocalDateTime end = start.plusMinutes(30 * (1 + random.nextInt(6)));
+        MainEvent event = random.nextInt(5) == 0
+            ? new RecurringEvent(id, "Series " + id, "", start, end, "WEEKLY", 1, 1 + random.nextInt(8))
+            : new MainEvent(id, "Event " + id, "", start, end);
+        if (random.nextInt(3) == 0) event.setReminder(new Reminder(15));
+        return event;
+    }
+}
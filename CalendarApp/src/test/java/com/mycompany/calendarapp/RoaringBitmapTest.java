@@ -0,0 +1,154 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for RoaringBitmap: container conversion at the array limit and AND/OR
+ * across several chunks, checked against a TreeSet.
+ */
+class RoaringBitmapTest {
+
+    @Test
+    void arrayContainerTurnsIntoBitmapAfter4096Values() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i < 4096; i++) {
+            bitmap.add(i * 3);
+        }
+        assertEquals(0, bitmap.bitmapContainers());
+
+        assertTrue(bitmap.add(1));
+        assertEquals(1, bitmap.bitmapContainers());
+        assertEquals(4097, bitmap.cardinality());
+        assertTrue(bitmap.contains(1));
+        assertTrue(bitmap.contains(3 * 4095));
+        assertFalse(bitmap.contains(2));
+    }
+
+    @Test
+    void bitmapContainerTurnsBackIntoArrayAtHalfTheLimit() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        for (int i = 0; i <= 4096; i++) {
+            bitmap.add(i);
+        }
+        assertEquals(1, bitmap.bitmapContainers());
+
+        for (int i = 4096; i > 2048; i--) {
+            assertTrue(bitmap.remove(i));
+        }
+        assertEquals(2049, bitmap.cardinality());
+        assertEquals(1, bitmap.bitmapContainers());  // Not converted right below the limit
+
+        assertTrue(bitmap.remove(2048));
+        assertEquals(0, bitmap.bitmapContainers());
+        int[] expected = new int[2048];
+        for (int i = 0; i < expected.length; i++) expected[i] = i;
+        assertArrayEquals(expected, bitmap.toArray());
+    }
+
+    @Test
+    void toArrayIsInIntOrderIncludingNegativeValues() {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        int[] values = {70000, -5, 0, Integer.MIN_VALUE, 65535, Integer.MAX_VALUE, -70000, 65536};
+        for (int value : values) bitmap.add(value);
+
+        assertArrayEquals(new int[] {Integer.MIN_VALUE, -70000, -5, 0, 65535, 65536, 70000, Integer.MAX_VALUE},
+            bitmap.toArray());
+    }
+
+    @Test
+    void andAndOrAcrossChunksMatchSets() {
+        Random random = new Random(42);
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Integer> setA = new TreeSet<>();
+            TreeSet<Integer> setB = new TreeSet<>();
+            RoaringBitmap a = fill(random, setA);
+            RoaringBitmap b = fill(random, setB);
+
+            TreeSet<Integer> both = new TreeSet<>(setA);
+            both.retainAll(setB);
+            TreeSet<Integer> either = new TreeSet<>(setA);
+            either.addAll(setB);
+
+            assertArrayEquals(toArray(both), RoaringBitmap.and(a, b).toArray());
+            assertArrayEquals(toArray(either), RoaringBitmap.or(a, b).toArray());
+            assertEquals(both.size(), RoaringBitmap.and(a, b).cardinality());
+            assertEquals(either.size(), RoaringBitmap.or(a, b).cardinality());
+        }
+    }
+
+    @Test
+    void andOfTwoBitmapContainersWithFewCommonValuesIsAnArray() {
+        RoaringBitmap evens = new RoaringBitmap();
+        RoaringBitmap odds = new RoaringBitmap();
+        for (int i = 0; i < 20000; i += 2) evens.add(i);
+        for (int i = 1; i < 20000; i += 2) odds.add(i);
+        odds.add(100);
+        assertEquals(1, evens.bitmapContainers());
+        assertEquals(1, odds.bitmapContainers());
+
+        RoaringBitmap both = RoaringBitmap.and(evens, odds);
+        assertArrayEquals(new int[] {100}, both.toArray());
+        assertEquals(0, both.bitmapContainers());
+
+        RoaringBitmap either = RoaringBitmap.or(evens, odds);
+        assertEquals(20000, either.cardinality());
+        assertEquals(1, either.bitmapContainers());
+    }
+
+    @Test
+    void randomAddsAndRemovesMatchASet() {
+        Random random = new Random(7);
+        RoaringBitmap bitmap = new RoaringBitmap();
+        TreeSet<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 200_000; i++) {
+            int value = random.nextInt(3 * 65536) - 65536;  // Three chunks, one of them negative
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), bitmap.remove(value));
+            } else {
+                assertEquals(expected.add(value), bitmap.add(value));
+            }
+        }
+        assertEquals(expected.size(), bitmap.cardinality());
+        assertArrayEquals(toArray(expected), bitmap.toArray());
+
+        RoaringBitmap copy = bitmap.copy();
+        copy.add(Integer.MAX_VALUE);
+        assertFalse(bitmap.contains(Integer.MAX_VALUE));
+    }
+
+    /**
+     * Fill a bitmap with a dense chunk, a sparse chunk and a negative chunk, so AND
+     * and OR meet bitmap/bitmap, bitmap/array and array/array containers
+     */
+    private static RoaringBitmap fill(Random random, TreeSet<Integer> set) {
+        RoaringBitmap bitmap = new RoaringBitmap();
+        int dense = 1000 + random.nextInt(8000);
+        for (int i = 0; i < dense; i++) {
+            int value = random.nextInt(65536);
+            set.add(value);
+            bitmap.add(value);
+        }
+        for (int i = 0; i < 300; i++) {
+            int value = 65536 + random.nextInt(65536);
+            set.add(value);
+            bitmap.add(value);
+        }
+        for (int i = 0; i < 50; i++) {
+            int value = -1 - random.nextInt(1000);
+            set.add(value);
+            bitmap.add(value);
+        }
+        return bitmap;
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}
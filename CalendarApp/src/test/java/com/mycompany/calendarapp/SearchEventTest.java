@@ -0,0 +1,94 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for SearchEvent's indexed title search: findByTitle must give what a
+ * "contains" check of every expanded occurrence gives, for queries that run
+ * into an occurrence's " (Occurrence N)" ending as well as ordinary ones.
+ */
+class SearchEventTest {
+
+    private static final String[] WORDS = {"Team", "Meeting", "Lunch", "Occurrence", "Plan", "(draft)", "Ce", "1"};
+    private static final String[] PIECES = {" (Occurrence ", "(occ", "ce 1", "nce 1)", "e (o", ") (O", " (", "2)",
+                                            "occurrence", "ence 1", "h (occurrence 3)", "t) (occ", "RENCE", "xyz"};
+    private static final LocalDateTime START = LocalDateTime.of(2025, 2, 1, 9, 0);
+
+    @Test
+    void findByTitleMatchesAScan() {
+        Random random = new Random(22);
+        EventManager manager = new EventManager();
+        for (int step = 0; step < 600; step++) {
+            List<MainEvent> events = manager.getAllEvents();
+            if (step % 5 == 4 && !events.isEmpty()) {
+                MainEvent event = events.get(random.nextInt(events.size()));
+                event.setTitle(randomTitle(random));  // The indexes must follow edits too
+                manager.updateEvent(event);
+            } else {
+                manager.addEvent(newEvent(manager.generateEventId(), random));
+            }
+        }
+
+        List<MainEvent> expanded = manager.getAllEventsExpanded();
+        for (int i = 0; i < 1500; i++) {
+            String query = randomQuery(random, expanded);
+            assertEquals(scan(expanded, query), SearchEvent.findByTitle(manager, query), "query '" + query + "'");
+        }
+    }
+
+    private static List<MainEvent> scan(List<MainEvent> expanded, String query) {
+        String text = query.toLowerCase(Locale.ROOT);
+        List<MainEvent> results = new ArrayList<>();
+        for (MainEvent event : expanded) {
+            if (event.getTitle().toLowerCase(Locale.ROOT).contains(text)) results.add(event);
+        }
+        results.sort(SearchEvent.BY_START);
+        return results;
+    }
+
+    /**
+     * A piece of a real (occurrence) title, a piece of an ending glued to a title
+     * fragment, or a fixed piece, in random case
+     */
+    private static String randomQuery(Random random, List<MainEvent> expanded) {
+        String query;
+        int kind = random.nextInt(3);
+        if (kind == 0) {
+            String title = expanded.get(random.nextInt(expanded.size())).getTitle();
+            int from = random.nextInt(title.length());
+            query = title.substring(from, from + 1 + random.nextInt(title.length() - from));
+        } else if (kind == 1) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            query = word.substring(random.nextInt(word.length())) + " (Occurrence " + (1 + random.nextInt(12));
+            query = query.substring(0, query.length() - random.nextInt(4));
+        } else {
+            query = PIECES[random.nextInt(PIECES.length)];
+        }
+        return random.nextBoolean() ? query.toUpperCase(Locale.ROOT) : query;
+    }
+
+    private static String randomTitle(Random random) {
+        int words = 1 + random.nextInt(3);
+        StringBuilder title = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) title.append(' ');
+            title.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return title.toString();
+    }
+
+    private static MainEvent newEvent(int id, Random random) {
+        LocalDateTime start = START.plusHours(random.nextInt(24 * 120));
+        LocalDateTime end = start.plusHours(1);
+        return random.nextInt(3) == 0
+            ? new RecurringEvent(id, randomTitle(random), "", start, end, "DAILY", 1, 1 + random.nextInt(14))
+            : new MainEvent(id, randomTitle(random), "", start, end);
+    }
+}
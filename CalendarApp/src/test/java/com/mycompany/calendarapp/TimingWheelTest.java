@@ -0,0 +1,126 @@
+package com.mycompany.calendarapp;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for TimingWheel: timers expire on their own tick and in deadline order,
+ * including those that cascade down from higher levels or wait in the overflow
+ * list, and cancelled timers never expire.
+ */
+class TimingWheelTest {
+
+    @Test
+    void expiresInDeadlineOrderAcrossLevelBoundaries() {
+        TimingWheel<Long> wheel = new TimingWheel<>(0);
+        // Deadlines on both sides of each level's rotation (64, 64^2, 64^3, ...)
+        long[] deadlines = {1, 63, 64, 65, 127, 128, 4095, 4096, 4097, 262143, 262144, 262145,
+                            16777216, 16777217, 5000, 300};
+        for (long deadline : deadlines) {
+            wheel.schedule(deadline, deadline);
+        }
+
+        List<long[]> expired = new ArrayList<>();  // {tick, value}
+        long end = 16777217;
+        long tick = 0;
+        while (tick < end) {
+            long target = Math.min(end, tick + 997);  // Advance in uneven steps
+            wheel.advanceTo(target, value -> expired.add(new long[] {wheel.getCurrentTick(), value}));
+            tick = target;
+        }
+
+        long[] sorted = deadlines.clone();
+        Arrays.sort(sorted);
+        assertEquals(sorted.length, expired.size());
+        for (int i = 0; i < sorted.length; i++) {
+            assertEquals(sorted[i], expired.get(i)[1]);
+            assertEquals(sorted[i], expired.get(i)[0], "expired on the wrong tick");
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void timersBeyondTheTopLevelWaitInTheOverflowList() {
+        long rotation = 1L << 36;  // 64^6 ticks, one rotation of the top level
+        long start = rotation - 10;
+        TimingWheel<String> wheel = new TimingWheel<>(start);
+        wheel.schedule(rotation + 70, "far");  // In the next top-level rotation
+        wheel.schedule(rotation - 1, "near");
+        wheel.schedule(rotation + 3, "after");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(rotation + 69, expired::add);
+        assertEquals(List.of("near", "after"), expired);
+        assertEquals(1, wheel.size());
+
+        wheel.advanceTo(rotation + 70, expired::add);
+        assertEquals(List.of("near", "after", "far"), expired);
+    }
+
+    @Test
+    void pastDeadlinesExpireOnTheNextTick() {
+        TimingWheel<String> wheel = new TimingWheel<>(100);
+        wheel.schedule(50, "late");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(101, expired::add);
+        assertEquals(List.of("late"), expired);
+    }
+
+    @Test
+    void cancelledTimersNeverExpire() {
+        Random random = new Random(5);
+        TimingWheel<Integer> wheel = new TimingWheel<>(0);
+        List<TimingWheel.Timer<Integer>> timers = new ArrayList<>();
+        for (int i = 0; i < 20000; i++) {
+            timers.add(wheel.schedule(1 + random.nextInt(300000), i));
+        }
+
+        Set<Integer> cancelled = new HashSet<>();
+        for (int i = 0; i < timers.size(); i += 3) {
+            assertTrue(wheel.cancel(timers.get(i)));
+            assertFalse(wheel.cancel(timers.get(i)));  // Second cancel does nothing
+            cancelled.add(i);
+        }
+        assertEquals(timers.size() - cancelled.size(), wheel.size());
+
+        List<Integer> expired = new ArrayList<>();
+        long previousDeadline = 0;
+        for (long tick = 0; tick < 300000; tick += 1000) {
+            wheel.advanceTo(tick + 1000, expired::add);
+        }
+        for (int value : expired) {
+            assertFalse(cancelled.contains(value));
+            long deadline = timers.get(value).getDeadline();
+            assertTrue(deadline >= previousDeadline, "out of order");
+            previousDeadline = deadline;
+        }
+        assertEquals(timers.size() - cancelled.size(), expired.size());
+        assertEquals(0, wheel.size());
+        assertFalse(wheel.cancel(timers.get(1)));  // Already expired
+    }
+
+    @Test
+    void cancelAfterCascadeStillUnlinks() {
+        TimingWheel<String> wheel = new TimingWheel<>(0);
+        TimingWheel.Timer<String> kept = wheel.schedule(5000, "kept");
+        TimingWheel.Timer<String> dropped = wheel.schedule(5000, "dropped");
+
+        List<String> expired = new ArrayList<>();
+        wheel.advanceTo(4999, expired::add);  // Both have cascaded to level 0 by now
+        assertTrue(wheel.cancel(dropped));
+        wheel.advanceTo(5000, expired::add);
+
+        assertEquals(List.of("kept"), expired);
+        assertFalse(wheel.cancel(kept));
+    }
+}